@@ -14,6 +14,8 @@
  * limitations under the License.
  */
 import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
@@ -21,9 +23,23 @@ import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.Deflater;
 
 /**
  * Generates the Source.java class containing the source code of the app.
+ * Alongside the raw text, it emits the syntax highlighted HTML of each source
+ * file so the application does not have to highlight it at runtime. Each
+ * source file is identified by the hash of its HTML contents.
+ *
+ * <p>
+ * The contents themselves are not stored in the class. They are written,
+ * compressed, to the Source.dat resource instead.
  */
 public final class SourceGen {
 
@@ -50,12 +66,27 @@ public final class SourceGen {
     Path targetFile;
     targetFile = main.resolve("demo", "landing", "app", "Source.java");
 
+    Path dataFile;
+    dataFile = Path.of("resources", "demo", "landing", "app", "Source.dat");
+
+    // sort the files so the generated output does not depend
+    // on the directory listing order
+    final List<Path> paths;
+    paths = new ArrayList<>();
+
+    try (DirectoryStream<Path> stream = Files.newDirectoryStream(source, "*.java")) {
+      for (Path path : stream) {
+        paths.add(path);
+      }
+    }
+
+    paths.sort((a, b) -> a.getFileName().toString().compareTo(b.getFileName().toString()));
+
     try (
         BufferedWriter w = Files.newBufferedWriter(
             targetFile, StandardCharsets.UTF_8,
             StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING
-        );
-        DirectoryStream<Path> stream = Files.newDirectoryStream(source, "*.java")
+        )
     ) {
 
       SourceWriter writer;
@@ -63,7 +94,7 @@ public final class SourceGen {
 
       writer.writeStart();
 
-      for (Path path : stream) {
+      for (Path path : paths) {
         Path fn;
         fn = path.getFileName();
 
@@ -84,6 +115,10 @@ public final class SourceGen {
 
       writer.writeEnd();
 
+      Files.createDirectories(dataFile.getParent());
+
+      writer.writeData(dataFile);
+
     }
   }
   
@@ -103,7 +138,19 @@ public final class SourceGen {
     final String java;
     java = Files.readString(path, StandardCharsets.UTF_8);
 
-    writer.writeJava(java);
+    final Highlighter highlighter;
+    highlighter = new Highlighter(java);
+
+    final List<String> html;
+    html = highlighter.highlight();
+
+    for (String line : html) {
+      w.write(line);
+
+      w.newLine();
+    }
+
+    w.write(writer.hash(html));
     
     w.flush();
     
@@ -114,6 +161,10 @@ public final class SourceGen {
 
     private final BufferedWriter w;
 
+    private final List<String> names = new ArrayList<>();
+
+    private final SourceData data = new SourceData();
+
     public SourceWriter(BufferedWriter w) {
       this.w = w;
     }
@@ -151,148 +202,462 @@ public final class SourceGen {
       final String className;
       className = fileName.substring(0, dot);
 
+      final String fieldName;
+      fieldName = className.equals("SourceModel") ? "SourceModel_" : className;
+
+      final Highlighter highlighter;
+      highlighter = new Highlighter(java);
+
+      final List<String> html;
+      html = highlighter.highlight();
+
+      final String hash;
+      hash = hash(html);
+
+      names.add(hash);
+
+      names.add(fieldName);
+
+      final int index;
+      index = data.add(java, String.join("", html));
+
       w.newLine();
 
       w.write("  static final SourceModel ");
 
-      w.write(className.equals("SourceModel") ? "SourceModel_" : className);
+      w.write(fieldName);
 
       w.write(" = SourceModel.create(\"");
 
       w.write(fileName);
 
-      w.write("\", \"\"\"");
+      w.write("\", \"");
 
-      w.newLine();
+      w.write(hash);
+
+      w.write("\", ");
+
+      w.write(Integer.toString(index));
 
-      writeJava(java);
+      w.write(");");
 
       w.newLine();
+    }
+
+    // the hash of the contents served to the browser.
+    // it changes whenever either the source or its highlighting changes
+    final String hash(List<String> html) {
+      try {
+        final MessageDigest digest;
+        digest = MessageDigest.getInstance("SHA-256");
+
+        for (String line : html) {
+          final byte[] bytes;
+          bytes = line.getBytes(StandardCharsets.UTF_8);
+
+          digest.update(bytes);
+        }
 
-      w.write("\"\"\");");
+        final byte[] result;
+        result = digest.digest();
 
+        final HexFormat hexFormat;
+        hexFormat = HexFormat.of();
+
+        // 64 bits are more than enough for ~40 files
+        return hexFormat.formatHex(result, 0, 8);
+      } catch (NoSuchAlgorithmException e) {
+        throw new IllegalStateException("SHA-256 not available", e);
+      }
+    }
+
+    final void writeEnd() throws IOException {
       w.newLine();
+
+      w.write("""
+        static SourceModel byHash(String hash) {
+          return switch (hash) {
+      """);
+
+      for (int idx = 0, size = names.size(); idx < size; idx += 2) {
+        w.write("      case \"");
+
+        w.write(names.get(idx));
+
+        w.write("\" -> ");
+
+        w.write(names.get(idx + 1));
+
+        w.write(";");
+
+        w.newLine();
+      }
+
+      w.write("""
+            default -> null;
+          };
+        }
+
+      }
+      """);
     }
-    
-    final void writeJava(String java) throws IOException {
-      enum Parser {
-        NORMAL,
 
-        QUOTE1,
-        QUOTE2,
+    final void writeData(Path file) throws IOException {
+      final byte[] bytes;
+      bytes = data.toByteArray();
+
+      Files.write(file, bytes);
+    }
+
+  }
+
+  /**
+   * The contents of the Source.dat resource. It starts with an index: a magic
+   * number, the number of entries and, for each entry, its offset, compressed
+   * length and uncompressed length. The index is followed by the deflated
+   * entries. Each source file has two consecutive entries: the raw Java
+   * source and its highlighted HTML.
+   */
+  private static final class SourceData {
+
+    static final int MAGIC = 0x53524331; // SRC1
+
+    private final List<byte[]> entries = new ArrayList<>();
+
+    private final List<Integer> sizes = new ArrayList<>();
+
+    final int add(String java, String html) {
+      final int index;
+      index = entries.size() / 2;
+
+      add(java);
+
+      add(html);
+
+      return index;
+    }
+
+    private void add(String s) {
+      final byte[] bytes;
+      bytes = s.getBytes(StandardCharsets.UTF_8);
+
+      final Deflater deflater;
+      deflater = new Deflater(Deflater.BEST_COMPRESSION);
+
+      deflater.setInput(bytes);
+
+      deflater.finish();
+
+      final ByteArrayOutputStream out;
+      out = new ByteArrayOutputStream();
+
+      final byte[] buffer;
+      buffer = new byte[8192];
+
+      while (!deflater.finished()) {
+        final int count;
+        count = deflater.deflate(buffer);
+
+        out.write(buffer, 0, count);
+      }
+
+      deflater.end();
+
+      entries.add(out.toByteArray());
+
+      sizes.add(bytes.length);
+    }
+
+    final byte[] toByteArray() throws IOException {
+      final int count;
+      count = entries.size();
+
+      final ByteArrayOutputStream bytes;
+      bytes = new ByteArrayOutputStream();
+
+      final DataOutputStream out;
+      out = new DataOutputStream(bytes);
+
+      out.writeInt(MAGIC);
+
+      out.writeInt(count);
+
+      // magic + count + (offset, length, size) per entry
+      int offset;
+      offset = 4 + 4 + count * 12;
+
+      for (int idx = 0; idx < count; idx++) {
+        final byte[] entry;
+        entry = entries.get(idx);
 
-        CHAR1,
+        out.writeInt(offset);
 
-        STRING;
+        out.writeInt(entry.length);
+
+        out.writeInt(sizes.get(idx));
+
+        offset += entry.length;
+      }
+
+      for (byte[] entry : entries) {
+        out.write(entry);
       }
 
-      Parser parser;
-      parser = Parser.NORMAL;
+      out.flush();
+
+      return bytes.toByteArray();
+    }
+
+  }
+
+  /**
+   * A minimal Java syntax highlighter. It emits one `span[data-line]` element
+   * per source line. Highlighted tokens are wrapped in a `span[data-high]`
+   * element.
+   */
+  private static final class Highlighter {
+
+    private static final byte NONE = 0;
+
+    private static final byte ANNOTATION = 1;
+
+    private static final byte COMMENT = 2;
+
+    private static final byte KEYWORD = 3;
+
+    private static final byte STRING = 4;
+
+    private static final String[] NAMES = {null, "annotation", "comment", "keyword", "string"};
+
+    private static final Set<String> KEYWORDS = Set.of(
+        "abstract", "assert", "boolean", "break", "byte", "case", "catch", "char", "class", "const",
+        "continue", "default", "do", "double", "else", "enum", "exports", "extends", "false", "final",
+        "finally", "float", "for", "goto", "if", "implements", "import", "instanceof", "int", "interface",
+        "long", "module", "native", "new", "non-sealed", "null", "package", "permits", "private", "protected",
+        "public", "record", "requires", "return", "sealed", "short", "static", "strictfp", "super", "switch",
+        "synchronized", "this", "throw", "throws", "transient", "transitive", "true", "try", "var", "void",
+        "volatile", "while", "yield"
+    );
+
+    private final String java;
+
+    private final byte[] styles;
+
+    Highlighter(String java) {
+      this.java = java;
+
+      styles = new byte[java.length()];
+    }
+
+    final List<String> highlight() {
+      tokenize();
+
+      final List<String> lines;
+      lines = new ArrayList<>();
+
+      final StringBuilder line;
+      line = new StringBuilder();
+
+      byte current;
+      current = NONE;
+
+      int number;
+      number = 1;
+
+      line.append("<span data-line=\"1\">");
 
       for (int idx = 0, len = java.length(); idx < len; idx++) {
         final char c;
         c = java.charAt(idx);
 
-        switch (parser) {
-          case NORMAL -> {
-            if (c == '"') {
-              parser = Parser.QUOTE1;
-            }
+        if (c == '\n') {
+          if (current != NONE) {
+            line.append("</span>");
 
-            else if (c == '\'') {
-              parser = Parser.CHAR1;
+            current = NONE;
+          }
 
-              w.write(c);
-            }
+          line.append("</span>");
 
-            else {
-              parser = Parser.NORMAL;
+          lines.add(line.toString());
 
-              w.write(c);
-            }
-          }
+          line.setLength(0);
 
-          case QUOTE1 -> {
-            if (c == '"') {
-              parser = Parser.QUOTE2;
-            }
+          number++;
 
-            else {
-              parser = Parser.STRING;
+          line.append("<span data-line=\"");
+          line.append(number);
+          line.append("\">");
 
-              idx--;
+          continue;
+        }
+
+        final byte style;
+        style = styles[idx];
+
+        if (style != current) {
+          if (current != NONE) {
+            line.append("</span>");
+          }
 
-              w.write('\"');
-            }
+          if (style != NONE) {
+            line.append("<span data-high=\"");
+            line.append(NAMES[style]);
+            line.append("\">");
           }
 
-          case QUOTE2 -> {
-            if (c == '"') {
-              parser = Parser.NORMAL;
+          current = style;
+        }
 
-              w.write("\\\"\"\"");
-            }
+        switch (c) {
+          case '&' -> line.append("&amp;");
 
-            else {
-              parser = Parser.NORMAL;
+          case '<' -> line.append("&lt;");
 
-              w.write('\"');
+          case '>' -> line.append("&gt;");
 
-              w.write('\"');
+          case '"' -> line.append("&quot;");
 
-              w.write(c);
-            }
-          }
-          
-          case CHAR1 -> {
-            if (c == '\\') {
-              parser = Parser.NORMAL;
+          case '\r' -> {}
+
+          default -> line.append(c);
+        }
+      }
 
-              w.write('\\');
+      if (current != NONE) {
+        line.append("</span>");
+      }
 
-              w.write('\\');
-            }
+      line.append("</span>");
 
-            else {
-              parser = Parser.NORMAL;
+      lines.add(line.toString());
 
-              w.write(c);
-            }
+      return lines;
+    }
+
+    private void tokenize() {
+      final int len;
+      len = java.length();
+
+      int idx;
+      idx = 0;
+
+      while (idx < len) {
+        final char c;
+        c = java.charAt(idx);
+
+        final int start;
+        start = idx;
+
+        if (c == '/' && idx + 1 < len && java.charAt(idx + 1) == '/') {
+          idx = java.indexOf('\n', idx);
+
+          if (idx < 0) {
+            idx = len;
           }
 
-          case STRING -> {
-            if (c == '"') {
-              parser = Parser.NORMAL;
+          mark(start, idx, COMMENT);
+        }
+
+        else if (c == '/' && idx + 1 < len && java.charAt(idx + 1) == '*') {
+          idx = java.indexOf("*/", idx + 2);
+
+          idx = idx < 0 ? len : idx + 2;
+
+          mark(start, idx, COMMENT);
+        }
+
+        else if (java.startsWith("\"\"\"", idx)) {
+          idx = quoted(idx + 3, "\"\"\"");
+
+          mark(start, idx, STRING);
+        }
 
-              w.write(c);
-            }
+        else if (c == '"') {
+          idx = quoted(idx + 1, "\"");
 
-            else if (c == '\\') {
-              parser = Parser.STRING;
+          mark(start, idx, STRING);
+        }
 
-              w.write('\\');
+        else if (c == '\'') {
+          idx = quoted(idx + 1, "'");
 
-              w.write('\\');
-            }
+          mark(start, idx, STRING);
+        }
 
-            else {
-              parser = Parser.STRING;
+        else if (c == '@' && idx + 1 < len && Character.isJavaIdentifierStart(java.charAt(idx + 1))) {
+          idx = identifier(idx + 1);
 
-              w.write(c);
-            }
+          while (idx + 1 < len && java.charAt(idx) == '.' && Character.isJavaIdentifierStart(java.charAt(idx + 1))) {
+            idx = identifier(idx + 1);
           }
+
+          mark(start, idx, ANNOTATION);
+        }
+
+        else if (Character.isJavaIdentifierStart(c)) {
+          idx = identifier(idx);
+
+          if (KEYWORDS.contains(java.substring(start, idx))) {
+            mark(start, idx, KEYWORD);
+          }
+        }
+
+        else if (Character.isDigit(c)) {
+          // numeric literals such as 0xFF or 150_000L
+          idx = identifier(idx);
+        }
+
+        else {
+          idx++;
         }
       }
+    }
+
+    private int identifier(int idx) {
+      final int len;
+      len = java.length();
 
-      if (parser != Parser.NORMAL) {
-        throw new IllegalStateException("parser=" + parser);
+      while (idx < len && Character.isJavaIdentifierPart(java.charAt(idx))) {
+        idx++;
       }
+
+      return idx;
     }
 
-    final void writeEnd() throws IOException {
-      w.write("""
+    private int quoted(int idx, String end) {
+      final int len;
+      len = java.length();
+
+      while (idx < len) {
+        final char c;
+        c = java.charAt(idx);
+
+        if (c == '\\') {
+          idx += 2;
+        }
+
+        else if (java.startsWith(end, idx)) {
+          return idx + end.length();
+        }
+
+        else if (c == '\n' && end.length() == 1) {
+          // unterminated string or char literal
+          return idx;
+        }
+
+        else {
+          idx++;
+        }
+      }
+
+      return len;
+    }
+
+    private void mark(int start, int end, byte style) {
+      for (int idx = start, max = Math.min(end, styles.length); idx < max; idx++) {
+        styles[idx] = style;
       }
-      """);
     }
 
   }
@@ -15,13 +15,14 @@
  */
 package demo.landing;
 
+import demo.landing.app.AppAssets;
 import demo.landing.app.AppCtx;
 import module java.base;
 import module objectos.way;
 
 /// Exposes the demo application to the host application.
 @DoNotReload
-public interface LandingDemo {
+public interface LandingDemo extends AutoCloseable {
 
   /// Configures the creation of a demo application.
   interface Options {
@@ -32,12 +33,44 @@ public interface LandingDemo {
 
     void database(Sql.Database value);
 
+    /// Lets at most the specified number of transactions use the `database` at
+    /// the same time, usually the maximum size of its connection pool. The
+    /// other requests wait for up to `maxWait` in arrival order and are then
+    /// answered with `503 Service Unavailable`. The jobs and the startup work
+    /// are admitted as well, waiting without bound. Unlimited by default.
+    void databaseAdmission(int maxConnections, Duration maxWait);
+
     void noteSink(Note.Sink value);
 
+    /// Serves the posters from a memory-mapped file instead of the database,
+    /// falling back to the database for posters missing from it. The posters
+    /// are exported to the specified file on creation.
+    void posterStore(Path value);
+
+    /// Runs the routes that only read from the database on the specified
+    /// database, so they do not compete with the writing routes for
+    /// connections. Defaults to the `database` option.
+    void readOnlyDatabase(Sql.Database value);
+
+    /// The `databaseAdmission` option of the `readOnlyDatabase`. Defaults to
+    /// the admission of the `database` if both are the same.
+    void readOnlyDatabaseAdmission(int maxConnections, Duration maxWait);
+
     void reservationEpoch(Instant value);
 
     void reservationRandom(RandomGenerator value);
 
+    /// The connections of the databases are bound to the `CINEMA` schema, for
+    /// example with the `SCHEMA` setting of the H2 JDBC URL. Transactions then
+    /// skip their initial `set schema` statement.
+    void schemaBound();
+
+    /// Runs the jobs of the application on background threads: the expiry of
+    /// the seat holds, the sweep of the expired reservations and the daily
+    /// creation of the shows. Off by default, in which case the host runs the
+    /// jobs through the local routes. The threads stop on [LandingDemo#close()].
+    void scheduleJobs();
+
     void testing();
 
   }
@@ -55,6 +88,48 @@ public interface LandingDemo {
     return AppCtx.stylesImpl();
   }
 
+  /// The style sheet and the script library of the demo application.
+  interface Assets {
+
+    /// Configures the generation of the assets.
+    interface Options {
+
+      void noteSink(Note.Sink value);
+
+      /// Also scans the class files of the specified directory when
+      /// generating the style sheet.
+      void scanDirectory(Path value);
+
+    }
+
+    /// The content-hashed path of the style sheet.
+    String stylesHref();
+
+    /// The content-hashed path of the script library.
+    String scriptHref();
+
+    /// The `link` and `script` elements referencing the assets.
+    Html.Component head();
+
+    /// Serves the assets with far-future cache headers.
+    void routes(Routing r);
+
+  }
+
+  /// Generates the style sheet and the script library of the demo
+  /// application. The generation happens once, in this method.
+  ///
+  /// @param opts allows for setting the options
+  ///
+  /// @return the generated assets
+  static Assets assets(Consumer<? super Assets.Options> opts) {
+    return AppAssets.create(opts);
+  }
+
+  /// Stops the background jobs, if they were scheduled.
+  @Override
+  void close();
+
   void localRoutes(Routing r);
 
   void publicRoutes(Routing r);
@@ -393,6 +393,35 @@ public final class LandingDemoDb {
     """);
   }
 
+  public static void migration03(Sql.Migrations migrations) {
+    migrations.apply("CINEMA schema v2", """
+    set schema CINEMA;
+
+    -- seat selections are validated and inserted by a single statement
+    drop table TMP_SELECTION;
+    """);
+  }
+
+  public static void migration04(Sql.Migrations migrations) {
+    migrations.apply("CINEMA schema v3", """
+    set schema CINEMA;
+
+    -- the last run of each job: a daily job claims its run of the day
+    create table JOB_STATE (
+      JOB_ID smallint not null,
+      LAST_RUN_DATE date not null,
+      LAST_RUN_TIME timestamp not null,
+
+      primary key (JOB_ID)
+    );
+
+    -- 1 = clear reservation, 2 = create show
+    insert into JOB_STATE (JOB_ID, LAST_RUN_DATE, LAST_RUN_TIME)
+    values (1, '1970-01-01', '1970-01-01 00:00:00')
+    ,      (2, '1970-01-01', '1970-01-01 00:00:00');
+    """);
+  }
+
   public static ResultSet createSeatRow(Connection conn, int screenId, String row, int gridY, Boolean[] columns) throws SQLException {
     final SimpleResultSet rs;
     rs = new SimpleResultSet();
@@ -19,6 +19,7 @@ import module objectos.way;
 import objectos.http.Handler;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.sql.SQLException;
 import org.h2.jdbcx.JdbcConnectionPool;
 
@@ -28,6 +29,26 @@ abstract class Start extends App.Bootstrap {
 
   public static final int TESTING_HTTP_PORT = 9006;
 
+  // binds the connections to the application schema: no per transaction 'set schema'
+  private static final String SCHEMA_SETTING = ";SCHEMA=CINEMA";
+
+  // each H2 session keeps a LRU cache of its prepared statements keyed by the SQL text.
+  // The default of 8 entries is smaller than the set of statements of the application,
+  // the hot queries would evict each other. H2 reads it when the database is opened:
+  // every pool declares it
+  private static final String STATEMENT_CACHE_SETTING = ";QUERY_CACHE_SIZE=64";
+
+  // the maximum sizes of the connection pools
+  static final int MAX_CONNECTIONS = 4;
+
+  static final int READ_ONLY_MAX_CONNECTIONS = 8;
+
+  // how long a request waits for a connection before it is answered with a 503
+  static final Duration CONNECTION_MAX_WAIT = Duration.ofMillis(500);
+
+  /// The database of the routes that only read.
+  record ReadOnlyDatabase(Sql.Database database) {}
+
   Start() {
   }
 
@@ -84,14 +105,20 @@ abstract class Start extends App.Bootstrap {
 
     ctx.putInstance(App.ShutdownHook.class, shutdownHook);
 
+    // apply migrations
+    migrate(ctx);
+
     // Sql.Database
     final Sql.Database db;
-    db = db(ctx);
+    db = db(ctx, STATEMENT_CACHE_SETTING + SCHEMA_SETTING, MAX_CONNECTIONS);
 
     ctx.putInstance(Sql.Database.class, db);
 
-    // apply migrations
-    db.migrate(this::dbMigrations);
+    // a pool of its own: readers do not wait for the writers' connections
+    final Sql.Database readOnlyDb;
+    readOnlyDb = db(ctx, STATEMENT_CACHE_SETTING + SCHEMA_SETTING, READ_ONLY_MAX_CONNECTIONS);
+
+    ctx.putInstance(ReadOnlyDatabase.class, new ReadOnlyDatabase(readOnlyDb));
 
     // Application
     final LandingDemo demo;
@@ -99,19 +126,45 @@ abstract class Start extends App.Bootstrap {
 
     ctx.putInstance(LandingDemo.class, demo);
 
-    // Head component
-    final Html.Component headComponent;
-    headComponent = headComponent(ctx);
+    // stops the jobs, if any
+    shutdownHook.register(demo);
+  }
+
+  // the schema might not exist yet: the connection is not bound to it. Its
+  // pool is disposed right away, it is not used afterwards
+  private void migrate(App.Injector injector) {
+    try {
+      final JdbcConnectionPool ds;
+      ds = connectionPool(STATEMENT_CACHE_SETTING);
+
+      ds.setMaxConnections(1);
 
-    ctx.putInstance(Html.Component.class, headComponent);
+      try {
+        final Sql.Database db;
+        db = Sql.Database.create(config -> {
+          config.dataSource(ds);
+
+          final Note.Sink noteSink;
+          noteSink = injector.getInstance(Note.Sink.class);
+
+          config.noteSink(noteSink);
+        });
+
+        db.migrate(this::dbMigrations);
+      } finally {
+        ds.dispose();
+      }
+    } catch (SQLException e) {
+      throw App.serviceFailed("Sql.Database", e);
+    }
   }
 
-  private Sql.Database db(App.Injector injector) {
+  private Sql.Database db(App.Injector injector, String settings, int maxConnections) {
     try {
       final JdbcConnectionPool ds;
-      ds = connectionPool();
+      ds = connectionPool(settings);
 
-      ds.setMaxConnections(4);
+      ds.setMaxConnections(maxConnections);
 
       final App.ShutdownHook shutdownHook;
       shutdownHook = injector.getInstance(App.ShutdownHook.class);
@@ -137,11 +190,19 @@ abstract class Start extends App.Bootstrap {
 
     // data
     LandingDemoDb.migration02(migrations);
+
+    // schema
+    LandingDemoDb.migration03(migrations);
+
+    // schema
+    LandingDemoDb.migration04(migrations);
   }
 
   abstract App.NoteSink noteSink();
 
-  JdbcConnectionPool connectionPool() throws SQLException {
+  /// Creates a connection pool whose JDBC URL ends with the specified
+  /// settings.
+  JdbcConnectionPool connectionPool(String settings) throws SQLException {
     final Path relative;
     relative = Path.of("work", "demo.landing");
 
@@ -149,21 +210,13 @@ abstract class Start extends App.Bootstrap {
     path = relative.toAbsolutePath();
 
     final String url;
-    url = "jdbc:h2:file:" + path;
+    url = "jdbc:h2:file:" + path + settings;
 
     return JdbcConnectionPool.create(url, "sa", "");
   }
 
   abstract LandingDemo demo(App.Injector injector);
 
-  Html.Component headComponent(App.Injector injector) {
-    return html -> {
-      html.link(html.rel("stylesheet"), html.type("text/css"), html.href("/ui/styles.css"));
-
-      html.script(html.src("/ui/script.js"));
-    };
-  }
-
   abstract Handler serverHandler(App.Injector injector);
 
   abstract int serverPort();
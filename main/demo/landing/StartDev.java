@@ -51,10 +51,25 @@ public final class StartDev extends Start {
 
       opts.database(database);
 
+      opts.databaseAdmission(MAX_CONNECTIONS, CONNECTION_MAX_WAIT);
+
+      final ReadOnlyDatabase readOnlyDatabase;
+      readOnlyDatabase = injector.getInstance(ReadOnlyDatabase.class);
+
+      opts.readOnlyDatabase(readOnlyDatabase.database());
+
+      opts.readOnlyDatabaseAdmission(READ_ONLY_MAX_CONNECTIONS, CONNECTION_MAX_WAIT);
+
+      opts.schemaBound();
+
+      opts.scheduleJobs();
+
       final Note.Sink noteSink;
       noteSink = injector.getInstance(Note.Sink.class);
 
       opts.noteSink(noteSink);
+
+      opts.posterStore(Path.of("work", "demo.landing.posters"));
     });
   }
 
@@ -0,0 +1,153 @@
+/*
+ * Copyright (C) 2024-2026 Objectos Software LTDA.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package demo.landing.app;
+
+import module java.base;
+import module objectos.way;
+import objectos.http.Content;
+import objectos.http.Handler;
+import objectos.http.HeaderName;
+import objectos.http.MediaType;
+import objectos.http.Request;
+import objectos.http.Response;
+import objectos.http.Result;
+import objectos.http.Status;
+
+/// A generated asset served from a content-hashed path. It holds both the
+/// identity and the gzip encoded representations, so no compression happens
+/// at request time.
+record AppAsset(String path, MediaType type, byte[] data, byte[] gzip, String hash) implements Handler {
+
+  static AppAsset of(String name, String extension, MediaType type, String contents) {
+    final byte[] data;
+    data = contents.getBytes(StandardCharsets.UTF_8);
+
+    final String hash;
+    hash = AppCtx.hash(data);
+
+    final String path;
+    path = "/ui/" + name + "." + hash + "." + extension;
+
+    final byte[] gzip;
+    gzip = gzip(data);
+
+    return new AppAsset(path, type, data, gzip, hash);
+  }
+
+  private static byte[] gzip(byte[] data) {
+    final ByteArrayOutputStream bytes;
+    bytes = new ByteArrayOutputStream();
+
+    try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+      out.write(data);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    return bytes.toByteArray();
+  }
+
+  @Override
+  public final Result handle(Request req) {
+    final boolean gzipped;
+    gzipped = acceptsGzip(req.header(HeaderName.ACCEPT_ENCODING));
+
+    // each representation has its own entity tag
+    final String etag;
+    etag = gzipped ? "\"" + hash + "-gzip\"" : "\"" + hash + "\"";
+
+    final boolean notModified;
+    notModified = AppCtx.ifNoneMatch(req.header(HeaderName.IF_NONE_MATCH), etag);
+
+    return Response.create(opts -> {
+      opts.status(notModified ? Status.NOT_MODIFIED : Status.OK);
+
+      opts.date();
+
+      opts.header(HeaderName.ETAG, etag);
+
+      opts.header(HeaderName.CACHE_CONTROL, AppCtx.IMMUTABLE);
+
+      // on the 304 as well: caches must key both responses the same way
+      opts.header(HeaderName.VARY, "Accept-Encoding");
+
+      if (notModified) {
+        return;
+      }
+
+      if (gzipped) {
+        opts.header(HeaderName.CONTENT_ENCODING, "gzip");
+
+        opts.send(Content.of(type, gzip));
+      } else {
+        opts.send(Content.of(type, data));
+      }
+    });
+  }
+
+  /// Tests if the specified `Accept-Encoding` header value accepts the gzip
+  /// coding: listed, or covered by `*`, with a non-zero q-value.
+  static boolean acceptsGzip(String acceptEncoding) {
+    if (acceptEncoding == null) {
+      return false;
+    }
+
+    // the q-values of gzip and of "*", if listed
+    double gzip;
+    gzip = -1;
+
+    double any;
+    any = -1;
+
+    for (String item : acceptEncoding.split(",")) {
+      final String[] parts;
+      parts = item.split(";");
+
+      final String coding;
+      coding = parts[0].strip();
+
+      double q;
+      q = 1;
+
+      for (int idx = 1; idx < parts.length; idx++) {
+        final String param;
+        param = parts[idx].strip();
+
+        if (param.regionMatches(true, 0, "q=", 0, 2)) {
+          q = qvalue(param.substring(2).strip());
+        }
+      }
+
+      if (coding.equalsIgnoreCase("gzip") || coding.equalsIgnoreCase("x-gzip")) {
+        gzip = q;
+      } else if (coding.equals("*")) {
+        any = q;
+      }
+    }
+
+    return gzip >= 0 ? gzip > 0 : any > 0;
+  }
+
+  // an invalid q-value does not accept the coding
+  private static double qvalue(String value) {
+    try {
+      return Double.parseDouble(value);
+    } catch (NumberFormatException e) {
+      return 0;
+    }
+  }
+
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (C) 2024-2026 Objectos Software LTDA.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package demo.landing.app;
+
+import demo.landing.LandingDemo;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.function.Consumer;
+import objectos.css.StyleSheet;
+import objectos.http.MediaType;
+import objectos.http.RequestMethod;
+import objectos.http.Routing;
+import objectos.script.JsLibrary;
+import objectos.way.Html;
+import objectos.way.Note;
+
+/// The style sheet and the script library of the demo application.
+///
+/// Both are generated once, when an instance is created, and are served from
+/// content-hashed paths with far-future cache headers.
+public final class AppAssets implements LandingDemo.Assets {
+
+  public static final class Builder implements LandingDemo.Assets.Options {
+
+    private Note.Sink noteSink;
+
+    private Path scanDirectory;
+
+    @Override
+    public final void noteSink(Note.Sink value) {
+      noteSink = Objects.requireNonNull(value, "value == null");
+    }
+
+    @Override
+    public final void scanDirectory(Path value) {
+      scanDirectory = Objects.requireNonNull(value, "value == null");
+    }
+
+    final AppAssets build() {
+      if (noteSink == null) {
+        noteSink = Note.NoOpSink.create();
+      }
+
+      final StyleSheet styleSheet;
+      styleSheet = StyleSheet.create(opts -> {
+        opts.noteSink(noteSink);
+
+        opts.include(AppCtx.stylesImpl());
+
+        if (scanDirectory != null) {
+          opts.scanDirectory(scanDirectory);
+        }
+      });
+
+      final AppAsset styles;
+      styles = AppAsset.of("styles", "css", MediaType.TEXT_CSS, styleSheet.generate());
+
+      noteSink.send(GENERATED, styles.path());
+
+      final JsLibrary library;
+      library = JsLibrary.of();
+
+      final AppAsset script;
+      script = AppAsset.of("script", "js", MediaType.TEXT_JAVASCRIPT, library.toString());
+
+      noteSink.send(GENERATED, script.path());
+
+      return new AppAssets(styles, script);
+    }
+
+  }
+
+  private static final Note.Ref1<String> GENERATED = Note.Ref1.create(AppAssets.class, "Generated", Note.INFO);
+
+  private final AppAsset styles;
+
+  private final AppAsset script;
+
+  private AppAssets(AppAsset styles, AppAsset script) {
+    this.styles = styles;
+
+    this.script = script;
+  }
+
+  /// Creates a new instance with the specified configuration.
+  public static AppAssets create(Consumer<? super Builder> opts) {
+    final Builder builder;
+    builder = new Builder();
+
+    opts.accept(builder);
+
+    return builder.build();
+  }
+
+  @Override
+  public final String stylesHref() {
+    return styles.path();
+  }
+
+  @Override
+  public final String scriptHref() {
+    return script.path();
+  }
+
+  @Override
+  public final Html.Component head() {
+    return html -> {
+      html.link(html.rel("stylesheet"), html.type("text/css"), html.href(styles.path()));
+
+      html.script(html.src(script.path()));
+    };
+  }
+
+  @Override
+  public final void routes(Routing r) {
+    r.at(styles.path(),
+        RequestMethod.GET, styles);
+
+    r.at(script.path(),
+        RequestMethod.GET, script);
+  }
+
+}
@@ -0,0 +1,544 @@
+/*
+ * Copyright (C) 2024-2026 Objectos Software LTDA.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package demo.landing.app;
+
+import module java.base;
+import module objectos.way;
+
+/// An immutable snapshot of the catalog tables: movies, genres, screens and
+/// their seats, screenings, features and shows.
+///
+/// Those tables are only changed by migrations and by the local routes. So the
+/// views that only display the catalog read from a snapshot instead of
+/// querying the database on every request. A new snapshot, with the next
+/// version number, replaces the current one on reload.
+final class AppCatalog {
+
+  private record MovieRow(int id, String title, String synopsys, int runtime, LocalDate releaseDate) {
+    MovieRow(ResultSet rs, int idx) throws SQLException {
+      this(
+          rs.getInt(idx++),
+          rs.getString(idx++),
+          rs.getString(idx++),
+          rs.getInt(idx++),
+          rs.getObject(idx++, LocalDate.class)
+      );
+    }
+  }
+
+  private record ScreenRow(int id, String name, int capacity) {
+    ScreenRow(ResultSet rs, int idx) throws SQLException {
+      this(
+          rs.getInt(idx++),
+          rs.getString(idx++),
+          rs.getInt(idx++)
+      );
+    }
+  }
+
+  private record ScreeningRow(int id, int movieId, int screenId) {
+    ScreeningRow(ResultSet rs, int idx) throws SQLException {
+      this(
+          rs.getInt(idx++),
+          rs.getInt(idx++),
+          rs.getInt(idx++)
+      );
+    }
+  }
+
+  private record ShowRow(int id, int screeningId, LocalDate date, LocalTime time) {
+    ShowRow(ResultSet rs, int idx) throws SQLException {
+      this(
+          rs.getInt(idx++),
+          rs.getInt(idx++),
+          rs.getObject(idx++, LocalDate.class),
+          rs.getObject(idx++, LocalTime.class)
+      );
+    }
+  }
+
+  private record SeatRow(int screenId, int gridY, int gridX, int seatId) {
+    SeatRow(ResultSet rs, int idx) throws SQLException {
+      this(
+          rs.getInt(idx++),
+          rs.getInt(idx++),
+          rs.getInt(idx++),
+          rs.getInt(idx++)
+      );
+    }
+  }
+
+  // a (MOVIE_ID, GENRE.NAME) or a (SCREENING_ID, FEATURE.NAME) pair
+  private record NameRow(int id, String name) {
+    NameRow(ResultSet rs, int idx) throws SQLException {
+      this(
+          rs.getInt(idx++),
+          rs.getString(idx++)
+      );
+    }
+  }
+
+  // same patterns (and locale) as the formatdatetime calls they replace
+  private static final DateTimeFormatter RELEASE_DATE = DateTimeFormatter.ofPattern("MMM dd, yyyy", Locale.ENGLISH);
+
+  private static final DateTimeFormatter SHOW_DATE = DateTimeFormatter.ofPattern("EEE dd/LLL", Locale.ENGLISH);
+
+  private static final DateTimeFormatter SHOW_TIME = DateTimeFormatter.ofPattern("kk:mm", Locale.ENGLISH);
+
+  private final long version;
+
+  private final List<MovieRow> movies;
+
+  private final Map<Integer, MovieRow> movieById;
+
+  private final Map<Integer, String> genres;
+
+  private final Map<Integer, ScreenRow> screens;
+
+  private final Map<Integer, SeatMap> seatMaps;
+
+  private final Map<Integer, ScreeningRow> screenings;
+
+  private final Map<Integer, String> features;
+
+  private final Map<Integer, ShowRow> shows;
+
+  // the shows of each movie ordered by date, screen and time
+  private final Map<Integer, List<ShowRow>> movieShows;
+
+  private AppCatalog(
+      long version,
+      List<MovieRow> movies,
+      Map<Integer, String> genres,
+      Map<Integer, ScreenRow> screens,
+      Map<Integer, SeatMap> seatMaps,
+      Map<Integer, ScreeningRow> screenings,
+      Map<Integer, String> features,
+      Map<Integer, ShowRow> shows) {
+    this.version = version;
+
+    this.movies = movies;
+
+    this.genres = genres;
+
+    this.screens = screens;
+
+    this.seatMaps = seatMaps;
+
+    this.screenings = screenings;
+
+    this.features = features;
+
+    this.shows = shows;
+
+    final Map<Integer, MovieRow> movieById;
+    movieById = new HashMap<>();
+
+    for (MovieRow movie : movies) {
+      movieById.put(movie.id(), movie);
+    }
+
+    this.movieById = Map.copyOf(movieById);
+
+    final Comparator<ShowRow> order;
+    order = Comparator
+        .comparing(ShowRow::date)
+        .thenComparingInt(show -> screenings.get(show.screeningId()).screenId())
+        .thenComparing(ShowRow::time);
+
+    final Map<Integer, List<ShowRow>> movieShows;
+    movieShows = new HashMap<>();
+
+    for (ShowRow show : shows.values()) {
+      final ScreeningRow screening;
+      screening = screenings.get(show.screeningId());
+
+      movieShows.computeIfAbsent(screening.movieId(), key -> new ArrayList<>()).add(show);
+    }
+
+    for (Map.Entry<Integer, List<ShowRow>> entry : movieShows.entrySet()) {
+      final List<ShowRow> list;
+      list = entry.getValue();
+
+      list.sort(order);
+
+      entry.setValue(List.copyOf(list));
+    }
+
+    this.movieShows = Map.copyOf(movieShows);
+  }
+
+  /// Loads a new snapshot from the database.
+  public static AppCatalog load(Sql.Transaction trx, long version) {
+    trx.sql("""
+    select
+      MOVIE_ID,
+      TITLE,
+      SYNOPSYS,
+      RUNTIME,
+      RELEASE_DATE
+    from
+      MOVIE
+    order by
+      MOVIE_ID
+    """);
+
+    final List<MovieRow> movies;
+    movies = trx.query(MovieRow::new);
+
+    trx.sql("""
+    select
+      MOVIE_GENRE.MOVIE_ID,
+      GENRE.NAME
+    from
+      MOVIE_GENRE
+      join GENRE on MOVIE_GENRE.GENRE_ID = GENRE.GENRE_ID
+    order by
+      MOVIE_GENRE.MOVIE_ID,
+      GENRE.NAME
+    """);
+
+    final Map<Integer, String> genres;
+    genres = join(trx.query(NameRow::new));
+
+    trx.sql("""
+    select
+      SCREEN_ID,
+      NAME,
+      SEATING_CAPACITY
+    from
+      SCREEN
+    """);
+
+    final Map<Integer, ScreenRow> screens;
+    screens = index(trx.query(ScreenRow::new), ScreenRow::id);
+
+    trx.sql("""
+    select
+      SCREEN_ID,
+      GRID_Y,
+      GRID_X,
+      SEAT_ID
+    from
+      SEAT
+    """);
+
+    final Map<Integer, SeatMap> seatMaps;
+    seatMaps = seatMaps(trx.query(SeatRow::new));
+
+    trx.sql("""
+    select
+      SCREENING_ID,
+      MOVIE_ID,
+      SCREEN_ID
+    from
+      SCREENING
+    """);
+
+    final Map<Integer, ScreeningRow> screenings;
+    screenings = index(trx.query(ScreeningRow::new), ScreeningRow::id);
+
+    trx.sql("""
+    select
+      SCREENING_FEATURE.SCREENING_ID,
+      FEATURE.NAME
+    from
+      SCREENING_FEATURE
+      join FEATURE on SCREENING_FEATURE.FEATURE_ID = FEATURE.FEATURE_ID
+    order by
+      SCREENING_FEATURE.SCREENING_ID,
+      FEATURE.FEATURE_ID
+    """);
+
+    final Map<Integer, String> features;
+    features = join(trx.query(NameRow::new));
+
+    trx.sql("""
+    select
+      SHOW_ID,
+      SCREENING_ID,
+      SHOWDATE,
+      SHOWTIME
+    from
+      SHOW
+    """);
+
+    final Map<Integer, ShowRow> shows;
+    shows = index(trx.query(ShowRow::new), ShowRow::id);
+
+    return new AppCatalog(version, movies, genres, screens, seatMaps, screenings, features, shows);
+  }
+
+  private static <T> Map<Integer, T> index(List<T> list, ToIntFunction<T> id) {
+    final Map<Integer, T> map;
+    map = HashMap.newHashMap(list.size());
+
+    for (T item : list) {
+      map.put(id.applyAsInt(item), item);
+    }
+
+    return Map.copyOf(map);
+  }
+
+  private static Map<Integer, SeatMap> seatMaps(List<SeatRow> list) {
+    final Map<Integer, int[]> cells;
+    cells = new HashMap<>();
+
+    for (SeatRow seat : list) {
+      final int[] seatIds;
+      seatIds = cells.computeIfAbsent(seat.screenId(), key -> {
+        final int[] array;
+        array = new int[SeatMap.CELLS];
+
+        Arrays.fill(array, -1);
+
+        return array;
+      });
+
+      seatIds[seat.gridY() * SeatMap.COLUMNS + seat.gridX()] = seat.seatId();
+    }
+
+    final Map<Integer, SeatMap> map;
+    map = HashMap.newHashMap(cells.size());
+
+    for (Map.Entry<Integer, int[]> entry : cells.entrySet()) {
+      map.put(entry.getKey(), SeatMap.of(entry.getValue()));
+    }
+
+    return Map.copyOf(map);
+  }
+
+  // joins the names of each id, in the order they were queried
+  private static Map<Integer, String> join(List<NameRow> list) {
+    final Map<Integer, String> map;
+    map = new HashMap<>();
+
+    for (NameRow item : list) {
+      map.merge(item.id(), item.name(), (a, b) -> a + ", " + b);
+    }
+
+    return Map.copyOf(map);
+  }
+
+  /// The version of this snapshot.
+  public final long version() {
+    return version;
+  }
+
+  /// The seat map of the specified screen.
+  public final SeatMap seatMap(int screenId) {
+    return seatMaps.getOrDefault(screenId, SeatMap.EMPTY);
+  }
+
+  /// The seat map of the screen of the specified show.
+  public final SeatMap showSeatMap(int showId) {
+    final ShowRow show;
+    show = shows.get(showId);
+
+    if (show == null) {
+      return SeatMap.EMPTY;
+    }
+
+    final ScreeningRow screening;
+    screening = screenings.get(show.screeningId());
+
+    return seatMap(screening.screenId());
+  }
+
+  /// The movies now showing, ordered by id.
+  public final List<HomeModel> home() {
+    final List<HomeModel> list;
+    list = new ArrayList<>(movies.size());
+
+    for (MovieRow movie : movies) {
+      list.add(new HomeModel(movie.id(), movie.title()));
+    }
+
+    return List.copyOf(list);
+  }
+
+  /// Tests if the specified movie exists.
+  public final boolean containsMovie(int movieId) {
+    return movieById.containsKey(movieId);
+  }
+
+  /// The details of the specified movie. Movies without genres are not
+  /// displayed.
+  public final Optional<MovieDetails> movieDetails(int movieId) {
+    final MovieRow movie;
+    movie = movieById.get(movieId);
+
+    if (movie == null) {
+      return Optional.empty();
+    }
+
+    final String movieGenres;
+    movieGenres = genres.get(movieId);
+
+    if (movieGenres == null) {
+      return Optional.empty();
+    }
+
+    final int runtime;
+    runtime = movie.runtime();
+
+    return Optional.of(
+        new MovieDetails(
+            movie.id(),
+            movie.title(),
+            (runtime / 60) + "h " + (runtime % 60) + "m",
+            RELEASE_DATE.format(movie.releaseDate()),
+            movieGenres,
+            movie.synopsys()
+        )
+    );
+  }
+
+  /// The screenings of the specified movie after the specified date/time.
+  /// There is one screening per date and screen.
+  public final List<MovieScreening> movieScreenings(int movieId, LocalDateTime dateTime) {
+    final List<ShowRow> list;
+    list = movieShows.getOrDefault(movieId, List.of());
+
+    final LocalDate date;
+    date = dateTime.toLocalDate();
+
+    final LocalTime time;
+    time = dateTime.toLocalTime();
+
+    final List<MovieScreening> result;
+    result = new ArrayList<>();
+
+    ScreeningRow screening;
+    screening = null;
+
+    LocalDate screeningDate;
+    screeningDate = null;
+
+    List<MovieShowtime> showtimes;
+    showtimes = null;
+
+    for (int idx = firstShow(list, date), size = list.size(); idx < size; idx++) {
+      final ShowRow show;
+      show = list.get(idx);
+
+      final LocalDate showDate;
+      showDate = show.date();
+
+      if (showDate.equals(date) && !show.time().isAfter(time)) {
+        continue;
+      }
+
+      final ScreeningRow showScreening;
+      showScreening = screenings.get(show.screeningId());
+
+      if (screening == null || !showDate.equals(screeningDate) || screening.screenId() != showScreening.screenId()) {
+        if (screening != null) {
+          result.add(toScreening(screening, screeningDate, showtimes));
+        }
+
+        screening = showScreening;
+
+        screeningDate = showDate;
+
+        showtimes = new ArrayList<>();
+      }
+
+      showtimes.add(
+          new MovieShowtime(show.id(), SHOW_TIME.format(show.time()))
+      );
+    }
+
+    if (screening != null) {
+      result.add(toScreening(screening, screeningDate, showtimes));
+    }
+
+    return List.copyOf(result);
+  }
+
+  // the index of the first show on or after the specified date: the shows are
+  // ordered by date first, so the past ones are skipped without a scan
+  private static int firstShow(List<ShowRow> list, LocalDate date) {
+    int low;
+    low = 0;
+
+    int high;
+    high = list.size();
+
+    while (low < high) {
+      final int mid;
+      mid = (low + high) >>> 1;
+
+      final ShowRow show;
+      show = list.get(mid);
+
+      if (show.date().isBefore(date)) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+
+    return low;
+  }
+
+  private MovieScreening toScreening(ScreeningRow screening, LocalDate date, List<MovieShowtime> showtimes) {
+    final ScreenRow screen;
+    screen = screens.get(screening.screenId());
+
+    return new MovieScreening(
+        screen.id(),
+        screen.name(),
+        features.get(screening.id()),
+        SHOW_DATE.format(date),
+        List.copyOf(showtimes)
+    );
+  }
+
+  /// The details of the specified show.
+  public final Optional<SeatsDetails> seatsDetails(int showId) {
+    final ShowRow show;
+    show = shows.get(showId);
+
+    if (show == null) {
+      return Optional.empty();
+    }
+
+    final ScreeningRow screening;
+    screening = screenings.get(show.screeningId());
+
+    final ScreenRow screen;
+    screen = screens.get(screening.screenId());
+
+    final MovieRow movie;
+    movie = movieById.get(screening.movieId());
+
+    return Optional.of(
+        new SeatsDetails(
+            SHOW_DATE.format(show.date()),
+            SHOW_TIME.format(show.time()),
+
+            screen.id(),
+            screen.name(),
+            screen.capacity(),
+
+            movie.id(),
+            movie.title()
+        )
+    );
+  }
+
+}
@@ -16,6 +16,11 @@
 package demo.landing.app;
 
 import demo.landing.LandingDemo;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.time.Clock;
 import java.time.Duration;
@@ -24,16 +29,27 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.random.RandomGenerator;
 import objectos.css.CssLibrary;
 import objectos.http.Handler;
 import objectos.http.HeaderName;
 import objectos.http.PathParam;
+import objectos.http.Request;
 import objectos.http.RequestMethod;
 import objectos.http.Result;
 import objectos.http.Routing;
+import objectos.http.Status;
 import objectos.script.Js;
 import objectos.script.JsAction;
 import objectos.way.Html;
@@ -45,6 +61,8 @@ public final class AppCtx implements LandingDemo {
 
   public static final class Builder implements LandingDemo.Options {
 
+    private ConnectionAdmission admission;
+
     private Clock clock;
 
     private byte[] codecKey;
@@ -53,10 +71,20 @@ public final class AppCtx implements LandingDemo {
 
     private Note.Sink noteSink;
 
+    private Path posterStore;
+
+    private ConnectionAdmission readOnlyAdmission;
+
+    private Sql.Database readOnlyDatabase;
+
     private Instant reservationEpoch;
 
     private RandomGenerator reservationRandom;
 
+    private boolean schemaBound;
+
+    private boolean scheduleJobs;
+
     private boolean testing;
 
     @Override
@@ -77,11 +105,31 @@ public final class AppCtx implements LandingDemo {
       database = Objects.requireNonNull(value, "value == null");
     }
 
+    @Override
+    public final void databaseAdmission(int maxConnections, Duration maxWait) {
+      admission = new ConnectionAdmission(maxConnections, Objects.requireNonNull(maxWait, "maxWait == null"));
+    }
+
     @Override
     public final void noteSink(Note.Sink value) {
       noteSink = Objects.requireNonNull(value, "value == null");
     }
 
+    @Override
+    public final void posterStore(Path value) {
+      posterStore = Objects.requireNonNull(value, "value == null");
+    }
+
+    @Override
+    public final void readOnlyDatabase(Sql.Database value) {
+      readOnlyDatabase = Objects.requireNonNull(value, "value == null");
+    }
+
+    @Override
+    public final void readOnlyDatabaseAdmission(int maxConnections, Duration maxWait) {
+      readOnlyAdmission = new ConnectionAdmission(maxConnections, Objects.requireNonNull(maxWait, "maxWait == null"));
+    }
+
     @Override
     public final void reservationEpoch(Instant value) {
       reservationEpoch = Objects.requireNonNull(value, "value == null");
@@ -92,6 +140,16 @@ public final class AppCtx implements LandingDemo {
       reservationRandom = Objects.requireNonNull(value, "value == null");
     }
 
+    @Override
+    public final void schemaBound() {
+      schemaBound = true;
+    }
+
+    @Override
+    public final void scheduleJobs() {
+      scheduleJobs = true;
+    }
+
     @Override
     public final void testing() {
       testing = true;
@@ -106,6 +164,15 @@ public final class AppCtx implements LandingDemo {
 
       Objects.requireNonNull(database, "database == null");
 
+      if (readOnlyDatabase == null) {
+        readOnlyDatabase = database;
+
+        if (readOnlyAdmission == null) {
+          // same connections, same admission
+          readOnlyAdmission = admission;
+        }
+      }
+
       if (noteSink == null) {
         noteSink = Note.NoOpSink.create();
       }
@@ -124,27 +191,86 @@ public final class AppCtx implements LandingDemo {
         reservationRandom = new SecureRandom();
       }
 
-      return new AppCtx(
+      final AppCtx ctx;
+      ctx = new AppCtx(
           clock,
           codecKey,
           database,
+          admission,
+          readOnlyDatabase,
+          readOnlyAdmission,
           noteSink,
           reservationEpoch,
           reservationRandom,
+          schemaBound,
           testing
       );
+
+      // in testing mode the catalog is read from the request transaction
+      if (!testing) {
+        ctx.reloadCatalog();
+      }
+
+      if (!testing && posterStore != null) {
+        ctx.exportPosters(posterStore);
+      }
+
+      if (!testing) {
+        ctx.generatePosterVariants();
+      }
+
+      // tests run the jobs themselves
+      if (scheduleJobs && !testing) {
+        ctx.startJobs();
+      }
+
+      return ctx;
     }
 
   }
 
+  // the sum of the sizes of the cached posters, in bytes
+  private static final long POSTER_CACHE_SIZE = 4 * 1024 * 1024;
+
+  // the number of locks guarding the seat selections
+  private static final int SEAT_LOCK_STRIPES = 64;
+
+  private static final Note.Ref1<ConnectionAdmission> ADMISSION_TIMEOUT = Note.Ref1.create(AppCtx.class, "Connection admission timeout", Note.WARN);
+
+  private static final Note.Long1 CATALOG = Note.Long1.create(AppCtx.class, "Catalog version", Note.INFO);
+
+  private static final Note.Int1 POSTER_VARIANTS = Note.Int1.create(AppCtx.class, "Poster variants", Note.INFO);
+
+  private static final Note.Ref1<Path> POSTER_STORE = Note.Ref1.create(AppCtx.class, "Poster store", Note.INFO);
+
   private static final Note.Ref1<Throwable> TRANSACTIONAL = Note.Ref1.create(AppCtx.class, "Transactional", Note.ERROR);
 
+  private volatile AppCatalog catalog;
+
+  private final PosterCache posters = new PosterCache(POSTER_CACHE_SIZE);
+
+  private final SeatInventory inventory = new SeatInventory();
+
+  private final SeatLocks seatLocks = new SeatLocks(SEAT_LOCK_STRIPES);
+
+  private final HoldWheel holds;
+
+  private volatile PosterStore posterStore;
+
+  private volatile Map<Integer, PosterImages.Variants> posterVariants = Map.of();
+
   private final Clock clock;
 
   private final byte[] codecKey;
 
   private final Sql.Database database;
 
+  private final ConnectionAdmission admission;
+
+  private final Sql.Database readOnlyDatabase;
+
+  private final ConnectionAdmission readOnlyAdmission;
+
   private final HexFormat hexFormat = HexFormat.of();
 
   private final Note.Sink noteSink;
@@ -153,15 +279,21 @@ public final class AppCtx implements LandingDemo {
 
   private final RandomGenerator reservationRandom;
 
+  private final boolean schemaBound;
+
   private final boolean testing;
 
   private AppCtx(
       Clock clock,
       byte[] codecKey,
       Sql.Database database,
+      ConnectionAdmission admission,
+      Sql.Database readOnlyDatabase,
+      ConnectionAdmission readOnlyAdmission,
       Note.Sink noteSink,
       Instant reservationEpoch,
       RandomGenerator reservationRandom,
+      boolean schemaBound,
       boolean testing) {
     this.clock = clock;
 
@@ -169,13 +301,23 @@ public final class AppCtx implements LandingDemo {
 
     this.database = database;
 
+    this.admission = admission;
+
+    this.readOnlyDatabase = readOnlyDatabase;
+
+    this.readOnlyAdmission = readOnlyAdmission;
+
     this.noteSink = noteSink;
 
     this.reservationEpoch = reservationEpoch;
 
     this.reservationRandom = reservationRandom;
 
+    this.schemaBound = schemaBound;
+
     this.testing = testing;
+
+    holds = new HoldWheel(HOLD_TICK_MILLIS, HOLD_WHEEL_SIZE, clock.millis());
   }
 
   /// Creates a new instance with the specified configuration.
@@ -195,69 +337,157 @@ public final class AppCtx implements LandingDemo {
   @Override
   public final void localRoutes(Routing local) {
     local.at("/demo.landing/clear-reservation",
-        RequestMethod.POST, trx(new LocalClear(this)));
+        RequestMethod.POST, trx(AppTrx.NONE, new LocalClear(this)));
 
     local.at("/demo.landing/create-show",
-        RequestMethod.POST, trx(new LocalCreate(this)));
+        RequestMethod.POST, trx(AppTrx.NONE, new LocalCreate(this)));
+
+    local.at("/demo.landing/reload-catalog",
+        RequestMethod.POST, trx(AppTrx.NONE, new LocalReload(this)));
   }
 
   @Override
   public final void publicRoutes(Routing www) {
     www.at("/demo.landing/boot",
-        RequestMethod.GET, trx(new Boot(this)));
+        RequestMethod.GET, trx(AppTrx.NONE, new Boot(this)));
 
     www.at("/demo.landing/home",
-        RequestMethod.GET, trx(new Home(this)));
+        RequestMethod.GET, trx(AppTrx.NONE, new Home(this)));
 
     www.at("/demo.landing/movie/{id}",
         PathParam.digits("id"),
-        RequestMethod.GET, trx(new Movie(this)));
+        RequestMethod.GET, trx(AppTrx.NONE, new Movie(this)));
 
+    // the first POST creates the reservation
     www.at("/demo.landing/seats/{id}",
         PathParam.digits("id"),
-        RequestMethod.GET, trx(new Seats(this)),
-        RequestMethod.POST, trx(new SeatsForm(this)));
+        RequestMethod.GET, trx(AppTrx.READ_ONLY, new Seats(this)),
+        RequestMethod.POST, seatLock(trx(AppTrx.READ_WRITE, new SeatsForm(this))));
 
     www.at("/demo.landing/confirm",
-        RequestMethod.GET, trx(new Confirm(this)),
-        RequestMethod.POST, trx(new ConfirmForm(this)));
+        RequestMethod.GET, trx(AppTrx.READ_ONLY, new Confirm(this)),
+        RequestMethod.POST, trx(AppTrx.READ_WRITE, new ConfirmForm(this)));
 
     www.at("/demo.landing/ticket",
-        RequestMethod.GET, trx(new Ticket()));
+        RequestMethod.GET, trx(AppTrx.READ_ONLY, new Ticket()));
+
+    www.at("/demo.landing/poster-{id}-{size}.jpg",
+        PathParam.digits("id"),
+        RequestMethod.GET, trx(AppTrx.NONE, new Poster(this)));
 
     www.at("/demo.landing/poster-{id}.jpg",
         PathParam.digits("id"),
-        RequestMethod.GET, trx(new Poster()));
+        RequestMethod.GET, trx(AppTrx.NONE, new Poster(this)));
+
+    www.at("/demo.landing/source/{hash}",
+        RequestMethod.GET, trx(AppTrx.NONE, new SourcePanel()));
 
     www.at("/demo.landing/{rest}",
-        new NotFound(this));
+        trx(AppTrx.NONE, new NotFound(this)));
   }
 
-  private Handler trx(Handler handler) {
-    return testing
-        ? req -> handler.handle(req)
+  private Handler trx(AppTrx mode, Handler handler) {
+    if (testing) {
+      // tests provide the transaction
+      return handler;
+    }
+
+    return switch (mode) {
+      case NONE -> handler;
+
+      case READ_ONLY -> admit(readOnlyAdmission, req -> {
+        final Sql.Transaction trx;
+        trx = readOnlyDatabase.connect();
+
+        try (trx) {
+          schema(trx);
+
+          req.attr(Sql.Transaction.class, trx);
+
+          // nothing to commit: closing the transaction discards it
+          return handler.handle(req);
+        } catch (Throwable t) {
+          noteSink.send(TRANSACTIONAL, t);
+
+          throw trx.rollbackAndWrap(t);
+        }
+      });
+
+      case READ_WRITE -> admit(admission, req -> {
+        final Sql.Transaction trx;
+        trx = database.connect();
+
+        try (trx) {
+          schema(trx);
+
+          req.attr(Sql.Transaction.class, trx);
+
+          final Result result;
+          result = handler.handle(req);
+
+          trx.commit();
+
+          return result;
+        } catch (Throwable t) {
+          noteSink.send(TRANSACTIONAL, t);
+
+          throw trx.rollbackAndWrap(t);
+        }
+      });
+    };
+  }
+
+  // waits for one of the connections of the database. Requests that wait for
+  // too long are answered right away instead of queueing in the pool
+  private Handler admit(ConnectionAdmission admission, Handler handler) {
+    return admission == null
+        ? handler
         : req -> {
+          if (!admission.acquire()) {
+            noteSink.send(ADMISSION_TIMEOUT, admission);
 
-          final Sql.Transaction trx;
-          trx = database.connect();
+            return Status.SERVICE_UNAVAILABLE;
+          }
 
-          try (trx) {
-            trx.sql("set schema CINEMA");
+          try {
+            return handler.handle(req);
+          } finally {
+            admission.release();
+          }
+        };
+  }
 
-            trx.update();
+  // serializes the seat selections of a show, transaction commit included.
+  // the lock is waited for as long as a connection would be;
+  // tests manage their own transactions, so they take the locks themselves
+  private Handler seatLock(Handler handler) {
+    return testing
+        ? handler
+        : req -> {
+          final int showId;
+          showId = req.pathParamAsInt("id", Integer.MIN_VALUE);
 
-            req.attr(Sql.Transaction.class, trx);
+          final ReentrantLock lock;
+          lock = seatLocks.get(showId);
 
-            final Result result;
-            result = handler.handle(req);
+          if (admission == null) {
+            lock.lock();
+          } else if (!admission.lock(lock)) {
+            noteSink.send(ADMISSION_TIMEOUT, admission);
 
-            trx.commit();
+            return Status.SERVICE_UNAVAILABLE;
+          }
 
-            return result;
-          } catch (Throwable t) {
-            noteSink.send(TRANSACTIONAL, t);
+          try {
+            return handler.handle(req);
+          } catch (RuntimeException e) {
+            // the claim of a selection whose commit failed would remain:
+            // the state of the show is loaded again on next use
+            inventory.clear(showId);
 
-            throw trx.rollbackAndWrap(t);
+            throw e;
+          } finally {
+            lock.unlock();
           }
         };
   }
@@ -266,6 +496,211 @@ public final class AppCtx implements LandingDemo {
   // # END: Routes
   // ##################################################################
 
+  // ##################################################################
+  // # BEGIN: Catalog
+  // ##################################################################
+
+  /// Returns the catalog snapshot to be used by the specified request.
+  final AppCatalog catalog(Request req) {
+    if (testing) {
+      // tests load their data in the request transaction
+      final Sql.Transaction trx;
+      trx = req.attr(Sql.Transaction.class);
+
+      return AppCatalog.load(trx, 0L);
+    }
+
+    return catalog;
+  }
+
+  /// Loads a new catalog snapshot from the database and replaces the current
+  /// one.
+  final synchronized AppCatalog reloadCatalog() {
+    final AppCatalog current;
+    current = catalog;
+
+    final long version;
+    version = current != null ? current.version() + 1 : 1L;
+
+    final AppCatalog next;
+    next = transactional(trx -> AppCatalog.load(trx, version));
+
+    catalog = next;
+
+    noteSink.send(CATALOG, version);
+
+    return next;
+  }
+
+  /// Reloads the catalog once a change to its tables was committed. Tests read
+  /// the catalog from their transaction: there is nothing to reload.
+  final void catalogChanged() {
+    if (!testing) {
+      reloadCatalog();
+    }
+  }
+
+  // ##################################################################
+  // # END: Catalog
+  // ##################################################################
+
+  // ##################################################################
+  // # BEGIN: Posters
+  // ##################################################################
+
+  /// Returns the poster of the specified movie, if one exists. Only cache
+  /// misses reach the database.
+  final Optional<PosterModel> poster(Request req, int movieId) {
+    if (testing) {
+      // tests load their data in the request transaction
+      final Sql.Transaction trx;
+      trx = req.attr(Sql.Transaction.class);
+
+      return PosterModel.queryOptional(trx, movieId);
+    }
+
+    // unknown movies never reach the database
+    if (!catalog.containsMovie(movieId)) {
+      return Optional.empty();
+    }
+
+    final PosterStore store;
+    store = posterStore;
+
+    if (store != null) {
+      final Optional<PosterModel> stored;
+      stored = store.get(movieId);
+
+      // posters added after the export are read from the database
+      if (stored.isPresent()) {
+        return stored;
+      }
+    }
+
+    final PosterModel cached;
+    cached = posters.get(movieId);
+
+    if (cached != null) {
+      return Optional.of(cached);
+    }
+
+    // concurrent misses may load the same poster twice: harmless
+    final Optional<PosterModel> maybe;
+    maybe = transactional(trx -> PosterModel.queryOptional(trx, movieId));
+
+    if (maybe.isPresent()) {
+      posters.put(movieId, maybe.get());
+    }
+
+    return maybe;
+  }
+
+  /// Exports the posters to the specified file. Posters are served from that
+  /// file afterwards.
+  final void exportPosters(Path file) {
+    posterStore = transactional(trx -> {
+      try {
+        return PosterStore.export(trx, file);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    });
+
+    noteSink.send(POSTER_STORE, file);
+  }
+
+  /// Returns the poster of the specified movie in the specified size, if one
+  /// exists.
+  final Optional<PosterModel> poster(Request req, int movieId, PosterImages.Size size) {
+    final PosterImages.Variants variants;
+    variants = size != PosterImages.Size.FULL ? posterVariants(movieId) : null;
+
+    if (variants == null) {
+      return poster(req, movieId);
+    }
+
+    return Optional.of(variants.get(size));
+  }
+
+  /// Returns the downscaled variants of the poster of the specified movie, or
+  /// `null` if they were not generated. That is the case in testing mode, and
+  /// for posters created after the application started, in which case the
+  /// full poster is sent instead.
+  final PosterImages.Variants posterVariants(int movieId) {
+    return posterVariants.get(movieId);
+  }
+
+  /// Generates the downscaled variants of every poster.
+  final void generatePosterVariants() {
+    posterVariants = transactional(trx -> PosterImages.generate(trx, noteSink));
+
+    noteSink.send(POSTER_VARIANTS, posterVariants.size());
+  }
+
+  // ##################################################################
+  // # END: Posters
+  // ##################################################################
+
+  // unless the connection already is bound to the schema
+  private void schema(Sql.Transaction trx) {
+    if (!schemaBound) {
+      trx.sql("set schema CINEMA");
+
+      trx.update();
+    }
+  }
+
+  /// Runs the function in a transaction of its own, committed once the
+  /// function returns. Allows a handler to split its work into several
+  /// transactions. In testing mode the function runs in the request
+  /// transaction instead; otherwise the request is not read and may be
+  /// `null`.
+  final <T> T transaction(Request req, Function<Sql.Transaction, T> function) {
+    if (testing) {
+      // tests roll back the request transaction
+      final Sql.Transaction trx;
+      trx = req.attr(Sql.Transaction.class);
+
+      return function.apply(trx);
+    }
+
+    return transactional(function);
+  }
+
+  // runs the function in a transaction of its own. It takes a permit of the
+  // admission like the routes do, otherwise an admitted route could block in
+  // the pool for a connection taken meanwhile; it waits without the bound of
+  // the routes, as no client is waiting for it
+  private <T> T transactional(Function<Sql.Transaction, T> function) {
+    if (admission != null && !admission.acquireUnbounded()) {
+      throw new IllegalStateException("Interrupted while waiting for a connection");
+    }
+
+    try {
+      final Sql.Transaction trx;
+      trx = database.connect();
+
+      try (trx) {
+        schema(trx);
+
+        final T result;
+        result = function.apply(trx);
+
+        trx.commit();
+
+        return result;
+      } catch (Throwable t) {
+        noteSink.send(TRANSACTIONAL, t);
+
+        throw trx.rollbackAndWrap(t);
+      }
+    } finally {
+      if (admission != null) {
+        admission.release();
+      }
+    }
+  }
+
   // ##################################################################
   // # BEGIN: History/Hash
   // ##################################################################
@@ -478,10 +913,289 @@ public final class AppCtx implements LandingDemo {
     return timestamp | randomBits;
   }
 
+  private static final Note.Long1 RESERVATION_DEFERRED = Note.Long1.create(AppCtx.class, "Reservation writes avoided", Note.INFO);
+
+  // seats pages rendered without a reservation
+  private final LongAdder reservationsDeferred = new LongAdder();
+
+  // reservations created by the first seat submission
+  private final LongAdder reservationsCreated = new LongAdder();
+
+  /// Records that a seats page was rendered without creating a reservation.
+  final void reservationDeferred() {
+    reservationsDeferred.increment();
+  }
+
+  /// Records that a reservation was created by a seat submission.
+  final void reservationCreated() {
+    reservationsCreated.increment();
+  }
+
+  /// The number of seats pages rendered without a reservation that were not
+  /// followed by a seat submission. Each one of them used to insert a
+  /// reservation.
+  final long reservationWritesAvoided() {
+    return reservationsDeferred.sum() - reservationsCreated.sum();
+  }
+
+  /// Sends the number of reservation writes avoided so far as a note. Runs
+  /// periodically with the jobs of the application.
+  final void reportReservations() {
+    noteSink.send(RESERVATION_DEFERRED, reservationWritesAvoided());
+  }
+
   // ##################################################################
   // # END: Reservation
   // ##################################################################
 
+  // ##################################################################
+  // # BEGIN: Seat Inventory
+  // ##################################################################
+
+  /// Claims the seats submitted by the user in the seat inventory. Returns
+  /// `false` if any of the seats was selected by another user.
+  final boolean claimSeats(Request req, AppCatalog catalog, SeatsData data) {
+    final SeatInventory seats;
+    seats = inventory(req);
+
+    if (seats == null) {
+      return true;
+    }
+
+    final Sql.Transaction trx;
+    trx = req.attr(Sql.Transaction.class);
+
+    final int showId;
+    showId = data.showId();
+
+    final SeatMap map;
+    map = catalog.showSeatMap(showId);
+
+    return seats.claim(trx, map, showId, data.reservation().id(), data.selection());
+  }
+
+  /// Releases the seats claimed by the user in the seat inventory.
+  final void releaseSeats(Request req, SeatsData data) {
+    final SeatInventory seats;
+    seats = inventory(req);
+
+    if (seats != null) {
+      seats.release(data.showId(), data.reservation().id());
+    }
+  }
+
+  // tests roll back their transactions: the shared inventory would go stale.
+  // tests of the inventory provide their own in the request, the others none
+  private SeatInventory inventory(Request req) {
+    return testing ? req.attr(SeatInventory.class) : inventory;
+  }
+
+  /// Discards the seat inventory. Required whenever selections are removed
+  /// other than by the user.
+  final void clearSeats() {
+    inventory.clear();
+  }
+
+  // ##################################################################
+  // # END: Seat Inventory
+  // ##################################################################
+
+  // ##################################################################
+  // # BEGIN: Seat Holds
+  // ##################################################################
+
+  // how long a selection holds its seats before the ticket is sold
+  private static final Duration HOLD_DURATION = Duration.ofMinutes(5);
+
+  private static final long HOLD_TICK_MILLIS = 1000L;
+
+  // one revolution (~8.5 minutes) covers the hold duration
+  private static final int HOLD_WHEEL_SIZE = 512;
+
+  private static final Note.Int1 HOLDS_EXPIRED = Note.Int1.create(AppCtx.class, "Seat holds expired", Note.INFO);
+
+  private static final Note.Long1 HOLD_EXPIRY_FAILED = Note.Long1.create(AppCtx.class, "Seat hold expiry failed", Note.WARN);
+
+  /// Tracks the seats selected by the user: they are released once the hold
+  /// duration elapses, unless the ticket is sold in the meantime. A sold
+  /// ticket stays on the wheel until its deadline, where its delete does
+  /// nothing: removing it when the ticket is sold could happen before a
+  /// commit that then fails.
+  final void holdSeats(SeatsData data) {
+    if (holdExpiry == null) {
+      // jobs are not scheduled: nothing would expire the hold
+      return;
+    }
+
+    final HoldWheel.Hold hold;
+    hold = new HoldWheel.Hold(data.reservation().id(), data.showId());
+
+    holds.add(hold, clock.millis() + HOLD_DURATION.toMillis());
+  }
+
+  /// Deletes the reservations whose hold expired, one at a time and by
+  /// primary key. Their seats return to the inventory. A failed delete is
+  /// reported and left to the sweep of the expired reservations.
+  final int expireHolds() {
+    final List<HoldWheel.Hold> expired;
+    expired = holds.advance(clock.millis());
+
+    int count;
+    count = 0;
+
+    for (HoldWheel.Hold hold : expired) {
+      if (expireHold(hold)) {
+        count++;
+      }
+    }
+
+    if (count > 0) {
+      noteSink.send(HOLDS_EXPIRED, count);
+    }
+
+    return count;
+  }
+
+  private boolean expireHold(HoldWheel.Hold hold) {
+    final int showId;
+    showId = hold.showId();
+
+    final long reservationId;
+    reservationId = hold.reservationId();
+
+    // serialized with the seat selections of the show
+    final ReentrantLock lock;
+    lock = seatLocks.get(showId);
+
+    lock.lock();
+
+    try {
+      final int count;
+      count = transactional(trx -> deleteReservation(trx, reservationId));
+
+      if (count > 0) {
+        // the selections of the reservation were deleted as well
+        inventory.release(showId, reservationId);
+      }
+
+      return true;
+    } catch (RuntimeException e) {
+      noteSink.send(HOLD_EXPIRY_FAILED, reservationId);
+
+      return false;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private int deleteReservation(Sql.Transaction trx, long reservationId) {
+    // sold tickets are kept
+    trx.sql("""
+    delete from RESERVATION
+    where
+      RESERVATION_ID = ?
+      and TICKET_TIME is null
+    """);
+
+    trx.param(reservationId);
+
+    return trx.update();
+  }
+
+  // ##################################################################
+  // # END: Seat Holds
+  // ##################################################################
+
+  // ##################################################################
+  // # BEGIN: Jobs
+  // ##################################################################
+
+  // the sweep of the reservations whose holds were not tracked
+  private static final Duration CLEAR_RESERVATION_PERIOD = Duration.ofMinutes(5);
+
+  // the job runs once a day: later attempts of the same day are skipped
+  private static final Duration CREATE_SHOW_PERIOD = Duration.ofHours(1);
+
+  private static final Duration REPORT_PERIOD = Duration.ofMinutes(15);
+
+  private static final Note.Ref1<Throwable> JOB_FAILED = Note.Ref1.create(AppCtx.class, "Job failed", Note.ERROR);
+
+  private volatile ScheduledExecutorService holdExpiry;
+
+  private volatile ScheduledExecutorService jobs;
+
+  /// Schedules the jobs of the application on daemon threads: the expiry of
+  /// the seat holds on a thread of its own, so that the other jobs do not
+  /// delay the deadlines, then the sweep of the expired reservations, the
+  /// creation of the shows and the report of the reservation writes avoided.
+  /// The threads stop when this instance is closed.
+  final synchronized void startJobs() {
+    if (jobs != null) {
+      return;
+    }
+
+    holdExpiry = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofPlatform().daemon().name("demo.landing.holds").factory()
+    );
+
+    holdExpiry.scheduleWithFixedDelay(
+        job(this::expireHolds), HOLD_TICK_MILLIS, HOLD_TICK_MILLIS, TimeUnit.MILLISECONDS
+    );
+
+    jobs = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofPlatform().daemon().name("demo.landing.jobs").factory()
+    );
+
+    final LocalClear clear;
+    clear = new LocalClear(this);
+
+    jobs.scheduleWithFixedDelay(
+        job(() -> clear.run(null)), 0L, CLEAR_RESERVATION_PERIOD.toMillis(), TimeUnit.MILLISECONDS
+    );
+
+    final LocalCreate create;
+    create = new LocalCreate(this);
+
+    jobs.scheduleWithFixedDelay(
+        job(() -> create.run(null)), 0L, CREATE_SHOW_PERIOD.toMillis(), TimeUnit.MILLISECONDS
+    );
+
+    jobs.scheduleWithFixedDelay(
+        job(this::reportReservations), REPORT_PERIOD.toMillis(), REPORT_PERIOD.toMillis(), TimeUnit.MILLISECONDS
+    );
+  }
+
+  /// Stops the scheduled jobs, if any.
+  @Override
+  public final synchronized void close() {
+    if (holdExpiry != null) {
+      holdExpiry.shutdownNow();
+
+      holdExpiry = null;
+    }
+
+    if (jobs != null) {
+      jobs.shutdownNow();
+
+      jobs = null;
+    }
+  }
+
+  // a failed run must not cancel the next ones
+  private Runnable job(Runnable task) {
+    return () -> {
+      try {
+        task.run();
+      } catch (RuntimeException e) {
+        noteSink.send(JOB_FAILED, e);
+      }
+    };
+  }
+
+  // ##################################################################
+  // # END: Jobs
+  // ##################################################################
+
   // ##################################################################
   // # BEGIN: UI
   // ##################################################################
@@ -589,7 +1303,9 @@ public final class AppCtx implements LandingDemo {
           SeatsView.class,
           TicketView.class,
           UiIcon.class,
-          UiShell.class
+          UiLogo.class,
+          UiShell.class,
+          UiSource.class
       );
 
       opts.theme("""
@@ -670,6 +1386,51 @@ public final class AppCtx implements LandingDemo {
   // # END: Date/Time
   // ##################################################################
 
+  // ##################################################################
+  // # BEGIN: HTTP Cache
+  // ##################################################################
+
+  /// The `Cache-Control` value of responses whose path changes whenever their
+  /// contents change.
+  static final String IMMUTABLE = "public, max-age=31536000, immutable";
+
+  /// Returns the hex encoded hash of the specified contents. Used as the
+  /// fingerprint of content-addressed responses.
+  static String hash(byte[] contents) {
+    try {
+      final MessageDigest digest;
+      digest = MessageDigest.getInstance("SHA-256");
+
+      final byte[] result;
+      result = digest.digest(contents);
+
+      final HexFormat hexFormat;
+      hexFormat = HexFormat.of();
+
+      return hexFormat.formatHex(result, 0, 8);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not available", e);
+    }
+  }
+
+  /// Tests if the specified `If-None-Match` value matches the entity tag. The
+  /// value may be `*` or a list of possibly weak entity tags.
+  static boolean ifNoneMatch(String ifNoneMatch, String etag) {
+    if (ifNoneMatch == null) {
+      return false;
+    }
+
+    if (ifNoneMatch.equals("*")) {
+      return true;
+    }
+
+    return ifNoneMatch.contains(etag);
+  }
+
+  // ##################################################################
+  // # END: HTTP Cache
+  // ##################################################################
+
   // ##################################################################
   // # BEGIN: Notes
   // ##################################################################
@@ -678,6 +1439,10 @@ public final class AppCtx implements LandingDemo {
     noteSink.send(note, value);
   }
 
+  public final void send(Note.Long1 note, long value) {
+    noteSink.send(note, value);
+  }
+
   public final <T1> void send(Note.Ref1<T1> note, T1 value) {
     noteSink.send(note, value);
   }
@@ -691,7 +1456,16 @@ public final class AppCtx implements LandingDemo {
   // ##################################################################
 
   final AppCtx with(Clock clock, Instant registrationEpoch, RandomGenerator registrationRandom) {
-    return new AppCtx(clock, codecKey, database, noteSink, registrationEpoch, registrationRandom, testing);
+    final AppCtx ctx;
+    ctx = new AppCtx(clock, codecKey, database, admission, readOnlyDatabase, readOnlyAdmission, noteSink, registrationEpoch, registrationRandom, schemaBound, testing);
+
+    ctx.catalog = catalog;
+
+    ctx.posterStore = posterStore;
+
+    ctx.posterVariants = posterVariants;
+
+    return ctx;
   }
 
   // ##################################################################
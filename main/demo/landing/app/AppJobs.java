@@ -0,0 +1,91 @@
+/*
+ * Copyright (C) 2024-2026 Objectos Software LTDA.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package demo.landing.app;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import objectos.way.Sql;
+
+/// The bookkeeping of the jobs of the application. Jobs run on a schedule or
+/// on demand through the local routes.
+final class AppJobs {
+
+  static final int CLEAR_RESERVATION = 1;
+
+  static final int CREATE_SHOW = 2;
+
+  // the run history kept for each job
+  static final int HISTORY_DAYS = 7;
+
+  private AppJobs() {}
+
+  /// Claims the run of the day of the specified daily job. Returns `false` if
+  /// the job already ran on the specified date. A claim concurrent with
+  /// another waits for the row lock and then fails.
+  static boolean claim(Sql.Transaction trx, int jobId, LocalDateTime now) {
+    final LocalDate today;
+    today = now.toLocalDate();
+
+    trx.sql("""
+    update JOB_STATE
+    set
+      LAST_RUN_DATE = ?,
+      LAST_RUN_TIME = ?
+    where
+      JOB_ID = ?
+      and LAST_RUN_DATE < ?
+    """);
+
+    trx.param(today);
+
+    trx.param(now);
+
+    trx.param(jobId);
+
+    trx.param(today);
+
+    return trx.update() == 1;
+  }
+
+  /// Records a run of the specified job in its history, and prunes the runs
+  /// older than [#HISTORY_DAYS].
+  static void log(Sql.Transaction trx, int jobId, LocalDateTime now) {
+    trx.sql("""
+    insert into LOCAL_LOG (LOCAL_ID, LOCAL_TIME) values (?, ?)
+    """);
+
+    trx.param(jobId);
+
+    trx.param(now);
+
+    trx.update();
+
+    // a range of the primary key
+    trx.sql("""
+    delete from LOCAL_LOG
+    where
+      LOCAL_ID = ?
+      and LOCAL_TIME < ?
+    """);
+
+    trx.param(jobId);
+
+    trx.param(now.minusDays(HISTORY_DAYS));
+
+    trx.update();
+  }
+
+}
@@ -15,7 +15,6 @@
  */
 package demo.landing.app;
 
-import java.util.function.LongSupplier;
 import module objectos.way;
 
 /// The ID of an user making seat reservation.
@@ -30,13 +29,6 @@ record AppReservation(long id) {
     return new AppReservation(id);
   }
 
-  static AppReservation parse(Request req, LongSupplier supplier) {
-    final long id;
-    id = req.queryParamAsLong(PARAM_NAME, supplier);
-
-    return new AppReservation(id);
-  }
-
   @Override
   public final String toString() {
     return PARAM_NAME + "=" + id;
@@ -0,0 +1,32 @@
+/*
+ * Copyright (C) 2024-2026 Objectos Software LTDA.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package demo.landing.app;
+
+/// The transaction mode of a route.
+enum AppTrx {
+
+  /// No connection is borrowed for the handler: it does not access the
+  /// database, or it runs transactions of its own.
+  NONE,
+
+  /// The handler only reads: it runs on the read-only database and its
+  /// transaction is not committed.
+  READ_ONLY,
+
+  /// The handler writes: its transaction is committed once it returns.
+  READ_WRITE;
+
+}
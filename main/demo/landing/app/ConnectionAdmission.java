@@ -0,0 +1,186 @@
+/*
+ * Copyright (C) 2024-2026 Objectos Software LTDA.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package demo.landing.app;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+
+/// Admits the transactions to the connections of a database. At most
+/// `permits` transactions run at the same time, the others wait in arrival
+/// order: the routes for a bounded time, the background work without bound. Waiting parks the thread, so a virtual
+/// thread releases its carrier meanwhile.
+final class ConnectionAdmission {
+
+  private final Semaphore semaphore;
+
+  private final int permits;
+
+  private final long maxWaitNanos;
+
+  private final LongAdder admitted = new LongAdder();
+
+  private final LongAdder acquireNanos = new LongAdder();
+
+  private final LongAccumulator maxAcquireNanos = new LongAccumulator(Math::max, 0L);
+
+  private final LongAdder timeouts = new LongAdder();
+
+  ConnectionAdmission(int permits, Duration maxWait) {
+    if (permits <= 0) {
+      throw new IllegalArgumentException("permits must be positive");
+    }
+
+    if (maxWait.isNegative()) {
+      throw new IllegalArgumentException("maxWait must not be negative");
+    }
+
+    // fair: the longest waiting transaction is admitted first
+    semaphore = new Semaphore(permits, true);
+
+    this.permits = permits;
+
+    maxWaitNanos = maxWait.toNanos();
+  }
+
+  /// Waits for a connection to be available. Returns `false` if none became
+  /// available in time; otherwise the caller must [#release()] it.
+  final boolean acquire() {
+    final long startTime;
+    startTime = System.nanoTime();
+
+    boolean acquired;
+
+    try {
+      acquired = semaphore.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+
+      acquired = false;
+    }
+
+    if (acquired) {
+      admitted(startTime);
+    } else {
+      timeouts.increment();
+    }
+
+    return acquired;
+  }
+
+  /// Waits for a connection to be available, for as long as it takes. For
+  /// the work no client is waiting for: the jobs and the startup work. They
+  /// queue along with the routes, so a connection of the pool is never taken
+  /// without a permit. Returns `false` only if the thread was interrupted;
+  /// otherwise the caller must [#release()] it.
+  final boolean acquireUnbounded() {
+    final long startTime;
+    startTime = System.nanoTime();
+
+    try {
+      semaphore.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+
+      return false;
+    }
+
+    admitted(startTime);
+
+    return true;
+  }
+
+  private void admitted(long startTime) {
+    final long nanos;
+    nanos = System.nanoTime() - startTime;
+
+    admitted.increment();
+
+    acquireNanos.add(nanos);
+
+    maxAcquireNanos.accumulate(nanos);
+  }
+
+  final void release() {
+    semaphore.release();
+  }
+
+  /// Waits for the specified lock as long as for a connection. Returns `false`,
+  /// counted as a timeout, if it was not acquired in time; otherwise the
+  /// caller must unlock it.
+  final boolean lock(Lock lock) {
+    boolean locked;
+
+    try {
+      locked = lock.tryLock(maxWaitNanos, TimeUnit.NANOSECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+
+      locked = false;
+    }
+
+    if (!locked) {
+      timeouts.increment();
+    }
+
+    return locked;
+  }
+
+  /// The number of transactions admitted so far.
+  final long admitted() {
+    return admitted.sum();
+  }
+
+  /// The number of transactions holding a connection.
+  final int inUse() {
+    return permits - semaphore.availablePermits();
+  }
+
+  /// The mean time the admitted transactions waited for a connection, in
+  /// nanoseconds.
+  final long meanAcquireNanos() {
+    final long count;
+    count = admitted.sum();
+
+    return count > 0 ? acquireNanos.sum() / count : 0L;
+  }
+
+  /// The longest time an admitted transaction waited for a connection, in
+  /// nanoseconds.
+  final long maxAcquireNanos() {
+    return maxAcquireNanos.get();
+  }
+
+  /// The number of transactions rejected for waiting too long, for a
+  /// connection or for a lock.
+  final long timeouts() {
+    return timeouts.sum();
+  }
+
+  @Override
+  public final String toString() {
+    return "ConnectionAdmission[permits=" + permits
+        + ", inUse=" + inUse()
+        + ", admitted=" + admitted()
+        + ", meanAcquireNanos=" + meanAcquireNanos()
+        + ", maxAcquireNanos=" + maxAcquireNanos()
+        + ", timeouts=" + timeouts() + "]";
+  }
+
+}
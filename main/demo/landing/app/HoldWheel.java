@@ -0,0 +1,160 @@
+/*
+ * Copyright (C) 2024-2026 Objectos Software LTDA.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package demo.landing.app;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/// A hashed timing wheel of seat holds. A hold is hashed into the slot of its
+/// deadline; advancing the wheel visits only the slots whose time has come.
+/// Adding, removing and expiring a hold take constant time, whatever the
+/// number of holds.
+final class HoldWheel {
+
+  /// The reservation holding seats of a show.
+  record Hold(long reservationId, int showId) {}
+
+  private static final class Entry {
+
+    final Hold hold;
+
+    // the visits of its slot left before the hold expires
+    long rounds;
+
+    Entry(Hold hold, long rounds) {
+      this.hold = hold;
+
+      this.rounds = rounds;
+    }
+
+  }
+
+  private final long tickMillis;
+
+  private final int mask;
+
+  private final List<List<Entry>> slots;
+
+  private final Map<Long, Entry> entries = new HashMap<>();
+
+  // the next tick to be visited
+  private long tick;
+
+  /// Creates a wheel of the specified number of slots, a power of two, each
+  /// one covering the specified duration. The wheel starts at the specified
+  /// time.
+  HoldWheel(long tickMillis, int size, long startMillis) {
+    if (Integer.bitCount(size) != 1) {
+      throw new IllegalArgumentException("size must be a power of two");
+    }
+
+    this.tickMillis = tickMillis;
+
+    mask = size - 1;
+
+    slots = new ArrayList<>(size);
+
+    for (int idx = 0; idx < size; idx++) {
+      slots.add(new ArrayList<>());
+    }
+
+    tick = startMillis / tickMillis;
+  }
+
+  /// Tracks the specified hold, expiring at the specified time. A reservation
+  /// already tracked keeps its original deadline.
+  final synchronized void add(Hold hold, long deadlineMillis) {
+    final long reservationId;
+    reservationId = hold.reservationId();
+
+    if (entries.containsKey(reservationId)) {
+      return;
+    }
+
+    // a deadline already past expires on the next advance
+    final long deadline;
+    deadline = Math.max(deadlineMillis / tickMillis, tick);
+
+    final Entry entry;
+    entry = new Entry(hold, (deadline - tick) / slots.size());
+
+    entries.put(reservationId, entry);
+
+    final int index;
+    index = (int) (deadline & mask);
+
+    slots.get(index).add(entry);
+  }
+
+  /// Stops tracking the hold of the specified reservation. Returns `false` if
+  /// it was not tracked.
+  final synchronized boolean remove(long reservationId) {
+    // the entry leaves its slot when the slot is next visited
+    return entries.remove(reservationId) != null;
+  }
+
+  /// Advances the wheel up to the specified time and returns the holds that
+  /// expired meanwhile.
+  final synchronized List<Hold> advance(long nowMillis) {
+    final long now;
+    now = nowMillis / tickMillis;
+
+    final List<Hold> expired;
+    expired = new ArrayList<>();
+
+    while (tick <= now) {
+      final int index;
+      index = (int) (tick & mask);
+
+      final List<Entry> slot;
+      slot = slots.get(index);
+
+      slot.removeIf(entry -> {
+        final long reservationId;
+        reservationId = entry.hold.reservationId();
+
+        if (entries.get(reservationId) != entry) {
+          // removed meanwhile
+          return true;
+        }
+
+        if (entry.rounds > 0) {
+          entry.rounds--;
+
+          return false;
+        }
+
+        entries.remove(reservationId);
+
+        expired.add(entry.hold);
+
+        return true;
+      });
+
+      tick++;
+    }
+
+    return expired;
+  }
+
+  /// The number of tracked holds.
+  final synchronized int size() {
+    return entries.size();
+  }
+
+}
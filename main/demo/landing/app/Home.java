@@ -20,7 +20,6 @@ import objectos.http.Handler;
 import objectos.http.Request;
 import objectos.http.Result;
 import objectos.script.JsAction;
-import objectos.way.Sql;
 
 /// The `/home` controller.
 final class Home implements Handler {
@@ -36,11 +35,11 @@ final class Home implements Handler {
     final AppReservation reservation;
     reservation = AppReservation.parse(req);
 
-    final Sql.Transaction trx;
-    trx = req.attr(Sql.Transaction.class);
+    final AppCatalog catalog;
+    catalog = ctx.catalog(req);
 
     final List<HomeModel> rows;
-    rows = HomeModel.query(trx);
+    rows = catalog.home();
 
     final List<HomeView.Movie> movies;
     movies = rows.stream().map(row -> toUi(reservation, row)).toList();
@@ -52,8 +51,10 @@ final class Home implements Handler {
 
       opts.sources = List.of(
           Source.Home,
+          Source.AppCatalog,
           Source.HomeModel,
-          Source.HomeView
+          Source.HomeView,
+          Source.PosterImages
       );
     });
   }
@@ -68,10 +69,23 @@ final class Home implements Handler {
     final JsAction onclick;
     onclick = ctx.clickAction(AppView.MOVIE, id, reservation);
 
+    final String prefix;
+    prefix = "/demo.landing/poster-" + id + "-";
+
     final String imgsrc;
-    imgsrc = "/demo.landing/poster-" + id + ".jpg";
+    imgsrc = prefix + PosterImages.Size.THUMB.key + ".jpg";
+
+    final String srcset;
+    srcset = prefix + PosterImages.Size.THUMB.key + ".jpg " + PosterImages.Size.THUMB.width + "w, "
+        + prefix + PosterImages.Size.CARD.key + ".jpg " + PosterImages.Size.CARD.width + "w";
+
+    final PosterImages.Variants variants;
+    variants = ctx.posterVariants(id);
+
+    final String placeholder;
+    placeholder = variants != null ? variants.placeholder() : null;
 
-    return new HomeView.Movie(title, onclick, imgsrc);
+    return new HomeView.Movie(title, onclick, imgsrc, srcset, placeholder);
   }
 
 }
\ No newline at end of file
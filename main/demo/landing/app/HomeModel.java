@@ -15,36 +15,8 @@
  */
 package demo.landing.app;
 
-import module java.base;
-import module objectos.way;
-
-/// A movie that is now showing at the theater (raw DB data).
+/// A movie that is now showing at the theater.
 record HomeModel(
     int id,
     String title
-) {
-
-  private HomeModel(ResultSet rs, int idx) throws SQLException {
-    this(
-        rs.getInt(idx++),
-        rs.getString(idx++)
-    );
-  }
-
-  public static List<HomeModel> query(Sql.Transaction trx) {
-    trx.sql("""
-    select
-      MOVIE.MOVIE_ID,
-      MOVIE.TITLE
-
-    from
-      MOVIE
-
-    order by
-      MOVIE_ID
-    """);
-
-    return trx.query(HomeModel::new);
-  }
-
-}
\ No newline at end of file
+) {}
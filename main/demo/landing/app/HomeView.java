@@ -25,8 +25,18 @@ import module objectos.way;
 /// currently playing.
 final class HomeView extends Html.Template {
 
-  /// A movie to be displayed in this view
-  record Movie(String title, JsAction onclick, String imgsrc) {}
+  /// A movie to be displayed in this view. The placeholder is the color
+  /// displayed while the poster loads, it may be `null`.
+  record Movie(String title, JsAction onclick, String imgsrc, String srcset, String placeholder) {}
+
+  private static final Html.AttributeName SIZES = Html.AttributeName.of("sizes");
+
+  private static final Html.AttributeName SRCSET = Html.AttributeName.of("srcset");
+
+  private static final Html.AttributeName STYLE = Html.AttributeName.of("style");
+
+  // the width of a movie in the grid
+  private static final String POSTER_SIZES = PosterImages.Size.THUMB.width + "px";
 
   private final List<Movie> movies;
 
@@ -87,7 +97,15 @@ final class HomeView extends Html.Template {
                 &:is(:where(.group):hover_*)/outline:2px_solid_var(--color-gray-500)
                 """),
 
-                src(movie.imgsrc)
+                src(movie.imgsrc),
+
+                attr(SRCSET, movie.srcset),
+
+                attr(SIZES, POSTER_SIZES),
+
+                movie.placeholder != null
+                    ? attr(STYLE, "background-color:" + movie.placeholder)
+                    : noop()
             ),
 
             h3(
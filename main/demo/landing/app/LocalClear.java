@@ -16,6 +16,7 @@
 package demo.landing.app;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import objectos.http.Content;
 import objectos.http.Handler;
 import objectos.http.MediaType;
@@ -24,59 +25,114 @@ import objectos.http.Result;
 import objectos.way.Note;
 import objectos.way.Sql;
 
+/// Deletes the expired reservations: the ones not ticketed within 5 minutes.
+/// Deletes run in batches, each one in a transaction of its own, so a large
+/// backlog does not hold the locks over the seat tables for long.
 final class LocalClear implements Handler {
 
   private static final Note.Int1 CLEAR_RESERVATION = Note.Int1.create(LocalClear.class, "Clear Reservation", Note.INFO);
 
+  private static final Note.Int1 CLEAR_BATCHES = Note.Int1.create(LocalClear.class, "Clear Reservation batches", Note.INFO);
+
+  private static final Note.Long1 CLEAR_TIME = Note.Long1.create(LocalClear.class, "Clear Reservation time (ms)", Note.INFO);
+
+  static final int BATCH_SIZE = 500;
+
   private final AppCtx ctx;
 
+  private final int batchSize;
+
   LocalClear(AppCtx ctx) {
+    this(ctx, BATCH_SIZE);
+  }
+
+  LocalClear(AppCtx ctx, int batchSize) {
     this.ctx = ctx;
+
+    this.batchSize = batchSize;
   }
 
   @Override
   public final Result handle(Request req) {
-    final int localId;
-    localId = 1;
+    run(req);
 
-    final Sql.Transaction trx;
-    trx = req.attr(Sql.Transaction.class);
+    return Content.of(MediaType.TEXT_PLAIN, "OK\n");
+  }
 
-    final LocalDateTime now;
-    now = ctx.now();
+  /// Runs the job. The request is only read in testing mode, and may be
+  /// `null` otherwise.
+  final void run(Request req) {
+    final long startTime;
+    startTime = System.nanoTime();
 
-    trx.sql("""
-    delete from RESERVATION
-    where
-      datediff(minute, RESERVATION_TIME, ?) > 5
-      and TICKET_TIME is null
-    """);
+    final LocalDateTime cutoff;
+    cutoff = cutoff(ctx.now());
 
-    trx.param(now);
+    int batches;
+    batches = 0;
 
-    final int count;
-    count = trx.update();
+    int total;
+    total = 0;
 
-    ctx.send(CLEAR_RESERVATION, count);
+    int count;
 
-    log(trx, localId);
+    do {
+      count = ctx.transaction(req, trx -> delete(trx, cutoff));
 
-    return Content.of(MediaType.TEXT_PLAIN, "OK\n");
+      batches += 1;
+
+      total += count;
+
+      if (count > 0) {
+        // the selections of the deleted reservations were deleted as well:
+        // discarded after each batch, so their seats do not read as taken
+        // until the sweep ends
+        ctx.clearSeats();
+      }
+    } while (count == batchSize);
+
+    ctx.transaction(req, this::log);
+
+    final long millis;
+    millis = (System.nanoTime() - startTime) / 1_000_000L;
+
+    ctx.send(CLEAR_RESERVATION, total);
+
+    ctx.send(CLEAR_BATCHES, batches);
+
+    ctx.send(CLEAR_TIME, millis);
   }
 
-  private void log(Sql.Transaction trx, int id) {
-    final LocalDateTime now;
-    now = ctx.now();
+  /// Returns the reservation time before which reservations expire. Same
+  /// as `datediff(minute, RESERVATION_TIME, now) > 5`, but as a bound the
+  /// `RESERVATION_RESERVATION_TIME` index can seek to.
+  static LocalDateTime cutoff(LocalDateTime now) {
+    final LocalDateTime minute;
+    minute = now.truncatedTo(ChronoUnit.MINUTES);
 
+    return minute.minusMinutes(5);
+  }
+
+  private int delete(Sql.Transaction trx, LocalDateTime cutoff) {
     trx.sql("""
-    insert into LOCAL_LOG (LOCAL_ID, LOCAL_TIME) values (?, ?)
+    delete from RESERVATION
+    where
+      RESERVATION_TIME < ?
+      and TICKET_TIME is null
+    fetch first ? rows only
     """);
 
-    trx.param(id);
+    trx.param(cutoff);
+
+    trx.param(batchSize);
+
+    return trx.update();
+  }
 
-    trx.param(now);
+  private Void log(Sql.Transaction trx) {
+    AppJobs.log(trx, AppJobs.CLEAR_RESERVATION, ctx.now());
 
-    trx.update();
+    return null;
   }
 
-}
\ No newline at end of file
+}
@@ -17,18 +17,33 @@ package demo.landing.app;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
 import objectos.http.Content;
 import objectos.http.Handler;
 import objectos.http.MediaType;
 import objectos.http.Request;
 import objectos.http.Result;
+import objectos.http.Status;
 import objectos.way.Note;
 import objectos.way.Sql;
 
+/// Creates the shows of two days ahead, once a day. Alternatively, creates the
+/// shows of the range of dates given by the `from` and `to` query parameters,
+/// both inclusive, of at most [#MAX_DAYS] days. The catalog is reloaded
+/// whenever shows were created.
 final class LocalCreate implements Handler {
 
   private static final Note.Int1 CREATE_SHOW = Note.Int1.create(LocalCreate.class, "Create Show", Note.INFO);
 
+  private static final Note.Long1 CREATE_SHOW_RATE = Note.Long1.create(LocalCreate.class, "Create Show rows/s", Note.INFO);
+
+  // the days of shows created in each transaction
+  static final int CHUNK_DAYS = 7;
+
+  // the longest range of dates accepted in a single request
+  static final int MAX_DAYS = 366;
+
   private final AppCtx ctx;
 
   LocalCreate(AppCtx ctx) {
@@ -37,84 +52,155 @@ final class LocalCreate implements Handler {
 
   @Override
   public final Result handle(Request req) {
-    final int localId;
-    localId = 2;
+    final String fromParam;
+    fromParam = req.queryParam("from");
 
-    final Sql.Transaction trx;
-    trx = req.attr(Sql.Transaction.class);
+    final String toParam;
+    toParam = req.queryParam("to");
 
-    final LocalDate today;
-    today = ctx.today();
+    if (fromParam == null && toParam == null) {
+      final String text;
 
-    trx.sql("""
-    select
-      count(*)
-    from
-      LOCAL_LOG
-    where
-      LOCAL_ID = ?
-      and cast(LOCAL_TIME as date) = ?
-    """);
+      if (run(req)) {
+        text = "OK\n";
+      } else {
+        text = "Skipped: already executed\n";
+      }
+
+      return Content.of(MediaType.TEXT_PLAIN, text);
+    }
 
-    trx.param(localId);
+    final LocalDate from;
+    final LocalDate to;
 
-    trx.param(today);
+    try {
+      from = LocalDate.parse(String.valueOf(fromParam));
 
-    Integer _executions;
-    _executions = trx.querySingle((rs, idx) -> rs.getInt(idx++));
+      to = LocalDate.parse(String.valueOf(toParam));
+    } catch (DateTimeParseException e) {
+      return Status.BAD_REQUEST;
+    }
+
+    if (to.isBefore(from)) {
+      return Status.BAD_REQUEST;
+    }
+
+    if (ChronoUnit.DAYS.between(from, to) >= MAX_DAYS) {
+      return Status.BAD_REQUEST;
+    }
 
-    int executions;
-    executions = _executions.intValue();
+    final int count;
+    count = generate(req, from, to);
+
+    return Content.of(MediaType.TEXT_PLAIN, "OK: " + count + " shows\n");
+  }
+
+  /// Runs the daily job. Returns `false` if it already ran today. The request
+  /// is only read in testing mode, and may be `null` otherwise.
+  final boolean run(Request req) {
+    final LocalDateTime now;
+    now = ctx.now();
 
-    final String text;
+    final int count;
+    count = ctx.transaction(req, trx -> {
+      if (!AppJobs.claim(trx, AppJobs.CREATE_SHOW, now)) {
+        return -1;
+      }
 
-    if (executions > 0) {
-      text = "Skipped: already executed\n";
-    } else {
-      trx.sql("""
-      insert into
-        SHOW (SCREENING_ID, SHOWDATE, SHOWTIME, SEAT_PRICE)
-      select
-        SCREENING_ID,
-        dateadd (day, 2, '%1$s'),
-        SCREENING_TIME,
-        SEAT_PRICE
-      from
-        SCREENING_TIME
-      order by
-        1,
-        2,
-        3
-      """);
+      final LocalDate today;
+      today = now.toLocalDate();
 
-      trx.format(today);
+      final int created;
+      created = insert(trx, today.plusDays(2), 1);
 
-      int count;
-      count = trx.update();
+      ctx.send(CREATE_SHOW, created);
 
-      ctx.send(CREATE_SHOW, count);
+      AppJobs.log(trx, AppJobs.CREATE_SHOW, now);
 
-      log(trx, localId);
+      return created;
+    });
 
-      text = "OK\n";
+    if (count > 0) {
+      ctx.catalogChanged();
     }
 
-    return Content.of(MediaType.TEXT_PLAIN, text);
+    return count >= 0;
   }
 
-  private void log(Sql.Transaction trx, int id) {
-    final LocalDateTime now;
-    now = ctx.now();
+  /// Creates the shows of the specified range of dates, both inclusive, in
+  /// chunks of [#CHUNK_DAYS] days, each one in a transaction of its own.
+  /// Returns the number of shows created.
+  final int generate(Request req, LocalDate from, LocalDate to) {
+    final long startTime;
+    startTime = System.nanoTime();
+
+    final long totalDays;
+    totalDays = ChronoUnit.DAYS.between(from, to) + 1;
+
+    int total;
+    total = 0;
+
+    for (long offset = 0; offset < totalDays; offset += CHUNK_DAYS) {
+      final LocalDate first;
+      first = from.plusDays(offset);
+
+      final int days;
+      days = (int) Math.min(CHUNK_DAYS, totalDays - offset);
+
+      total += ctx.transaction(req, trx -> insert(trx, first, days));
+    }
+
+    final long nanos;
+    nanos = Math.max(System.nanoTime() - startTime, 1L);
+
+    ctx.send(CREATE_SHOW, total);
 
+    ctx.send(CREATE_SHOW_RATE, total * 1_000_000_000L / nanos);
+
+    if (total > 0) {
+      ctx.catalogChanged();
+    }
+
+    return total;
+  }
+
+  private int insert(Sql.Transaction trx, LocalDate first, int days) {
+    // a show already created is found through the SHOW unique key
     trx.sql("""
-    insert into LOCAL_LOG (LOCAL_ID, LOCAL_TIME) values (?, ?)
+    insert into
+      SHOW (SCREENING_ID, SHOWDATE, SHOWTIME, SEAT_PRICE)
+    select
+      SCREENING_TIME.SCREENING_ID,
+      dateadd(day, DAYS.X, cast(? as date)),
+      SCREENING_TIME.SCREENING_TIME,
+      SCREENING_TIME.SEAT_PRICE
+    from
+      system_range(0, ?) DAYS
+      cross join SCREENING_TIME
+    where
+      not exists (
+        select
+          1
+        from
+          SHOW
+        where
+          SHOW.SCREENING_ID = SCREENING_TIME.SCREENING_ID
+          and SHOW.SHOWDATE = dateadd(day, DAYS.X, cast(? as date))
+          and SHOW.SHOWTIME = SCREENING_TIME.SCREENING_TIME
+      )
+    order by
+      2,
+      1,
+      3
     """);
 
-    trx.param(id);
+    trx.param(first);
+
+    trx.param(days - 1);
 
-    trx.param(now);
+    trx.param(first);
 
-    trx.update();
+    return trx.update();
   }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (C) 2024-2026 Objectos Software LTDA.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package demo.landing.app;
+
+import objectos.http.Content;
+import objectos.http.Handler;
+import objectos.http.MediaType;
+import objectos.http.Request;
+import objectos.http.Result;
+
+/// Replaces the catalog snapshot with a newly loaded one. To be invoked after
+/// the catalog tables are changed outside of the application.
+final class LocalReload implements Handler {
+
+  private final AppCtx ctx;
+
+  LocalReload(AppCtx ctx) {
+    this.ctx = ctx;
+  }
+
+  @Override
+  public final Result handle(Request req) {
+    final AppCatalog catalog;
+    catalog = ctx.reloadCatalog();
+
+    return Content.of(MediaType.TEXT_PLAIN, "OK: version " + catalog.version() + "\n");
+  }
+
+}
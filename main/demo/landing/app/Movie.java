@@ -22,7 +22,6 @@ import objectos.http.Handler;
 import objectos.http.Request;
 import objectos.http.Result;
 import objectos.script.JsAction;
-import objectos.way.Sql;
 
 /// The `/movie/{id}` controller.
 final class Movie implements Handler {
@@ -35,14 +34,14 @@ final class Movie implements Handler {
 
   @Override
   public final Result handle(Request req) {
-    final Sql.Transaction trx;
-    trx = req.attr(Sql.Transaction.class);
+    final AppCatalog catalog;
+    catalog = ctx.catalog(req);
 
     final int movieId;
     movieId = req.pathParamAsInt("id", Integer.MIN_VALUE);
 
     final Optional<MovieDetails> maybeDetails;
-    maybeDetails = MovieDetails.queryOptional(trx, movieId);
+    maybeDetails = catalog.movieDetails(movieId);
 
     if (maybeDetails.isEmpty()) {
       return req;
@@ -58,7 +57,7 @@ final class Movie implements Handler {
     now = ctx.now();
 
     final List<MovieScreening> rows;
-    rows = MovieScreening.query(trx, movieId, now);
+    rows = catalog.movieScreenings(movieId, now);
 
     final List<MovieView.Screening> screenings;
     screenings = rows.stream().map(row -> toUi(reservation, row)).toList();
@@ -70,6 +69,7 @@ final class Movie implements Handler {
 
       opts.sources = List.of(
           Source.Movie,
+          Source.AppCatalog,
           Source.MovieDetails,
           Source.MovieScreening,
           Source.MovieShowtime,
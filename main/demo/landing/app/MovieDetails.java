@@ -15,9 +15,6 @@
  */
 package demo.landing.app;
 
-import module java.base;
-import module objectos.way;
-
 /// The details of a particular movie.
 record MovieDetails(
     int movieId,
@@ -26,44 +23,4 @@ record MovieDetails(
     String releaseDate,
     String genres,
     String synopsys
-) {
-
-  MovieDetails(ResultSet rs, int idx) throws SQLException {
-    this(
-        rs.getInt(idx++),
-        rs.getString(idx++),
-        rs.getString(idx++),
-        rs.getString(idx++),
-        rs.getString(idx++),
-        rs.getString(idx++)
-    );
-  }
-
-  public static Optional<MovieDetails> queryOptional(Sql.Transaction trx, int id) {
-    trx.sql("""
-    select
-      MOVIE.MOVIE_ID,
-      MOVIE.TITLE,
-      concat (MOVIE.RUNTIME / 60, 'h ', MOVIE.RUNTIME % 60, 'm'),
-      formatdatetime (MOVIE.RELEASE_DATE, 'MMM dd, yyyy'),
-      listagg (GENRE.NAME, ', ') within group (
-        order by
-          GENRE.NAME
-      ),
-      MOVIE.SYNOPSYS
-    from
-      MOVIE
-      natural join MOVIE_GENRE
-      natural join GENRE
-    where
-      MOVIE.MOVIE_ID = ?
-    group by
-      MOVIE.MOVIE_ID
-    """);
-
-    trx.param(id);
-
-    return trx.queryOptional(MovieDetails::new);
-  }
-
-}
\ No newline at end of file
+) {}
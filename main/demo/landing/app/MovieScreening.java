@@ -15,8 +15,7 @@
  */
 package demo.landing.app;
 
-import module java.base;
-import module objectos.way;
+import java.util.List;
 
 /// The showing of a movie in this theater.
 record MovieScreening(
@@ -25,75 +24,4 @@ record MovieScreening(
     String features,
     String date,
     List<MovieShowtime> showtimes
-) {
-
-  MovieScreening(ResultSet rs, int idx) throws SQLException {
-    this(
-        rs.getInt(idx++),
-        rs.getString(idx++),
-        rs.getString(idx++),
-        rs.getString(idx++),
-        MovieShowtime.of(rs.getArray(idx++))
-    );
-  }
-
-  public static List<MovieScreening> query(Sql.Transaction trx, int id, LocalDateTime dateTime) {
-    trx.sql("""
-    select
-      SCREEN.SCREEN_ID,
-      SCREEN.NAME,
-      (
-        select
-          listagg (FEATURE.NAME, ', ') within group (order by FEATURE.FEATURE_ID)
-        from
-          SCREENING_FEATURE
-          natural join FEATURE
-        where
-          SCREENING_FEATURE.SCREENING_ID = SCREENING.SCREENING_ID
-        group by
-          SCREENING_FEATURE.SCREENING_ID
-      ) as F,
-      formatdatetime(SHOW.SHOWDATE, 'EEE dd/LLL'),
-      array_agg (
-        array [cast(SHOW.SHOW_ID as varchar), formatdatetime(SHOW.SHOWTIME, 'kk:mm')]
-        order by SHOW.SHOWTIME
-      )
-    from
-      SHOW
-      natural join SCREENING
-      natural join SCREEN
-    where
-      SCREENING.MOVIE_ID = ?
-      and (
-        (
-          SHOW.SHOWDATE = ?
-          and SHOW.SHOWTIME > ?
-        )
-        or SHOW.SHOWDATE > ?
-      )
-    group by
-      SHOW.SHOWDATE,
-      SCREEN.SCREEN_ID
-    order by
-      SHOW.SHOWDATE,
-      SCREEN.SCREEN_ID
-    """);
-
-    trx.param(id);
-
-    final LocalDate date;
-    date = dateTime.toLocalDate();
-
-    trx.param(date);
-
-    final LocalTime time;
-    time = dateTime.toLocalTime();
-
-    trx.param(time);
-
-    trx.param(date);
-
-    return trx.query(MovieScreening::new);
-  }
-
-}
\ No newline at end of file
+) {}
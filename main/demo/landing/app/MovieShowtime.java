@@ -15,41 +15,5 @@
  */
 package demo.landing.app;
 
-import java.sql.Array;
-import java.sql.SQLException;
-import module java.base;
-
 /// The time of a particular movie screening.
-record MovieShowtime(int showId, String time) {
-
-  private MovieShowtime(Object[] row) {
-    this(
-        Integer.parseInt(row[0].toString()),
-        row[1].toString()
-    );
-  }
-
-  static List<MovieShowtime> of(Array array) throws SQLException {
-    Object[] values;
-    values = (Object[]) array.getArray();
-
-    List<MovieShowtime> list;
-    list = new ArrayList<>(values.length);
-
-    for (Object value : values) {
-      Array inner;
-      inner = (Array) value;
-
-      Object[] row;
-      row = (Object[]) inner.getArray();
-
-      MovieShowtime showtime;
-      showtime = new MovieShowtime(row);
-
-      list.add(showtime);
-    }
-
-    return List.copyOf(list);
-  }
-
-}
\ No newline at end of file
+record MovieShowtime(int showId, String time) {}
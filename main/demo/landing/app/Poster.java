@@ -15,34 +15,235 @@
  */
 package demo.landing.app;
 
+import java.util.Optional;
 import objectos.http.Handler;
+import objectos.http.HeaderName;
 import objectos.http.Request;
+import objectos.http.Response;
 import objectos.http.Result;
-import objectos.http.StaticFile;
-import objectos.way.Sql;
+import objectos.http.Status;
 
+/// The `/poster-{id}.jpg` and `/poster-{id}-{size}.jpg` controller. Posters
+/// are served from a cache or from the poster store, and revalidations are
+/// answered with a `304` without reading the poster. Single byte ranges are
+/// supported.
 final class Poster implements Handler {
 
+  // posters only change through migrations
+  static final String CACHE_CONTROL = "public, max-age=86400";
+
+  /// A single byte range of a poster.
+  record Range(int offset, int length) {
+
+    /// A range not overlapping the poster.
+    static final Range UNSATISFIABLE = new Range(-1, -1);
+
+    /// Parses the specified `Range` header value. Returns `null` if the
+    /// value is absent, invalid or not supported, in which case the whole
+    /// poster is sent.
+    static Range parse(String value, int size) {
+      if (value == null || !value.startsWith("bytes=")) {
+        return null;
+      }
+
+      final String spec;
+      spec = value.substring("bytes=".length()).trim();
+
+      // multiple ranges are not supported
+      if (spec.indexOf(',') >= 0) {
+        return null;
+      }
+
+      final int dash;
+      dash = spec.indexOf('-');
+
+      if (dash < 0) {
+        return null;
+      }
+
+      final long first;
+      first = parseLong(spec.substring(0, dash).trim());
+
+      final long last;
+      last = parseLong(spec.substring(dash + 1).trim());
+
+      if (first == -1L) {
+        // suffix range: the last N bytes
+        if (last == -1L) {
+          return null;
+        }
+
+        if (last == 0L) {
+          return UNSATISFIABLE;
+        }
+
+        final long start;
+        start = Math.max(0L, size - last);
+
+        return new Range((int) start, (int) (size - start));
+      }
+
+      if (first >= size) {
+        return UNSATISFIABLE;
+      }
+
+      final long end;
+      end = last == -1L ? size - 1 : Math.min(last, size - 1);
+
+      if (end < first) {
+        return null;
+      }
+
+      return new Range((int) first, (int) (end - first + 1));
+    }
+
+    // returns -1 for an empty or invalid value
+    private static long parseLong(String s) {
+      if (s.isEmpty() || s.length() > 18) {
+        return -1L;
+      }
+
+      long result;
+      result = 0L;
+
+      for (int idx = 0, len = s.length(); idx < len; idx++) {
+        final char c;
+        c = s.charAt(idx);
+
+        if (c < '0' || c > '9') {
+          return -1L;
+        }
+
+        result = result * 10 + (c - '0');
+      }
+
+      return result;
+    }
+
+  }
+
+  private final AppCtx ctx;
+
+  Poster(AppCtx ctx) {
+    this.ctx = ctx;
+  }
+
   @Override
   public final Result handle(Request req) {
     final int id;
     id = req.pathParamAsInt("id", Integer.MIN_VALUE);
 
-    if (id < 1) {
+    final AppCatalog catalog;
+    catalog = ctx.catalog(req);
+
+    if (!catalog.containsMovie(id)) {
       return req;
     }
 
-    if (id > 4) {
+    final String key;
+    key = req.pathParam("size");
+
+    final PosterImages.Size variant;
+    variant = key != null ? PosterImages.Size.parse(key) : PosterImages.Size.FULL;
+
+    if (variant == null) {
       return req;
     }
 
-    final Sql.Transaction trx;
-    trx = req.attr(Sql.Transaction.class);
+    final Optional<PosterModel> maybe;
+    maybe = ctx.poster(req, id, variant);
+
+    if (maybe.isEmpty()) {
+      return req;
+    }
 
     final PosterModel model;
-    model = PosterModel.query(trx, id);
+    model = maybe.get();
+
+    final String etag;
+    etag = model.etag();
+
+    final String ifNoneMatch;
+    ifNoneMatch = req.header(HeaderName.IF_NONE_MATCH);
+
+    if (AppCtx.ifNoneMatch(ifNoneMatch, etag)) {
+      return Response.create(opts -> {
+        opts.status(Status.NOT_MODIFIED);
+
+        opts.date();
+
+        opts.header(HeaderName.ETAG, etag);
+
+        opts.header(HeaderName.CACHE_CONTROL, CACHE_CONTROL);
+      });
+    }
+
+    final int size;
+    size = model.length();
+
+    final Range range;
+    range = range(req, etag, size);
+
+    if (range == Range.UNSATISFIABLE) {
+      return Response.create(opts -> {
+        opts.status(Status.RANGE_NOT_SATISFIABLE);
+
+        opts.date();
+
+        opts.header(HeaderName.CONTENT_RANGE, "bytes */" + size);
+      });
+    }
+
+    if (range != null) {
+      final int offset;
+      offset = range.offset();
+
+      final int length;
+      length = range.length();
+
+      return Response.create(opts -> {
+        opts.status(Status.PARTIAL_CONTENT);
+
+        opts.date();
+
+        opts.header(HeaderName.ETAG, etag);
+
+        opts.header(HeaderName.CACHE_CONTROL, CACHE_CONTROL);
+
+        opts.header(HeaderName.CONTENT_RANGE, "bytes " + offset + "-" + (offset + length - 1) + "/" + size);
+
+        opts.send(model.toContent(offset, length));
+      });
+    }
+
+    return Response.create(opts -> {
+      opts.status(Status.OK);
+
+      opts.date();
+
+      opts.header(HeaderName.ETAG, etag);
+
+      opts.header(HeaderName.CACHE_CONTROL, CACHE_CONTROL);
+
+      opts.header(HeaderName.ACCEPT_RANGES, "bytes");
+
+      opts.send(model.toContent());
+    });
+  }
+
+  private Range range(Request req, String etag, int size) {
+    // a range of a different representation must be ignored
+    final String ifRange;
+    ifRange = req.header(HeaderName.IF_RANGE);
+
+    if (ifRange != null && !ifRange.equals(etag)) {
+      return null;
+    }
+
+    final String value;
+    value = req.header(HeaderName.RANGE);
 
-    return StaticFile.of(model);
+    return Range.parse(value, size);
   }
 
 }
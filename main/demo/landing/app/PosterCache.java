@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2024-2026 Objectos Software LTDA.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package demo.landing.app;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/// A size-capped, least recently used, cache of movie posters. The size is
+/// the sum of the lengths of the cached images.
+final class PosterCache {
+
+  private final long maxSize;
+
+  // access-ordered: the eldest entry is the least recently used one
+  private final LinkedHashMap<Integer, PosterModel> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+  private long size;
+
+  PosterCache(long maxSize) {
+    this.maxSize = maxSize;
+  }
+
+  final synchronized PosterModel get(int movieId) {
+    return entries.get(movieId);
+  }
+
+  final synchronized void put(int movieId, PosterModel poster) {
+    final int length;
+    length = poster.length();
+
+    if (length > maxSize) {
+      return;
+    }
+
+    final PosterModel previous;
+    previous = entries.put(movieId, poster);
+
+    if (previous != null) {
+      size -= previous.length();
+    }
+
+    size += length;
+
+    final Iterator<Map.Entry<Integer, PosterModel>> iterator;
+    iterator = entries.entrySet().iterator();
+
+    while (size > maxSize && iterator.hasNext()) {
+      final Map.Entry<Integer, PosterModel> eldest;
+      eldest = iterator.next();
+
+      if (eldest.getKey() == movieId) {
+        continue;
+      }
+
+      final PosterModel evicted;
+      evicted = eldest.getValue();
+
+      size -= evicted.length();
+
+      iterator.remove();
+    }
+  }
+
+  final synchronized long size() {
+    return size;
+  }
+
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright (C) 2024-2026 Objectos Software LTDA.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package demo.landing.app;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import objectos.way.Note;
+import objectos.way.Sql;
+
+/// Generates the downscaled variants of the movie posters. The Home grid
+/// displays posters at thumbnail size, so sending the full image there is a
+/// waste of bytes.
+final class PosterImages {
+
+  /// The size of a poster variant.
+  enum Size {
+
+    /// The Home grid size.
+    THUMB("thumb", 128),
+
+    /// The Home grid size on high density displays.
+    CARD("card", 256),
+
+    /// The poster as stored in the database.
+    FULL("full", 0);
+
+    final String key;
+
+    final int width;
+
+    private Size(String key, int width) {
+      this.key = key;
+
+      this.width = width;
+    }
+
+    /// Returns the size of the specified key, or `null` if there is none.
+    static Size parse(String key) {
+      for (Size size : values()) {
+        if (size.key.equals(key)) {
+          return size;
+        }
+      }
+
+      return null;
+    }
+
+  }
+
+  /// The downscaled variants of a single poster along with a placeholder:
+  /// the CSS color the poster averages to.
+  record Variants(PosterModel thumb, PosterModel card, String placeholder) {
+
+    /// Returns the variant of the specified size. Returns `null` for the
+    /// `FULL` size which is served from the original poster.
+    final PosterModel get(Size size) {
+      return switch (size) {
+        case THUMB -> thumb;
+
+        case CARD -> card;
+
+        case FULL -> null;
+      };
+    }
+
+  }
+
+  private static final float QUALITY = 0.8f;
+
+  private static final Note.Int1 NOT_DECODED = Note.Int1.create(PosterImages.class, "Poster not decoded", Note.WARN);
+
+  private record Row(int movieId, byte[] data) {
+    Row(ResultSet rs, int idx) throws SQLException {
+      this(
+          rs.getInt(idx++),
+          rs.getBytes(idx++)
+      );
+    }
+  }
+
+  private PosterImages() {}
+
+  /// Generates the variants of every poster of the MOVIE_POSTER table. A
+  /// poster that cannot be decoded has no variants: it is reported to the
+  /// specified sink, and its movie is served the full poster.
+  public static Map<Integer, Variants> generate(Sql.Transaction trx, Note.Sink noteSink) {
+    trx.sql("""
+    select
+      MOVIE_ID,
+      DATA
+    from
+      MOVIE_POSTER
+    order by
+      MOVIE_ID
+    """);
+
+    final List<Row> rows;
+    rows = trx.query(Row::new);
+
+    final Map<Integer, Variants> result;
+    result = HashMap.newHashMap(rows.size());
+
+    for (Row row : rows) {
+      final int movieId;
+      movieId = row.movieId();
+
+      try {
+        result.put(movieId, variants(row.data()));
+      } catch (IOException e) {
+        noteSink.send(NOT_DECODED, movieId);
+      }
+    }
+
+    return Map.copyOf(result);
+  }
+
+  /// Generates the variants of the specified JPEG image.
+  public static Variants variants(byte[] jpeg) throws IOException {
+    final BufferedImage image;
+    image = ImageIO.read(new ByteArrayInputStream(jpeg));
+
+    if (image == null) {
+      throw new IOException("Not a supported image");
+    }
+
+    final BufferedImage thumbImage;
+    thumbImage = scale(image, Size.THUMB.width);
+
+    final PosterModel thumb;
+    thumb = encode(thumbImage);
+
+    final PosterModel card;
+    card = encode(scale(image, Size.CARD.width));
+
+    final String placeholder;
+    // the thumbnail averages to (nearly) the same color for a fraction of the work
+    placeholder = placeholder(thumbImage);
+
+    return new Variants(thumb, card, placeholder);
+  }
+
+  // never upscales
+  private static BufferedImage scale(BufferedImage image, int width) {
+    final int sourceWidth;
+    sourceWidth = image.getWidth();
+
+    if (sourceWidth <= width) {
+      return image;
+    }
+
+    final int height;
+    height = Math.max(1, Math.round((float) image.getHeight() * width / sourceWidth));
+
+    final BufferedImage result;
+    result = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+
+    final Graphics2D g;
+    g = result.createGraphics();
+
+    try {
+      g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+
+      g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+
+      g.drawImage(image, 0, 0, width, height, null);
+    } finally {
+      g.dispose();
+    }
+
+    return result;
+  }
+
+  private static PosterModel encode(BufferedImage image) throws IOException {
+    final ImageWriter writer;
+    writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+
+    final ImageWriteParam param;
+    param = writer.getDefaultWriteParam();
+
+    param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+
+    param.setCompressionQuality(QUALITY);
+
+    final ByteArrayOutputStream out;
+    out = new ByteArrayOutputStream();
+
+    try (ImageOutputStream stream = ImageIO.createImageOutputStream(out)) {
+      writer.setOutput(stream);
+
+      writer.write(null, new IIOImage(image, null, null), param);
+    } finally {
+      writer.dispose();
+    }
+
+    final byte[] data;
+    data = out.toByteArray();
+
+    return new PosterModel(data);
+  }
+
+  // the average color of the image
+  private static String placeholder(BufferedImage image) {
+    final int width;
+    width = image.getWidth();
+
+    final int height;
+    height = image.getHeight();
+
+    long r = 0, g = 0, b = 0;
+
+    for (int y = 0; y < height; y++) {
+      for (int x = 0; x < width; x++) {
+        final int rgb;
+        rgb = image.getRGB(x, y);
+
+        r += (rgb >> 16) & 0xFF;
+
+        g += (rgb >> 8) & 0xFF;
+
+        b += rgb & 0xFF;
+      }
+    }
+
+    final long count;
+    count = (long) width * height;
+
+    return String.format("#%02x%02x%02x", r / count, g / count, b / count);
+  }
+
+}
@@ -17,12 +17,15 @@ package demo.landing.app;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Optional;
 import objectos.http.Content;
 import objectos.http.ContentProvider;
 import objectos.http.MediaType;
 import objectos.way.Sql;
 
-record PosterModel(byte[] data) implements ContentProvider {
+/// A movie poster along with its entity tag.
+record PosterModel(byte[] data, String etag) implements ContentProvider {
 
   private PosterModel(ResultSet rs, int idx) throws SQLException {
     this(
@@ -30,7 +33,11 @@ record PosterModel(byte[] data) implements ContentProvider {
     );
   }
 
-  public static PosterModel query(Sql.Transaction trx, int id) {
+  PosterModel(byte[] data) {
+    this(data, "\"" + AppCtx.hash(data) + "\"");
+  }
+
+  public static Optional<PosterModel> queryOptional(Sql.Transaction trx, int id) {
     trx.sql("""
     select
       DATA
@@ -42,7 +49,12 @@ record PosterModel(byte[] data) implements ContentProvider {
 
     trx.param(id);
 
-    return trx.querySingle(PosterModel::new);
+    return trx.queryOptional(PosterModel::new);
+  }
+
+  /// The `Content-Length` of this poster.
+  public final int length() {
+    return data.length;
   }
 
   @Override
@@ -50,4 +62,13 @@ record PosterModel(byte[] data) implements ContentProvider {
     return Content.of(MediaType.IMAGE_JPEG, data);
   }
 
+  /// The specified range of this poster.
+  public final Content toContent(int offset, int length) {
+    if (offset == 0 && length == data.length) {
+      return toContent();
+    }
+
+    return Content.of(MediaType.IMAGE_JPEG, Arrays.copyOfRange(data, offset, offset + length));
+  }
+
 }
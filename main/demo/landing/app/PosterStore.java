@@ -0,0 +1,200 @@
+/*
+ * Copyright (C) 2024-2026 Objectos Software LTDA.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package demo.landing.app;
+
+import module java.base;
+import module objectos.way;
+
+/// An optional store of the movie posters: a single file holding every poster
+/// followed by an index. The file is memory-mapped, so posters are served
+/// without JDBC and without keeping the images in the Java heap. Each
+/// response copies its poster out of the mapping, as [Content] only accepts
+/// a `byte[]`.
+///
+/// The file layout is: the posters, one after the other; the index, one
+/// `(movie id, offset, length, hash)` entry per poster; a trailer holding the
+/// index offset, the number of posters and a magic number. The hash is
+/// computed on export, so opening the store does not hash the posters again.
+final class PosterStore {
+
+  private static final int MAGIC = 0x504F5332; // POS2
+
+  private static final int ENTRY = 20;
+
+  private static final int TRAILER = 12;
+
+  private record Entry(int offset, int length, String etag) {}
+
+  private record Row(int movieId, byte[] data) {
+    Row(ResultSet rs, int idx) throws SQLException {
+      this(
+          rs.getInt(idx++),
+          rs.getBytes(idx++)
+      );
+    }
+  }
+
+  private final ByteBuffer buffer;
+
+  private final Map<Integer, Entry> index;
+
+  private PosterStore(ByteBuffer buffer, Map<Integer, Entry> index) {
+    this.buffer = buffer;
+
+    this.index = index;
+  }
+
+  /// Exports the posters of the MOVIE_POSTER table to the specified file,
+  /// replacing it, and opens the resulting store.
+  public static PosterStore export(Sql.Transaction trx, Path file) throws IOException {
+    trx.sql("""
+    select
+      MOVIE_ID,
+      DATA
+    from
+      MOVIE_POSTER
+    order by
+      MOVIE_ID
+    """);
+
+    final List<Row> rows;
+    rows = trx.query(Row::new);
+
+    final Path tmp;
+    tmp = file.resolveSibling(file.getFileName() + ".tmp");
+
+    try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+      int offset;
+      offset = 0;
+
+      final ByteBuffer entries;
+      entries = ByteBuffer.allocate(rows.size() * ENTRY + TRAILER);
+
+      for (Row row : rows) {
+        final byte[] data;
+        data = row.data();
+
+        write(channel, ByteBuffer.wrap(data));
+
+        entries.putInt(row.movieId());
+
+        entries.putInt(offset);
+
+        entries.putInt(data.length);
+
+        entries.putLong(HexFormat.fromHexDigitsToLong(AppCtx.hash(data)));
+
+        offset += data.length;
+      }
+
+      entries.putInt(offset);
+
+      entries.putInt(rows.size());
+
+      entries.putInt(MAGIC);
+
+      entries.flip();
+
+      write(channel, entries);
+    }
+
+    Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+    return open(file);
+  }
+
+  private static void write(FileChannel channel, ByteBuffer buffer) throws IOException {
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+  }
+
+  /// Opens an existing store.
+  public static PosterStore open(Path file) throws IOException {
+    final MappedByteBuffer buffer;
+
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      // the mapping remains valid after the channel is closed
+      buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    }
+
+    final int size;
+    size = buffer.capacity();
+
+    if (size < TRAILER || buffer.getInt(size - 4) != MAGIC) {
+      throw new IOException(file + ": not a poster store");
+    }
+
+    final int indexOffset;
+    indexOffset = buffer.getInt(size - TRAILER);
+
+    final int count;
+    count = buffer.getInt(size - TRAILER + 4);
+
+    final HexFormat hexFormat;
+    hexFormat = HexFormat.of();
+
+    final Map<Integer, Entry> index;
+    index = HashMap.newHashMap(count);
+
+    for (int idx = 0; idx < count; idx++) {
+      final int position;
+      position = indexOffset + idx * ENTRY;
+
+      final int movieId;
+      movieId = buffer.getInt(position);
+
+      final int offset;
+      offset = buffer.getInt(position + 4);
+
+      final int length;
+      length = buffer.getInt(position + 8);
+
+      // the hash was computed on export: the posters are not read here
+      final long hash;
+      hash = buffer.getLong(position + 12);
+
+      final String etag;
+      etag = "\"" + hexFormat.toHexDigits(hash) + "\"";
+
+      index.put(movieId, new Entry(offset, length, etag));
+    }
+
+    return new PosterStore(buffer, Map.copyOf(index));
+  }
+
+  /// Returns the poster of the specified movie, if one exists. The poster is
+  /// copied out of the mapping on every call, and is not retained.
+  public final Optional<PosterModel> get(int movieId) {
+    final Entry entry;
+    entry = index.get(movieId);
+
+    if (entry == null) {
+      return Optional.empty();
+    }
+
+    final byte[] data;
+    data = new byte[entry.length()];
+
+    // absolute bulk get: safe for concurrent readers
+    buffer.get(entry.offset(), data);
+
+    return Optional.of(
+        new PosterModel(data, entry.etag())
+    );
+  }
+
+}
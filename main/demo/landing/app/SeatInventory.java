@@ -0,0 +1,256 @@
+/*
+ * Copyright (C) 2024-2026 Objectos Software LTDA.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package demo.landing.app;
+
+import module java.base;
+import module objectos.way;
+
+/// The in-memory seat inventory: the seats selected for each show. Seats are
+/// claimed and released with a compare-and-set of the show's 128-bit cell
+/// mask, so conflicting selections are rejected before any SQL runs.
+///
+/// The inventory is a write-through view of the SELECTION table: accepted
+/// selections are still persisted, in the request transaction, and the
+/// table's unique constraint remains the final arbiter. The state of a show
+/// is loaded from the table on its first use.
+final class SeatInventory {
+
+  /// A set of cells of a seat map.
+  record Mask(long lo, long hi) {
+
+    static final Mask EMPTY = new Mask(0L, 0L);
+
+    static Mask of(SeatMap map, int[] seatIds) {
+      long lo = 0L, hi = 0L;
+
+      for (int seatId : seatIds) {
+        final int cell;
+        cell = map.cell(seatId);
+
+        if (cell < 0) {
+          return null;
+        }
+
+        if (cell < 64) {
+          lo |= 1L << cell;
+        } else {
+          hi |= 1L << (cell - 64);
+        }
+      }
+
+      return new Mask(lo, hi);
+    }
+
+    final Mask andNot(Mask other) {
+      return new Mask(lo & ~other.lo, hi & ~other.hi);
+    }
+
+    final boolean intersects(Mask other) {
+      return (lo & other.lo) != 0 || (hi & other.hi) != 0;
+    }
+
+    final Mask or(Mask other) {
+      return new Mask(lo | other.lo, hi | other.hi);
+    }
+
+  }
+
+  private record Selected(long reservationId, int seatId) {
+    Selected(ResultSet rs, int idx) throws SQLException {
+      this(
+          rs.getLong(idx++),
+          rs.getInt(idx++)
+      );
+    }
+  }
+
+  private static final class Show {
+
+    // the cells selected by any reservation
+    final AtomicReference<Mask> taken;
+
+    // the cells selected by each reservation. A reservation belongs to a
+    // single user, so its entry is not updated concurrently
+    final ConcurrentHashMap<Long, Mask> holdings;
+
+    Show(Mask taken, Map<Long, Mask> holdings) {
+      this.taken = new AtomicReference<>(taken);
+
+      this.holdings = new ConcurrentHashMap<>(holdings);
+    }
+
+  }
+
+  private final ConcurrentHashMap<Integer, Show> shows = new ConcurrentHashMap<>();
+
+  // incremented by every clear: a state loaded across a clear may have been
+  // read before the selections were removed, and is not published
+  private final AtomicLong generation = new AtomicLong();
+
+  /// Claims the specified seats for the specified reservation, replacing its
+  /// previous claim. Returns `false` if any of the seats is claimed by another
+  /// reservation.
+  ///
+  /// Seats not in the map are not claimed: the selection is then left for
+  /// the database to reject.
+  public final boolean claim(Sql.Transaction trx, SeatMap map, int showId, long reservationId, int[] seatIds) {
+    final Mask want;
+    want = Mask.of(map, seatIds);
+
+    if (want == null) {
+      return true;
+    }
+
+    final Show show;
+    show = show(trx, map, showId);
+
+    while (true) {
+      final Mask current;
+      current = show.taken.get();
+
+      final Mask previous;
+      previous = show.holdings.getOrDefault(reservationId, Mask.EMPTY);
+
+      final Mask others;
+      others = current.andNot(previous);
+
+      if (others.intersects(want)) {
+        return false;
+      }
+
+      if (show.taken.compareAndSet(current, others.or(want))) {
+        show.holdings.put(reservationId, want);
+
+        return true;
+      }
+    }
+  }
+
+  /// Releases the seats claimed by the specified reservation, if any.
+  public final void release(int showId, long reservationId) {
+    final Show show;
+    show = shows.get(showId);
+
+    if (show == null) {
+      return;
+    }
+
+    final Mask previous;
+    previous = show.holdings.remove(reservationId);
+
+    if (previous == null) {
+      return;
+    }
+
+    while (true) {
+      final Mask current;
+      current = show.taken.get();
+
+      if (show.taken.compareAndSet(current, current.andNot(previous))) {
+        return;
+      }
+    }
+  }
+
+  /// Discards the state of every show. It is loaded again on next use.
+  public final void clear() {
+    generation.incrementAndGet();
+
+    shows.clear();
+  }
+
+  /// Discards the state of the specified show. It is loaded again on next
+  /// use.
+  public final void clear(int showId) {
+    generation.incrementAndGet();
+
+    shows.remove(showId);
+  }
+
+  private Show show(Sql.Transaction trx, SeatMap map, int showId) {
+    while (true) {
+      final Show existing;
+      existing = shows.get(showId);
+
+      if (existing != null) {
+        return existing;
+      }
+
+      final long expected;
+      expected = generation.get();
+
+      // loaded outside of the map lock: concurrent loads keep the first one
+      final Show loaded;
+      loaded = load(trx, map, showId);
+
+      // published under the lock of the key, after the generation increment
+      // of any clear removing it
+      final Show current;
+      current = shows.compute(showId, (key, value) -> {
+        if (value != null) {
+          return value;
+        }
+
+        return generation.get() == expected ? loaded : null;
+      });
+
+      if (current != null) {
+        return current;
+      }
+
+      // cleared while loading: load again
+    }
+  }
+
+  private Show load(Sql.Transaction trx, SeatMap map, int showId) {
+    trx.sql("""
+    select
+      RESERVATION_ID,
+      SEAT_ID
+    from
+      SELECTION
+    where
+      SHOW_ID = ?
+    """);
+
+    trx.param(showId);
+
+    final List<Selected> selected;
+    selected = trx.query(Selected::new);
+
+    Mask taken;
+    taken = Mask.EMPTY;
+
+    final Map<Long, Mask> holdings;
+    holdings = new HashMap<>();
+
+    for (Selected seat : selected) {
+      final Mask cell;
+      cell = Mask.of(map, new int[] {seat.seatId()});
+
+      if (cell == null) {
+        continue;
+      }
+
+      taken = taken.or(cell);
+
+      holdings.merge(seat.reservationId(), cell, Mask::or);
+    }
+
+    return new Show(taken, holdings);
+  }
+
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (C) 2024-2026 Objectos Software LTDA.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package demo.landing.app;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/// A fixed set of locks serializing the seat selections of each show. A show
+/// is always guarded by the same lock, and a lock may guard more than one
+/// show. So selections for the same show run one at a time while selections
+/// for different shows run in parallel, save for the occasional shared
+/// stripe.
+final class SeatLocks {
+
+  private final ReentrantLock[] stripes;
+
+  SeatLocks(int size) {
+    stripes = new ReentrantLock[size];
+
+    for (int idx = 0; idx < size; idx++) {
+      stripes[idx] = new ReentrantLock();
+    }
+  }
+
+  /// Returns the lock guarding the specified show.
+  final ReentrantLock get(int showId) {
+    // show ids are sequential: consecutive shows get distinct stripes
+    final int idx;
+    idx = Math.floorMod(showId, stripes.length);
+
+    return stripes[idx];
+  }
+
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (C) 2024-2026 Objectos Software LTDA.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package demo.landing.app;
+
+import java.util.Arrays;
+
+/// The immutable seat layout of a screen: a 10x10 grid of cells, some of which
+/// hold a seat. A cell is identified by its index `gridY * 10 + gridX`, so a
+/// set of cells fits in a 128-bit mask, stored as two `long` values.
+final class SeatMap {
+
+  static final int COLUMNS = 10;
+
+  static final int ROWS = 10;
+
+  static final int CELLS = ROWS * COLUMNS;
+
+  /// The map of a screen without seats.
+  static final SeatMap EMPTY = of(empty());
+
+  // the cells holding a seat
+  private final long layoutLo;
+
+  private final long layoutHi;
+
+  // the seat id of each cell, -1 for an empty cell
+  private final int[] seatIds;
+
+  // the seat ids in ascending order along with the cell of each one
+  private final int[] sortedIds;
+
+  private final byte[] sortedCells;
+
+  private SeatMap(long layoutLo, long layoutHi, int[] seatIds, int[] sortedIds, byte[] sortedCells) {
+    this.layoutLo = layoutLo;
+
+    this.layoutHi = layoutHi;
+
+    this.seatIds = seatIds;
+
+    this.sortedIds = sortedIds;
+
+    this.sortedCells = sortedCells;
+  }
+
+  /// Creates a new seat map from the seat id of each cell, `-1` denoting an
+  /// empty cell.
+  static SeatMap of(int[] seatIds) {
+    if (seatIds.length != CELLS) {
+      throw new IllegalArgumentException("seatIds.length != " + CELLS);
+    }
+
+    final int[] cells;
+    cells = seatIds.clone();
+
+    long lo = 0L, hi = 0L;
+
+    int count;
+    count = 0;
+
+    for (int cell = 0; cell < CELLS; cell++) {
+      if (cells[cell] < 0) {
+        continue;
+      }
+
+      if (cell < 64) {
+        lo |= 1L << cell;
+      } else {
+        hi |= 1L << (cell - 64);
+      }
+
+      count++;
+    }
+
+    // (seat id << 8 | cell) sorts by seat id
+    final long[] pairs;
+    pairs = new long[count];
+
+    int idx;
+    idx = 0;
+
+    for (int cell = 0; cell < CELLS; cell++) {
+      final int seatId;
+      seatId = cells[cell];
+
+      if (seatId >= 0) {
+        pairs[idx++] = (long) seatId << 8 | cell;
+      }
+    }
+
+    Arrays.sort(pairs);
+
+    final int[] sortedIds;
+    sortedIds = new int[count];
+
+    final byte[] sortedCells;
+    sortedCells = new byte[count];
+
+    for (int i = 0; i < count; i++) {
+      sortedIds[i] = (int) (pairs[i] >>> 8);
+
+      sortedCells[i] = (byte) pairs[i];
+    }
+
+    return new SeatMap(lo, hi, cells, sortedIds, sortedCells);
+  }
+
+  private static int[] empty() {
+    final int[] seatIds;
+    seatIds = new int[CELLS];
+
+    Arrays.fill(seatIds, -1);
+
+    return seatIds;
+  }
+
+  /// The number of seats.
+  final int seats() {
+    return sortedIds.length;
+  }
+
+  /// Tests if the specified cell holds a seat.
+  final boolean hasSeat(int cell) {
+    return test(layoutLo, layoutHi, cell);
+  }
+
+  /// The seat id of the specified cell, or `-1` if the cell is empty.
+  final int seatId(int cell) {
+    return seatIds[cell];
+  }
+
+  /// The cell of the specified seat, or `-1` if the seat is not in this map.
+  final int cell(int seatId) {
+    final int idx;
+    idx = Arrays.binarySearch(sortedIds, seatId);
+
+    return idx >= 0 ? sortedCells[idx] : -1;
+  }
+
+  /// Tests if the specified cell is in the mask given by the two `long` values.
+  static boolean test(long lo, long hi, int cell) {
+    return cell < 64
+        ? (lo & (1L << cell)) != 0
+        : (hi & (1L << (cell - 64))) != 0;
+  }
+
+}
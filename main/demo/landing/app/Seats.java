@@ -42,27 +42,39 @@ final class Seats implements Handler {
     final int showId;
     showId = id & 0xFFFF;
 
+    final AppCatalog catalog;
+    catalog = ctx.catalog(req);
+
     final Optional<SeatsDetails> maybeDetails;
-    maybeDetails = SeatsDetails.byId(trx, showId);
+    maybeDetails = catalog.seatsDetails(showId);
 
     if (maybeDetails.isEmpty()) {
       return req;
     }
 
-    final AppReservation reservation;
-    reservation = AppReservation.parse(req, () -> generator(trx, showId));
-
     final int alertId;
     alertId = (id >>> 16);
 
+    // read-only: the reservation is created by the first seat submission
+    final AppReservation reservation;
+    reservation = AppReservation.parse(req);
+
+    // an alert is the outcome of a submission, not a new visit
+    if (reservation.id() == 0L && alertId == 0) {
+      ctx.reservationDeferred();
+    }
+
     final SeatsAlert alert;
     alert = SeatsAlert.of(alertId);
 
     final SeatsDetails details;
     details = maybeDetails.get();
 
+    final SeatMap map;
+    map = catalog.seatMap(details.screenId());
+
     final SeatsGrid grid;
-    grid = SeatsGrid.query(trx, reservation.id());
+    grid = SeatsGrid.query(trx, map, showId, reservation.id());
 
     final String formAction;
     formAction = ctx.href(AppView.SEATS, showId, reservation);
@@ -81,29 +93,11 @@ final class Seats implements Handler {
           Source.SeatsDetails,
           Source.SeatsForm,
           Source.SeatsGrid,
-          Source.SeatsView
+          Source.SeatsView,
+          Source.SeatInventory,
+          Source.SeatMap
       );
     });
   }
 
-  private long generator(Sql.Transaction trx, int showId) {
-    final long rid;
-    rid = ctx.nextReservation();
-
-    trx.sql("""
-      insert into
-        RESERVATION (RESERVATION_ID, SHOW_ID)
-      values
-        (?, ?)
-      """);
-
-    trx.param(rid);
-
-    trx.param(showId);
-
-    trx.update();
-
-    return rid;
-  }
-
-}
\ No newline at end of file
+}
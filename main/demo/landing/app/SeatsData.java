@@ -36,6 +36,10 @@ record SeatsData(AppReservation reservation, int showId, int screenId, int[] sel
     );
   }
 
+  final SeatsData withReservation(AppReservation value) {
+    return new SeatsData(value, showId, screenId, selection);
+  }
+
   @Override
   public final String toString() {
     return String.format(
@@ -44,51 +48,6 @@ record SeatsData(AppReservation reservation, int showId, int screenId, int[] sel
     );
   }
 
-  final void clearTmpSelection(Sql.Transaction trx) {
-    // clear this user's current tmp selection
-
-    trx.sql("""
-    delete from
-      TMP_SELECTION
-    where
-      RESERVATION_ID = ?
-    """);
-
-    trx.param(reservation.id());
-
-    trx.update();
-  }
-
-  final Sql.BatchUpdate persistTmpSelection(Sql.Transaction trx) {
-    clearTmpSelection(trx);
-
-    // insert the data.
-    // it will fail if either one is true:
-    // 1) invalid RESERVATION_ID
-    // 2) invalid SEAT_ID
-    // 3) invalid SCREEN_ID
-    // 4) SEAT_ID and SCREEN_ID are valid but SEAT_ID does not belong to SCREEN_ID
-
-    trx.sql("""
-    insert into
-      TMP_SELECTION (RESERVATION_ID, SEAT_ID, SCREEN_ID)
-    values
-      (?, ?, ?)
-    """);
-
-    for (int seatId : selection) {
-      trx.param(reservation.id());
-
-      trx.param(seatId);
-
-      trx.param(screenId);
-
-      trx.addBatch();
-    }
-
-    return trx.batchUpdateWithResult();
-  }
-
   final void clearUserSelection(Sql.Transaction trx) {
     // clear this user's current selection.
     // does nothing (hopefully) if RESERVATION_ID refers to an already sold ticket
@@ -111,38 +70,56 @@ record SeatsData(AppReservation reservation, int showId, int screenId, int[] sel
     trx.update();
   }
 
-  final Sql.Update persisUserSelection(Sql.Transaction trx) {
+  final Sql.Update persistUserSelection(Sql.Transaction trx) {
     clearUserSelection(trx);
 
-    // persist this user's selection.
+    // validate and persist this user's selection in a single statement.
     // it will fail if:
     // 1) we try to insert an already selected seat (unique constraint)
     //
     // it will select only a subset (possibly empty) if:
-    // 1) RESERVATION_ID refers to an already sold ticket
-    // 2) SEAT is from a different screen that the current SHOW
+    // 1) RESERVATION_ID is invalid or refers to an already sold ticket
+    //    or to a different show than SHOW_ID
+    // 2) SEAT_ID is invalid
+    // 3) SEAT is from a different screen than SCREEN_ID or than the current SHOW
+
+    final StringBuilder seatIds;
+    seatIds = new StringBuilder();
+
+    for (int idx = 0; idx < selection.length; idx++) {
+      seatIds.append(idx == 0 ? "?" : ", ?");
+    }
 
     trx.sql("""
     insert into
       SELECTION (RESERVATION_ID, SEAT_ID, SHOW_ID)
     select
-      TMP_SELECTION.RESERVATION_ID,
-      TMP_SELECTION.SEAT_ID,
+      RESERVATION.RESERVATION_ID,
+      SEAT.SEAT_ID,
       SHOW.SHOW_ID
     from
-      TMP_SELECTION
-      join RESERVATION on TMP_SELECTION.RESERVATION_ID = RESERVATION.RESERVATION_ID
+      RESERVATION
       join SHOW on RESERVATION.SHOW_ID = SHOW.SHOW_ID
       join SCREENING on SHOW.SCREENING_ID = SCREENING.SCREENING_ID
-      join SEAT on TMP_SELECTION.SEAT_ID = SEAT.SEAT_ID
+      join SEAT on SCREENING.SCREEN_ID = SEAT.SCREEN_ID
     where
       RESERVATION.RESERVATION_ID = ?
       and RESERVATION.TICKET_TIME is null
-      and SCREENING.SCREEN_ID = SEAT.SCREEN_ID
-    """);
+      and RESERVATION.SHOW_ID = ?
+      and SEAT.SCREEN_ID = ?
+      and SEAT.SEAT_ID in (%s)
+    """.formatted(seatIds));
 
     trx.param(reservation.id());
 
+    trx.param(showId);
+
+    trx.param(screenId);
+
+    for (int seatId : selection) {
+      trx.param(seatId);
+    }
+
     return trx.updateWithResult();
   }
 
@@ -47,32 +47,6 @@ record SeatsDetails(
     );
   }
 
-  public static Optional<SeatsDetails> byId(Sql.Transaction trx, int id) {
-    trx.sql("""
-    select
-      formatdatetime(SHOW.SHOWDATE, 'EEE dd/LLL'),
-      formatdatetime(SHOW.SHOWTIME, 'kk:mm'),
-
-      SCREEN.SCREEN_ID,
-      SCREEN.NAME,
-      SCREEN.SEATING_CAPACITY,
-
-      MOVIE.MOVIE_ID,
-      MOVIE.TITLE
-    from
-      SHOW
-      natural join SCREENING
-      natural join MOVIE
-      join SCREEN on SCREENING.SCREEN_ID = SCREEN.SCREEN_ID
-    where
-      SHOW.SHOW_ID = ?
-    """);
-
-    trx.param(id);
-
-    return trx.queryOptional(SeatsDetails::new);
-  }
-
   public static Optional<SeatsDetails> byReservationId(Sql.Transaction trx, long reservationId) {
     trx.sql("""
     select
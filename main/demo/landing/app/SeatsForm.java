@@ -39,102 +39,141 @@ final class SeatsForm implements Handler {
     final Sql.Transaction trx;
     trx = req.attr(Sql.Transaction.class);
 
-    final SeatsData data;
-    data = SeatsData.parse(req);
+    final SeatsData submitted;
+    submitted = SeatsData.parse(req);
 
-    ctx.send(DATA_READ, data);
+    ctx.send(DATA_READ, submitted);
 
-    if (data.seats() == 0) {
+    if (submitted.seats() == 0) {
       // no seats were selected...
-      return handleAlert(trx, data, SeatsAlert.EMPTY);
+      return handleAlert(req, trx, submitted, SeatsAlert.EMPTY);
     }
 
-    if (data.seats() > 6) {
+    if (submitted.seats() > 6) {
       // too many seats were selected...
-      return handleAlert(trx, data, SeatsAlert.LIMIT);
+      return handleAlert(req, trx, submitted, SeatsAlert.LIMIT);
     }
 
-    final Sql.BatchUpdate tmpSelectionResult;
-    tmpSelectionResult = data.persistTmpSelection(trx);
+    final AppCatalog catalog;
+    catalog = ctx.catalog(req);
 
-    return switch (tmpSelectionResult) {
-      case Sql.BatchUpdateFailed _ -> handleTmpSelectionFailed(trx, data);
+    final SeatsData data;
 
-      case Sql.BatchUpdateSuccess _ -> handleTmpSelectionSuccess(trx, data);
-    };
-  }
+    if (submitted.reservation().id() != 0L) {
+      data = submitted;
+    } else if (catalog.seatsDetails(submitted.showId()).isPresent()) {
+      // first submission: the seats page does not create the reservation
+      data = submitted.withReservation(reserve(trx, submitted.showId()));
+    } else {
+      return Status.BAD_REQUEST;
+    }
 
-  private Result handleAlert(Sql.Transaction trx, SeatsData data, SeatsAlert alert) {
-    // just in case, clear this user's selection
-    data.clearUserSelection(trx);
+    if (!ctx.claimSeats(req, catalog, data)) {
+      // some of the seats were selected by another user: no need to ask the database
+      return handleAlert(req, trx, data, SeatsAlert.BOOKED);
+    }
 
-    final int showId;
-    showId = data.showId();
+    boolean selected;
+    selected = false;
 
-    final int alertId;
-    alertId = alert.id();
+    try {
+      final Sql.Update userSelectionResult;
+      userSelectionResult = data.persistUserSelection(trx);
 
-    final int id;
-    id = (alertId << 16) | showId;
+      return switch (userSelectionResult) {
+        case Sql.UpdateSuccess ok -> {
+          int count;
+          count = ok.count();
 
-    final AppReservation reservation;
-    reservation = data.reservation();
+          if (data.seats() != count) {
 
-    final String seatsUrl;
-    seatsUrl = ctx.href(AppView.SEATS, id, reservation);
+            // some or possibly all of the seats were not selected.
+            // 1) maybe an already sold ticket was submitted
+            // 2) seats refer to a different show
+            // 3) invalid seats or screen
+            // anyways... bad data
 
-    return Redirection.seeOther(seatsUrl);
-  }
+            // clear SELECTION just in case some of the records were inserted
+            data.clearUserSelection(trx);
+
+            yield Status.BAD_REQUEST;
+
+          } else {
+
+            // all seats were persisted.
+            // they are released if the ticket is not sold in time
+            ctx.holdSeats(data);
+
+            // render next screen.
+
+            final AppReservation reservation;
+            reservation = data.reservation();
 
-  private Result handleTmpSelectionFailed(Sql.Transaction trx, SeatsData data) {
-    // clear TMP_SELECTION just in case some of the records were inserted
-    data.clearTmpSelection(trx);
+            final String redirectUrl;
+            redirectUrl = ctx.href(AppView.CONFIRM, reservation);
 
-    // insertion failed => bad data
+            selected = true;
 
-    return Status.BAD_REQUEST;
+            yield Redirection.seeOther(redirectUrl);
+
+          }
+
+        }
+
+        case Sql.UpdateFailed _ -> handleAlert(req, trx, data, SeatsAlert.BOOKED);
+      };
+    } finally {
+      if (!selected) {
+        // the claim must not outlive a selection that was not persisted
+        ctx.releaseSeats(req, data);
+      }
+    }
   }
 
-  private Result handleTmpSelectionSuccess(Sql.Transaction trx, SeatsData data) {
-    final Sql.Update userSelectionResult;
-    userSelectionResult = data.persisUserSelection(trx);
+  private AppReservation reserve(Sql.Transaction trx, int showId) {
+    final long rid;
+    rid = ctx.nextReservation();
 
-    return switch (userSelectionResult) {
-      case Sql.UpdateSuccess ok -> {
-        int count;
-        count = ok.count();
+    trx.sql("""
+      insert into
+        RESERVATION (RESERVATION_ID, SHOW_ID)
+      values
+        (?, ?)
+      """);
 
-        if (data.seats() != count) {
+    trx.param(rid);
 
-          // some or possibly all of the seats were not selected.
-          // 1) maybe an already sold ticket was submitted
-          // 2) seats refer to a different show
-          // anyways... bad data
+    trx.param(showId);
 
-          // clear SELECTION just in case some of the records were inserted
-          data.clearUserSelection(trx);
+    trx.update();
 
-          yield Status.BAD_REQUEST;
+    ctx.reservationCreated();
 
-        } else {
+    return new AppReservation(rid);
+  }
 
-          // all seats were persisted.
-          // render next screen.
+  private Result handleAlert(Request req, Sql.Transaction trx, SeatsData data, SeatsAlert alert) {
+    // just in case, clear this user's selection
+    data.clearUserSelection(trx);
 
-          final AppReservation reservation;
-          reservation = data.reservation();
+    ctx.releaseSeats(req, data);
 
-          final String redirectUrl;
-          redirectUrl = ctx.href(AppView.CONFIRM, reservation);
+    final int showId;
+    showId = data.showId();
 
-          yield Redirection.seeOther(redirectUrl);
+    final int alertId;
+    alertId = alert.id();
 
-        }
+    final int id;
+    id = (alertId << 16) | showId;
 
-      }
+    final AppReservation reservation;
+    reservation = data.reservation();
 
-      case Sql.UpdateFailed _ -> handleAlert(trx, data, SeatsAlert.BOOKED);
-    };
+    final String seatsUrl;
+    seatsUrl = ctx.href(AppView.SEATS, id, reservation);
+
+    return Redirection.seeOther(seatsUrl);
   }
 
 }
\ No newline at end of file
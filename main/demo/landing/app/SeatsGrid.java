@@ -18,129 +18,104 @@ package demo.landing.app;
 import module java.base;
 import module objectos.way;
 
-/// Represents the seats the user may (or may not) choose for a movie show.
-final class SeatsGrid implements Iterable<SeatsGrid.Seat> {
-
-  record Seat(
-      int gridY,
-      int gridX,
-      int seatId,
-      String name,
-      int state
-  ) {
-
-    Seat(ResultSet rs, int idx) throws SQLException {
+/// Represents the seats the user may (or may not) choose for a movie show: the
+/// seat map of the screen along with the seats selected by the user (mine) and
+/// by other users (others), each one a 128-bit cell mask.
+final class SeatsGrid {
+
+  // a seat selected for the show, and whether it was selected by the user
+  private record Selected(int seatId, boolean mine) {
+    Selected(ResultSet rs, int idx) throws SQLException {
       this(
           rs.getInt(idx++),
-          rs.getInt(idx++),
-          rs.getInt(idx++),
-          rs.getString(idx++),
-          rs.getInt(idx++)
+          rs.getBoolean(idx++)
       );
     }
+  }
 
-    public final boolean checked() {
-      return state == 1;
-    }
+  private final SeatMap map;
 
-    public final boolean reserved() {
-      return state == 2;
-    }
+  private final long mineLo;
 
-  }
+  private final long mineHi;
+
+  private final long othersLo;
+
+  private final long othersHi;
 
-  private final List<Seat> seats;
+  private SeatsGrid(SeatMap map, long mineLo, long mineHi, long othersLo, long othersHi) {
+    this.map = map;
 
-  private SeatsGrid(List<Seat> seats) {
-    this.seats = seats;
+    this.mineLo = mineLo;
+
+    this.mineHi = mineHi;
+
+    this.othersLo = othersLo;
+
+    this.othersHi = othersHi;
   }
 
-  public static SeatsGrid query(Sql.Transaction trx, long reservationId) {
+  /// Queries the seats selected for the specified show, the seat map being
+  /// the one of the show's screen.
+  public static SeatsGrid query(Sql.Transaction trx, SeatMap map, int showId, long reservationId) {
     trx.sql("""
-    with
-      MAIN as (
-        select
-          RESERVATION.RESERVATION_ID,
-          SHOW.SHOW_ID,
-          SCREENING.SCREEN_ID
-        from
-          RESERVATION
-          join SHOW on RESERVATION.SHOW_ID = SHOW.SHOW_ID
-          join SCREENING on SHOW.SCREENING_ID = SCREENING.SCREENING_ID
-        where
-          RESERVATION.RESERVATION_ID = ?
-      ),
-      GRID as (
-        select
-          X as GRID_Y,
-          gx.GRID_X
-        from
-          system_range (0, 9)
-          cross join (
-            select
-              X as GRID_X
-            from
-              system_range (0, 9)
-          ) gx
-      ),
-      SELF as (
-        select
-          SEAT_ID
-        from
-          SELECTION
-        where
-          RESERVATION_ID = ( select RESERVATION_ID from MAIN )
-      ),
-      OTHERS as (
-        select
-          SELECTION.SEAT_ID
-        from
-          MAIN
-          join RESERVATION on MAIN.RESERVATION_ID <> RESERVATION.RESERVATION_ID
-          and MAIN.SHOW_ID = RESERVATION.SHOW_ID
-          join SELECTION on RESERVATION.RESERVATION_ID = SELECTION.RESERVATION_ID
-      )
     select
-      GRID.GRID_Y,
-      GRID.GRID_X,
-      coalesce(SEAT.SEAT_ID, -1) as SEAT_ID,
-      concat (SEAT_ROW, SEAT_COL) as SEAT_NAME,
-      case SELF.SEAT_ID
-        when is not null then 1
-        else case OTHERS.SEAT_ID
-          when is not null then 2
-          else 0
-        end
-      end
+      SEAT_ID,
+      RESERVATION_ID = ?
     from
-      MAIN
-      cross join GRID
+      SELECTION
+    where
+      SHOW_ID = ?
+    """);
 
-      left join SEAT on MAIN.SCREEN_ID = SEAT.SCREEN_ID
-      and GRID.GRID_Y = SEAT.GRID_Y
-      and GRID.GRID_X = SEAT.GRID_X
+    trx.param(reservationId);
 
-      left join SELF
-      on SEAT.SEAT_ID = SELF.SEAT_ID
+    trx.param(showId);
 
-      left join OTHERS
-      on SEAT.SEAT_ID = OTHERS.SEAT_ID
-    order by
-      GRID.GRID_Y,
-      GRID.GRID_X
-    """);
+    final List<Selected> selected;
+    selected = trx.query(Selected::new);
 
-    trx.param(reservationId);
+    long mineLo = 0L, mineHi = 0L, othersLo = 0L, othersHi = 0L;
 
-    final List<Seat> seats;
-    seats = trx.query(Seat::new);
+    for (Selected seat : selected) {
+      final int cell;
+      cell = map.cell(seat.seatId());
 
-    return new SeatsGrid(seats);
+      if (cell < 0) {
+        continue;
+      }
+
+      if (seat.mine()) {
+        if (cell < 64) {
+          mineLo |= 1L << cell;
+        } else {
+          mineHi |= 1L << (cell - 64);
+        }
+      } else {
+        if (cell < 64) {
+          othersLo |= 1L << cell;
+        } else {
+          othersHi |= 1L << (cell - 64);
+        }
+      }
+    }
+
+    return new SeatsGrid(map, mineLo, mineHi, othersLo, othersHi);
   }
 
-  @Override
-  public final Iterator<SeatsGrid.Seat> iterator() {
-    return seats.iterator();
+  /// The seat id of the specified cell, or `-1` if the cell is empty.
+  public final int seatId(int cell) {
+    return map.hasSeat(cell) ? map.seatId(cell) : -1;
+  }
+
+  /// Tests if the seat of the specified cell was selected by the user.
+  public final boolean checked(int cell) {
+    return SeatMap.test(mineLo, mineHi, cell);
+  }
+
+  /// Tests if the seat of the specified cell was selected by another user.
+  public final boolean reserved(int cell) {
+    return !checked(cell) && SeatMap.test(othersLo, othersHi, cell);
   }
 
   @Override
@@ -153,28 +128,18 @@ final class SeatsGrid implements Iterable<SeatsGrid.Seat> {
     sb.append("o = selectable\n");
     sb.append("x = checked\n");
 
-    int lastY = -1;
-
-    for (Seat cell : seats) {
-      int gridY;
-      gridY = cell.gridY();
-
-      if (gridY != lastY) {
+    for (int cell = 0; cell < SeatMap.CELLS; cell++) {
+      if (cell % SeatMap.COLUMNS == 0) {
         sb.append('\n');
-
-        lastY = gridY;
       } else {
         sb.append(' ');
       }
 
-      int seatId;
-      seatId = cell.seatId();
-
-      if (seatId < 0) {
+      if (seatId(cell) < 0) {
         sb.append('.');
-      } else if (cell.checked()) {
+      } else if (checked(cell)) {
         sb.append('x');
-      } else if (cell.reserved()) {
+      } else if (reserved(cell)) {
         sb.append('#');
       } else {
         sb.append('o');
@@ -186,4 +151,4 @@ final class SeatsGrid implements Iterable<SeatsGrid.Seat> {
     return sb.toString();
   }
 
-}
\ No newline at end of file
+}
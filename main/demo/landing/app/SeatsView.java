@@ -228,9 +228,9 @@ final class SeatsView extends Html.Template {
   }
 
   private void renderSeatsFormGrid() {
-    for (SeatsGrid.Seat seat : grid) {
+    for (int cell = 0; cell < SeatMap.CELLS; cell++) {
       final int seatId;
-      seatId = seat.seatId();
+      seatId = grid.seatId(cell);
 
       if (seatId < 0) {
         div();
@@ -249,14 +249,14 @@ final class SeatsView extends Html.Template {
 
             type("checkbox"),
 
-            seat.checked() ? checked : noop(),
+            grid.checked(cell) ? checked : noop(),
 
-            seat.reserved() ? disabled : noop(),
+            grid.reserved(cell) ? disabled : noop(),
 
             value(seatIdValue)
         );
 
-        if (seat.checked()) {
+        if (grid.checked(cell)) {
           testableField("checked", seatIdValue);
         }
       }
@@ -20,4753 +20,169 @@ package demo.landing.app;
  */
 final class Source {
 
-  static final SourceModel ConfirmView = SourceModel.create("ConfirmView.java", """
-/*
- * Copyright (C) 2024-2026 Objectos Software LTDA.
- *
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *
- * http://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-package demo.landing.app;
-
-import module java.base;
-import module objectos.way;
-
-/// Renders the current order details and a confirmation button.
-final class ConfirmView extends Html.Template {
-
-  private final ConfirmDetails details;
-
-  private final String formAction;
-
-  private final NumberFormat formatter = DecimalFormat.getCurrencyInstance();
-
-  ConfirmView(ConfirmDetails details, String formAction) {
-    this.details = details;
-
-    this.formAction = formAction;
-  }
-
-  @Override
-  protected final void render() {
-    h2("Your Order");
-
-    // testable node only
-    testableH1(details.orderNumber());
-
-    p("Please review and confirm your order");
-
-    div(
-        css(\"""
-        border:1px_solid_var(--color-border)
-        display:flex
-        gap:24rx
-        margin:32rx_0
-        overflow-x:auto
-        padding:32rx_24rx
-
-        &_h3/font-size:24rx
-        &_h3/font-weight:300
-        &_h3/padding-bottom:16rx
-        \"""),
-
-        div(
-            css(\"""
-            display:flex
-            flex:1.5
-            flex-direction:column
-            gap:12rx
-            \"""),
-
-            f(this::renderLeft)
-        ),
-
-        div(
-            css(\"""
-            display:flex
-            flex:2
-            flex-direction:column
-            gap:12rx
-            \"""),
-
-            f(this::renderRight)
-        )
-    );
-  }
-
-  private void renderLeft() {
-    h3("Movie");
-
-    renderDetailsItem(UiIcon.FILM, "title", details.title());
-
-    renderDetailsItem(UiIcon.CALENDAR_CHECK, "date", details.date());
-
-    renderDetailsItem(UiIcon.CLOCK, "time", details.time());
-
-    renderDetailsItem(UiIcon.PROJECTOR, "screen", details.screen());
-  }
-
-  private Html.Instruction.OfElement renderDetailsItem(UiIcon icon, String name, String value) {
-    return div(
-        css(\"""
-        display:flex
-        gap:12rx
-        \"""),
-
-        c(
-            icon.css(\"""
-            height:auto
-            width:16rx
-            \""")
-        ),
-
-        span(
-            css(\"""
-            font-size:14rx
-            line-height:16rx
-            \"""),
-
-            text(testableField(name, value))
-        )
-    );
-  }
-
-  private void renderRight() {
-    h3(
-        testableH2("Order Details")
-    );
-
-    for (var item : details.items()) {
-      div(
-          css(\"""
-          display:flex
-          font-size:14rx
-          justify-content:space-between
-          line-height:16rx
-          \"""),
-
-          div(
-              text("Seat "),
-              text(testableCell(item.seat(), 5))
-          ),
-
-          div(
-              testableCell(format(item.price()), 6)
-          )
-      );
-
-      testableNewLine();
-    }
-
-    div(
-        css(\"""
-        border-top:1px_solid_var(--color-border)
-        display:flex
-        font-size:14rx
-        justify-content:space-between
-        line-height:16rx
-        padding-top:12rx
-        \"""),
-
-        div(testableCell("Total", 5)),
-
-        div(
-            css(\"""
-            font-weight:600
-            \"""),
-
-            text(testableCell(format(details.totalPrice()), 6))
-        )
-    );
-
-    div(
-        css(\"""
-        display:flex
-        font-size:14rx
-        justify-content:space-between
-        line-height:16rx
-        margin-top:24rx
-        \"""),
-
-        div("Payment Method"),
-
-        div(
-            css(\"""
-            display:flex
-            gap:8rx
-            \"""),
-
-            c(
-                UiIcon.CREDIT_CARD.css(\"""
-                height:auto
-                width:16rx
-                \""")
-            ),
-
-            span("4321")
-        )
-    );
-
-    testableNewLine();
-
-    form(
-        css(\"""
-        display:flex
-        justify-content:end
-        margin-top:24rx
-        \"""),
-
-        action(formAction),
-
-        method("post"),
-
-        onsubmit(AppCtx.SUBMIT),
-
-        button(
-            UiShell.PRIMARY,
-
-            type("submit"),
-
-            text("Confirm")
-        )
-    );
-  }
-
-  private String format(double price) {
-    return formatter.format(price);
-  }
-
-}
-""");
-
-  static final SourceModel AppReservation = SourceModel.create("AppReservation.java", """
-/*
- * Copyright (C) 2024-2026 Objectos Software LTDA.
- *
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *
- * http://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-package demo.landing.app;
-
-import java.util.function.LongSupplier;
-import module objectos.way;
-
-/// The ID of an user making seat reservation.
-record AppReservation(long id) {
-
-  private static final String PARAM_NAME = "reservationId";
-
-  static AppReservation parse(Request req) {
-    final long id;
-    id = req.queryParamAsLong(PARAM_NAME, 0L);
-
-    return new AppReservation(id);
-  }
-
-  static AppReservation parse(Request req, LongSupplier supplier) {
-    final long id;
-    id = req.queryParamAsLong(PARAM_NAME, supplier);
-
-    return new AppReservation(id);
-  }
-
-  @Override
-  public final String toString() {
-    return PARAM_NAME + "=" + id;
-  }
-
-}
-""");
-
-  static final SourceModel PosterModel = SourceModel.create("PosterModel.java", """
-/*
- * Copyright (C) 2024-2026 Objectos Software LTDA.
- *
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *
- * http://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-package demo.landing.app;
-
-import java.sql.ResultSet;
-import java.sql.SQLException;
-import objectos.http.Content;
-import objectos.http.ContentProvider;
-import objectos.http.MediaType;
-import objectos.way.Sql;
-
-record PosterModel(byte[] data) implements ContentProvider {
-
-  private PosterModel(ResultSet rs, int idx) throws SQLException {
-    this(
-        rs.getBytes(idx++)
-    );
-  }
-
-  public static PosterModel query(Sql.Transaction trx, int id) {
-    trx.sql(\"""
-    select
-      DATA
-    from
-      MOVIE_POSTER
-    where
-      MOVIE_ID = ?
-    \""");
-
-    trx.param(id);
-
-    return trx.querySingle(PosterModel::new);
-  }
-
-  @Override
-  public final Content toContent() {
-    return Content.of(MediaType.IMAGE_JPEG, data);
-  }
-
-}
-
-""");
-
-  static final SourceModel HomeView = SourceModel.create("HomeView.java", """
-/*
- * Copyright (C) 2024-2026 Objectos Software LTDA.
- *
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *
- * http://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-package demo.landing.app;
-
-import module java.base;
-import module objectos.way;
-
-/// Renders the home page view. More specifically, it renders:
-///
-/// - a top header with the "Now Showing" title. 
-/// - a list of the movies that are
-/// currently playing.
-final class HomeView extends Html.Template {
-
-  /// A movie to be displayed in this view
-  record Movie(String title, JsAction onclick, String imgsrc) {}
-
-  private final List<Movie> movies;
-
-  HomeView(List<Movie> movies) {
-    this.movies = movies;
-  }
-
-  @Override
-  protected final void render() {
-    div(
-        css(\"""
-        margin-bottom:32rx
-        \"""),
-
-        h2("Now Showing"),
-
-        p("Please choose a movie")
-    );
-
-    ul(
-        css(\"""
-        display:flex
-        flex-wrap:wrap
-        gap:16rx
-        justify-content:space-evenly
-        \"""),
-
-        f(this::renderMovies)
-    );
-  }
-
-  private void renderMovies() {
-    for (Movie movie : movies) {
-      renderMovie(movie);
-    }
-  }
-
-  private void renderMovie(Movie movie) {
-    li(
-        css(\"""
-        flex:0_0_128rx
-        \"""),
-
-        div(
-            css(\"""
-            group
-            hover/cursor:pointer
-            \"""),
-
-            onclick(movie.onclick),
-
-            img(
-                css(\"""
-                aspect-ratio:2/3
-                background-color:var(--color-neutral-400)
-                border-radius:6rx
-
-                &:is(:where(.group):hover_*)/outline:2px_solid_var(--color-gray-500)
-                \"""),
-
-                src(movie.imgsrc)
-            ),
-
-            h3(
-                css(\"""
-                font-size:14rx
-                line-height:18rx
-                text-align:center
-                padding-top:8rx
-
-                &:is(:where(.group):hover_*)/text-decoration:underline
-                \"""),
-
-                text(
-                    testableField("movie.title", movie.title())
-                )
-            )
-        )
-    );
-  }
-
-}
-""");
-
-  static final SourceModel Confirm = SourceModel.create("Confirm.java", """
-/*
- * Copyright (C) 2024-2026 Objectos Software LTDA.
- *
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *
- * http://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-package demo.landing.app;
-
-import java.util.List;
-import java.util.Optional;
-import objectos.http.Handler;
-import objectos.http.Request;
-import objectos.http.Result;
-import objectos.way.Sql;
-
-/// The `/confirm` controller
-final class Confirm implements Handler {
-
-  private final AppCtx ctx;
-
-  Confirm(AppCtx ctx) {
-    this.ctx = ctx;
-  }
-
-  @Override
-  public final Result handle(Request req) {
-    final Sql.Transaction trx;
-    trx = req.attr(Sql.Transaction.class);
-
-    final AppReservation reservation;
-    reservation = AppReservation.parse(req);
-
-    final Optional<ConfirmDetails> maybe;
-    maybe = ConfirmDetails.queryOptional(trx, reservation.id());
-
-    if (maybe.isEmpty()) {
-      return req;
-    }
-
-    final ConfirmDetails details;
-    details = maybe.get();
-
-    final String formAction;
-    formAction = ctx.href(AppView.CONFIRM, reservation);
-
-    return UiShell.of(opts -> {
-      opts.homeAction = ctx.clickAction(AppView.HOME, reservation);
-
-      opts.backAction = ctx.clickAction(AppView.SEATS, details.showId(), reservation);
-
-      opts.main = new ConfirmView(details, formAction);
-
-      opts.sources = List.of(
-          Source.Confirm,
-          Source.ConfirmData,
-          Source.ConfirmDetails,
-          Source.ConfirmForm,
-          Source.ConfirmView
-      );
-    });
-  }
-
-}
-""");
-
-  static final SourceModel SeatsGrid = SourceModel.create("SeatsGrid.java", """
-/*
- * Copyright (C) 2024-2026 Objectos Software LTDA.
- *
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *
- * http://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-package demo.landing.app;
-
-import module java.base;
-import module objectos.way;
-
-/// Represents the seats the user may (or may not) choose for a movie show.
-final class SeatsGrid implements Iterable<SeatsGrid.Seat> {
-
-  record Seat(
-      int gridY,
-      int gridX,
-      int seatId,
-      String name,
-      int state
-  ) {
-
-    Seat(ResultSet rs, int idx) throws SQLException {
-      this(
-          rs.getInt(idx++),
-          rs.getInt(idx++),
-          rs.getInt(idx++),
-          rs.getString(idx++),
-          rs.getInt(idx++)
-      );
-    }
-
-    public final boolean checked() {
-      return state == 1;
-    }
-
-    public final boolean reserved() {
-      return state == 2;
-    }
-
-  }
-
-  private final List<Seat> seats;
-
-  private SeatsGrid(List<Seat> seats) {
-    this.seats = seats;
-  }
-
-  public static SeatsGrid query(Sql.Transaction trx, long reservationId) {
-    trx.sql(\"""
-    with
-      MAIN as (
-        select
-          RESERVATION.RESERVATION_ID,
-          SHOW.SHOW_ID,
-          SCREENING.SCREEN_ID
-        from
-          RESERVATION
-          join SHOW on RESERVATION.SHOW_ID = SHOW.SHOW_ID
-          join SCREENING on SHOW.SCREENING_ID = SCREENING.SCREENING_ID
-        where
-          RESERVATION.RESERVATION_ID = ?
-      ),
-      GRID as (
-        select
-          X as GRID_Y,
-          gx.GRID_X
-        from
-          system_range (0, 9)
-          cross join (
-            select
-              X as GRID_X
-            from
-              system_range (0, 9)
-          ) gx
-      ),
-      SELF as (
-        select
-          SEAT_ID
-        from
-          SELECTION
-        where
-          RESERVATION_ID = ( select RESERVATION_ID from MAIN )
-      ),
-      OTHERS as (
-        select
-          SELECTION.SEAT_ID
-        from
-          MAIN
-          join RESERVATION on MAIN.RESERVATION_ID <> RESERVATION.RESERVATION_ID
-          and MAIN.SHOW_ID = RESERVATION.SHOW_ID
-          join SELECTION on RESERVATION.RESERVATION_ID = SELECTION.RESERVATION_ID
-      )
-    select
-      GRID.GRID_Y,
-      GRID.GRID_X,
-      coalesce(SEAT.SEAT_ID, -1) as SEAT_ID,
-      concat (SEAT_ROW, SEAT_COL) as SEAT_NAME,
-      case SELF.SEAT_ID
-        when is not null then 1
-        else case OTHERS.SEAT_ID
-          when is not null then 2
-          else 0
-        end
-      end
-    from
-      MAIN
-      cross join GRID
-
-      left join SEAT on MAIN.SCREEN_ID = SEAT.SCREEN_ID
-      and GRID.GRID_Y = SEAT.GRID_Y
-      and GRID.GRID_X = SEAT.GRID_X
-
-      left join SELF
-      on SEAT.SEAT_ID = SELF.SEAT_ID
-
-      left join OTHERS
-      on SEAT.SEAT_ID = OTHERS.SEAT_ID
-    order by
-      GRID.GRID_Y,
-      GRID.GRID_X
-    \""");
-
-    trx.param(reservationId);
-
-    final List<Seat> seats;
-    seats = trx.query(Seat::new);
-
-    return new SeatsGrid(seats);
-  }
-
-  @Override
-  public final Iterator<SeatsGrid.Seat> iterator() {
-    return seats.iterator();
-  }
-
-  @Override
-  public final String toString() {
-    final StringBuilder sb;
-    sb = new StringBuilder();
-
-    sb.append(". = empty space\\n");
-    sb.append("# = reserved\\n");
-    sb.append("o = selectable\\n");
-    sb.append("x = checked\\n");
-
-    int lastY = -1;
-
-    for (Seat cell : seats) {
-      int gridY;
-      gridY = cell.gridY();
-
-      if (gridY != lastY) {
-        sb.append('\\n');
-
-        lastY = gridY;
-      } else {
-        sb.append(' ');
-      }
-
-      int seatId;
-      seatId = cell.seatId();
-
-      if (seatId < 0) {
-        sb.append('.');
-      } else if (cell.checked()) {
-        sb.append('x');
-      } else if (cell.reserved()) {
-        sb.append('#');
-      } else {
-        sb.append('o');
-      }
-    }
-
-    sb.append('\\n');
-
-    return sb.toString();
-  }
-
-}
-""");
-
-  static final SourceModel NotFound = SourceModel.create("NotFound.java", """
-/*
- * Copyright (C) 2024-2026 Objectos Software LTDA.
- *
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *
- * http://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-package demo.landing.app;
-
-import java.util.List;
-import objectos.http.Handler;
-import objectos.http.Request;
-import objectos.http.Response;
-import objectos.http.Result;
-import objectos.http.Status;
-
-/// Controller for any unmatched request to '/demo.landing/*'
-final class NotFound implements Handler {
-
-  private final AppCtx ctx;
-
-  NotFound(AppCtx ctx) {
-    this.ctx = ctx;
-  }
-
-  @Override
-  public final Result handle(Request req) {
-    final AppReservation reservation;
-    reservation = AppReservation.parse(req);
-
-    final UiShell shell;
-    shell = UiShell.of(opts -> {
-      opts.homeAction = ctx.clickAction(AppView.HOME, reservation);
-
-      opts.main = new NotFoundView(opts.homeAction);
-
-      opts.sources = List.of(
-          Source.NotFound,
-          Source.NotFoundView
-      );
-    });
-
-    return Response.create(opts -> {
-      opts.status(Status.NOT_FOUND);
-
-      opts.date();
-
-      opts.send(shell);
-    });
-  }
-
-}
-""");
-
-  static final SourceModel SeatsAlert = SourceModel.create("SeatsAlert.java", """
-/*
- * Copyright (C) 2024-2026 Objectos Software LTDA.
- *
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *
- * http://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-package demo.landing.app;
-
-/// Alerts the user that invalid data was submitted.
-enum SeatsAlert {
-
-  EMPTY(\"""
-  Kindly choose at least 1 seat.\"""),
-
-  LIMIT(\"""
-  We regret to inform you that we limit purchases to 6 tickets per person. \
-  Kindly choose at most 6 seats.\"""),
-
-  BOOKED(\"""
-  We regret to inform you that another customer has already reserved one or more of the selected seats. \
-  Kindly choose alternative seats.\""");
-
-  final String msg;
-
-  private SeatsAlert(String msg) {
-    this.msg = msg;
-  }
-
-  private static final SeatsAlert[] VALUES = SeatsAlert.values();
-
-  static SeatsAlert of(int id) {
-    final int ordinal;
-    ordinal = id - 1;
-
-    if (0 <= ordinal && ordinal < VALUES.length) {
-      return VALUES[ordinal];
-    } else {
-      return null;
-    }
-  }
-
-  public final int id() {
-    return ordinal() + 1;
-  }
-
-}
-""");
-
-  static final SourceModel Home = SourceModel.create("Home.java", """
-/*
- * Copyright (C) 2024-2026 Objectos Software LTDA.
- *
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *
- * http://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-package demo.landing.app;
-
-import java.util.List;
-import objectos.http.Handler;
-import objectos.http.Request;
-import objectos.http.Result;
-import objectos.script.JsAction;
-import objectos.way.Sql;
-
-/// The `/home` controller.
-final class Home implements Handler {
-
-  private final AppCtx ctx;
-
-  Home(AppCtx ctx) {
-    this.ctx = ctx;
-  }
-
-  @Override
-  public final Result handle(Request req) {
-    final AppReservation reservation;
-    reservation = AppReservation.parse(req);
-
-    final Sql.Transaction trx;
-    trx = req.attr(Sql.Transaction.class);
-
-    final List<HomeModel> rows;
-    rows = HomeModel.query(trx);
-
-    final List<HomeView.Movie> movies;
-    movies = rows.stream().map(row -> toUi(reservation, row)).toList();
-
-    return UiShell.of(opts -> {
-      opts.homeAction = ctx.clickAction(AppView.HOME, reservation);
-
-      opts.main = new HomeView(movies);
-
-      opts.sources = List.of(
-          Source.Home,
-          Source.HomeModel,
-          Source.HomeView
-      );
-    });
-  }
-
-  private HomeView.Movie toUi(AppReservation reservation, HomeModel original) {
-    final String title;
-    title = original.title();
-
-    final int id;
-    id = original.id();
-
-    final JsAction onclick;
-    onclick = ctx.clickAction(AppView.MOVIE, id, reservation);
-
-    final String imgsrc;
-    imgsrc = "/demo.landing/poster-" + id + ".jpg";
-
-    return new HomeView.Movie(title, onclick, imgsrc);
-  }
-
-}
-""");
-
-  static final SourceModel LocalCreate = SourceModel.create("LocalCreate.java", """
-/*
- * Copyright (C) 2024-2026 Objectos Software LTDA.
- *
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *
- * http://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-package demo.landing.app;
-
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import objectos.http.Content;
-import objectos.http.Handler;
-import objectos.http.MediaType;
-import objectos.http.Request;
-import objectos.http.Result;
-import objectos.way.Note;
-import objectos.way.Sql;
-
-final class LocalCreate implements Handler {
-
-  private static final Note.Int1 CREATE_SHOW = Note.Int1.create(LocalCreate.class, "Create Show", Note.INFO);
-
-  private final AppCtx ctx;
-
-  LocalCreate(AppCtx ctx) {
-    this.ctx = ctx;
-  }
-
-  @Override
-  public final Result handle(Request req) {
-    final int localId;
-    localId = 2;
-
-    final Sql.Transaction trx;
-    trx = req.attr(Sql.Transaction.class);
-
-    final LocalDate today;
-    today = ctx.today();
-
-    trx.sql(\"""
-    select
-      count(*)
-    from
-      LOCAL_LOG
-    where
-      LOCAL_ID = ?
-      and cast(LOCAL_TIME as date) = ?
-    \""");
-
-    trx.param(localId);
-
-    trx.param(today);
-
-    Integer _executions;
-    _executions = trx.querySingle((rs, idx) -> rs.getInt(idx++));
-
-    int executions;
-    executions = _executions.intValue();
-
-    final String text;
-
-    if (executions > 0) {
-      text = "Skipped: already executed\\n";
-    } else {
-      trx.sql(\"""
-      insert into
-        SHOW (SCREENING_ID, SHOWDATE, SHOWTIME, SEAT_PRICE)
-      select
-        SCREENING_ID,
-        dateadd (day, 2, '%1$s'),
-        SCREENING_TIME,
-        SEAT_PRICE
-      from
-        SCREENING_TIME
-      order by
-        1,
-        2,
-        3
-      \""");
-
-      trx.format(today);
-
-      int count;
-      count = trx.update();
-
-      ctx.send(CREATE_SHOW, count);
-
-      log(trx, localId);
-
-      text = "OK\\n";
-    }
-
-    return Content.of(MediaType.TEXT_PLAIN, text);
-  }
-
-  private void log(Sql.Transaction trx, int id) {
-    final LocalDateTime now;
-    now = ctx.now();
-
-    trx.sql(\"""
-    insert into LOCAL_LOG (LOCAL_ID, LOCAL_TIME) values (?, ?)
-    \""");
-
-    trx.param(id);
-
-    trx.param(now);
-
-    trx.update();
-  }
-
-}
-""");
-
-  static final SourceModel HomeModel = SourceModel.create("HomeModel.java", """
-/*
- * Copyright (C) 2024-2026 Objectos Software LTDA.
- *
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *
- * http://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-package demo.landing.app;
-
-import module java.base;
-import module objectos.way;
-
-/// A movie that is now showing at the theater (raw DB data).
-record HomeModel(
-    int id,
-    String title
-) {
-
-  private HomeModel(ResultSet rs, int idx) throws SQLException {
-    this(
-        rs.getInt(idx++),
-        rs.getString(idx++)
-    );
-  }
-
-  public static List<HomeModel> query(Sql.Transaction trx) {
-    trx.sql(\"""
-    select
-      MOVIE.MOVIE_ID,
-      MOVIE.TITLE
-
-    from
-      MOVIE
-
-    order by
-      MOVIE_ID
-    \""");
-
-    return trx.query(HomeModel::new);
-  }
-
-}
-""");
-
-  static final SourceModel TicketModel = SourceModel.create("TicketModel.java", """
-/*
- * Copyright (C) 2024-2026 Objectos Software LTDA.
- *
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *
- * http://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-package demo.landing.app;
-
-import java.sql.Array;
-import module java.base;
-import module objectos.way;
-
-/// The data of the tickets bought by the user.
-record TicketModel(
-    long id,
-    String purchaseTime,
-    String title,
-    String screen,
-    String date,
-    String time,
-    double ammountPaid,
-    List<Item> items
-) {
-
-  record Item(String seat, double price) {
-
-    private Item(ResultSet rs, int idx) throws SQLException {
-      this(
-          rs.getString(idx++),
-          rs.getDouble(idx++)
-      );
-    }
-
-    private static List<Item> of(Array array) throws SQLException {
-      Object[] values;
-      values = (Object[]) array.getArray();
-
-      List<Item> list;
-      list = new ArrayList<>(values.length);
-
-      for (Object value : values) {
-        ResultSet rs;
-        rs = (ResultSet) value;
-
-        if (!rs.next()) {
-          continue;
-        }
-
-        Item item;
-        item = new Item(rs, 1);
-
-        list.add(item);
-      }
-
-      return List.copyOf(list);
-    }
-
-  }
-
-  private TicketModel(ResultSet rs, int idx) throws SQLException {
-    this(
-        rs.getLong(idx++),
-        rs.getString(idx++),
-        rs.getString(idx++),
-        rs.getString(idx++),
-        rs.getString(idx++),
-        rs.getString(idx++),
-        rs.getDouble(idx++),
-        Item.of(rs.getArray(idx++))
-    );
-  }
-
-  public static Optional<TicketModel> queryOptional(Sql.Transaction trx, long id) {
-    trx.sql(\"""
-    select
-      RESERVATION.RESERVATION_ID,
-      formatdatetime(RESERVATION.TICKET_TIME, 'EEE dd/LLL kk:mm'),
-      MOVIE.TITLE,
-      SCREEN.NAME,
-      formatdatetime(SHOW.SHOWDATE, 'EEE dd/LLL'),
-      formatdatetime(SHOW.SHOWTIME, 'kk:mm'),
-      sum(SHOW.SEAT_PRICE),
-      array_agg (
-        row (concat(SEAT.SEAT_ROW, SEAT.SEAT_COL), SHOW.SEAT_PRICE)
-      )
-    from
-      RESERVATION
-      join SHOW on RESERVATION.SHOW_ID = SHOW.SHOW_ID
-      join SCREENING on SHOW.SCREENING_ID = SCREENING.SCREENING_ID
-      join MOVIE on SCREENING.MOVIE_ID = MOVIE.MOVIE_ID
-      join SCREEN on SCREENING.SCREEN_ID = SCREEN.SCREEN_ID
-      join SELECTION on RESERVATION.RESERVATION_ID = SELECTION.RESERVATION_ID
-      join SEAT on SELECTION.SEAT_ID = SEAT.SEAT_ID
-    where
-      RESERVATION.RESERVATION_ID = ?
-      and TICKET_TIME is not null
-    group by
-      RESERVATION.RESERVATION_ID
-    \""");
-
-    trx.param(id);
-
-    return trx.queryOptional(TicketModel::new);
-  }
-
-  final boolean singular() {
-    return items.size() == 1;
-  }
-
-}
-""");
-
-  static final SourceModel ConfirmData = SourceModel.create("ConfirmData.java", """
-/*
- * Copyright (C) 2024-2026 Objectos Software LTDA.
- *
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *
- * http://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-package demo.landing.app;
-
-import module java.base;
-import module objectos.way;
-
-/// The data submitted from the `/confirm` form.
-record ConfirmData(AppReservation reservation) {
-
-  static ConfirmData parse(Request req) {
-    final AppReservation reservation;
-    reservation = AppReservation.parse(req);
-
-    return new ConfirmData(reservation);
-  }
-
-  public final Sql.Update persistTicket(Sql.Transaction trx, LocalDateTime today) {
-    trx.sql(\"""
-    update
-      RESERVATION
-    set
-      TICKET_TIME = ?
-    where
-      RESERVATION_ID = ?
-      and TICKET_TIME is null
-    \""");
-
-    trx.param(today);
-
-    trx.param(reservation.id());
-
-    return trx.updateWithResult();
-  }
-
-}
-""");
-
-  static final SourceModel Movie = SourceModel.create("Movie.java", """
-/*
- * Copyright (C) 2024-2026 Objectos Software LTDA.
- *
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *
- * http://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-package demo.landing.app;
-
-import java.time.LocalDateTime;
-import java.util.List;
-import java.util.Optional;
-import objectos.http.Handler;
-import objectos.http.Request;
-import objectos.http.Result;
-import objectos.script.JsAction;
-import objectos.way.Sql;
-
-/// The `/movie/{id}` controller.
-final class Movie implements Handler {
-
-  private final AppCtx ctx;
-
-  Movie(AppCtx ctx) {
-    this.ctx = ctx;
-  }
-
-  @Override
-  public final Result handle(Request req) {
-    final Sql.Transaction trx;
-    trx = req.attr(Sql.Transaction.class);
-
-    final int movieId;
-    movieId = req.pathParamAsInt("id", Integer.MIN_VALUE);
-
-    final Optional<MovieDetails> maybeDetails;
-    maybeDetails = MovieDetails.queryOptional(trx, movieId);
-
-    if (maybeDetails.isEmpty()) {
-      return req;
-    }
-
-    final AppReservation reservation;
-    reservation = AppReservation.parse(req);
-
-    final MovieDetails details;
-    details = maybeDetails.get();
-
-    final LocalDateTime now;
-    now = ctx.now();
-
-    final List<MovieScreening> rows;
-    rows = MovieScreening.query(trx, movieId, now);
-
-    final List<MovieView.Screening> screenings;
-    screenings = rows.stream().map(row -> toUi(reservation, row)).toList();
-
-    return UiShell.of(opts -> {
-      opts.backAction = opts.homeAction = ctx.clickAction(AppView.HOME, reservation);
-
-      opts.main = new MovieView(details, screenings);
-
-      opts.sources = List.of(
-          Source.Movie,
-          Source.MovieDetails,
-          Source.MovieScreening,
-          Source.MovieShowtime,
-          Source.MovieView
-      );
-    });
-  }
-
-  private MovieView.Screening toUi(AppReservation reservation, MovieScreening original) {
-    return new MovieView.Screening(
-        original.screenName(),
-        original.features(),
-        original.date(),
-        original.showtimes().stream().map(row -> toUi(reservation, row)).toList()
-    );
-  }
-
-  private MovieView.Showtime toUi(AppReservation reservation, MovieShowtime original) {
-    final int showId;
-    showId = original.showId();
-
-    final JsAction clickAction;
-    clickAction = ctx.clickAction(AppView.SEATS, showId, reservation);
-
-    return new MovieView.Showtime(showId, original.time(), clickAction);
-  }
-
-}
-""");
-
-  static final SourceModel ConfirmForm = SourceModel.create("ConfirmForm.java", """
-/*
- * Copyright (C) 2024-2026 Objectos Software LTDA.
- *
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *
- * http://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-package demo.landing.app;
-
-import java.time.LocalDateTime;
-import objectos.http.Handler;
-import objectos.http.Redirection;
-import objectos.http.Request;
-import objectos.http.Result;
-import objectos.way.Sql;
-
-/// Processes the data submitted from the `/confirm` form.
-final class ConfirmForm implements Handler {
-
-  private final AppCtx ctx;
-
-  ConfirmForm(AppCtx ctx) {
-    this.ctx = ctx;
-  }
-
-  @Override
-  public final Result handle(Request req) {
-    final Sql.Transaction trx;
-    trx = req.attr(Sql.Transaction.class);
-
-    final ConfirmData data;
-    data = ConfirmData.parse(req);
-
-    final LocalDateTime now;
-    now = ctx.now();
-
-    final Sql.Update ticketResult;
-    ticketResult = data.persistTicket(trx, now);
-
-    return switch (ticketResult) {
-      case Sql.UpdateFailed _ -> {
-
-        throw new UnsupportedOperationException("Implement me");
-
-      }
-
-      case Sql.UpdateSuccess _ -> {
-        final AppReservation reservation;
-        reservation = data.reservation();
-
-        final String location;
-        location = ctx.href(AppView.TICKET, reservation);
-
-        yield Redirection.seeOther(location);
-      }
-    };
-  }
-
-}
-""");
-
-  static final SourceModel Seats = SourceModel.create("Seats.java", """
-/*
- * Copyright (C) 2024-2026 Objectos Software LTDA.
- *
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *
- * http://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-package demo.landing.app;
-
-import java.util.List;
-import java.util.Optional;
-import objectos.http.Handler;
-import objectos.http.Request;
-import objectos.http.Result;
-import objectos.way.Sql;
-
-/// The `/seats/{id}` controller.
-final class Seats implements Handler {
-
-  private final AppCtx ctx;
-
-  Seats(AppCtx ctx) {
-    this.ctx = ctx;
-  }
-
-  @Override
-  public final Result handle(Request req) {
-    final Sql.Transaction trx;
-    trx = req.attr(Sql.Transaction.class);
-
-    final int id;
-    id = req.pathParamAsInt("id", Integer.MIN_VALUE);
-
-    final int showId;
-    showId = id & 0xFFFF;
-
-    final Optional<SeatsDetails> maybeDetails;
-    maybeDetails = SeatsDetails.byId(trx, showId);
-
-    if (maybeDetails.isEmpty()) {
-      return req;
-    }
-
-    final AppReservation reservation;
-    reservation = AppReservation.parse(req, () -> generator(trx, showId));
-
-    final int alertId;
-    alertId = (id >>> 16);
-
-    final SeatsAlert alert;
-    alert = SeatsAlert.of(alertId);
-
-    final SeatsDetails details;
-    details = maybeDetails.get();
-
-    final SeatsGrid grid;
-    grid = SeatsGrid.query(trx, reservation.id());
-
-    final String formAction;
-    formAction = ctx.href(AppView.SEATS, showId, reservation);
-
-    return UiShell.of(opts -> {
-      opts.backAction = ctx.clickAction(AppView.MOVIE, details.movieId(), reservation);
-
-      opts.homeAction = ctx.clickAction(AppView.HOME, reservation);
-
-      opts.main = new SeatsView(alert, details, grid, formAction);
-
-      opts.sources = List.of(
-          Source.Seats,
-          Source.SeatsAlert,
-          Source.SeatsData,
-          Source.SeatsDetails,
-          Source.SeatsForm,
-          Source.SeatsGrid,
-          Source.SeatsView
-      );
-    });
-  }
-
-  private long generator(Sql.Transaction trx, int showId) {
-    final long rid;
-    rid = ctx.nextReservation();
-
-    trx.sql(\"""
-      insert into
-        RESERVATION (RESERVATION_ID, SHOW_ID)
-      values
-        (?, ?)
-      \""");
-
-    trx.param(rid);
-
-    trx.param(showId);
-
-    trx.update();
-
-    return rid;
-  }
-
-}
-""");
-
-  static final SourceModel UiIcon = SourceModel.create("UiIcon.java", """
-/*
- * Copyright (C) 2024-2026 Objectos Software LTDA.
- *
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *
- * http://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-package demo.landing.app;
-
-import module objectos.way;
-
-/// Renders a SVG icon (from the Lucide project).
-enum UiIcon {
-
-  ARROW_LEFT(\"""
-  <path d="m12 19-7-7 7-7"/><path d="M19 12H5"/>\"""),
-
-  CALENDAR_CHECK(\"""
-  <path d="M8 2v4"/><path d="M16 2v4"/><rect width="18" height="18" x="3" y="4" rx="2"/><path d="M3 10h18"/><path d="m9 16 2 2 4-4"/>\"""),
-
-  CLOCK(\"""
-  <circle cx="12" cy="12" r="10"/><polyline points="12 6 12 12 16 14"/>\"""),
-
-  CREDIT_CARD(\"""
-  <rect width="20" height="14" x="2" y="5" rx="2"/><line x1="2" x2="22" y1="10" y2="10"/>\"""),
-
-  FILM(\"""
-  <rect width="18" height="18" x="3" y="3" rx="2"/><path d="M7 3v18"/><path d="M3 7.5h4"/><path d="M3 12h18"/><path d="M3 16.5h4"/><path d="M17 3v18"/><path d="M17 7.5h4"/><path d="M17 16.5h4"/>\"""),
-
-  FROWN(\"""
-  <circle cx="12" cy="12" r="10"/><path d="M16 16s-1.5-2-4-2-4 2-4 2"/><line x1="9" x2="9.01" y1="9" y2="9"/><line x1="15" x2="15.01" y1="9" y2="9"/>\"""),
-
-  INFO(\"""
-  <circle cx="12" cy="12" r="10"/><path d="M12 16v-4"/><path d="M12 8h.01"/>\"""),
-
-  PROJECTOR(
-      \"""
-  <path d="M5 7 3 5"/><path d="M9 6V3"/><path d="m13 7 2-2"/><circle cx="9" cy="13" r="3"/><path d="M11.83 12H20a2 2 0 0 1 2 2v4a2 2 0 0 1-2 2H4a2 2 0 0 1-2-2v-4a2 2 0 0 1 2-2h2.17"/><path d="M16 16h2"/>\"""),
-
-  RECEIPT(\"""
-  <path d="M4 2v20l2-1 2 1 2-1 2 1 2-1 2 1 2-1 2 1V2l-2 1-2-1-2 1-2-1-2 1-2-1-2 1Z"/><path d="M16 8h-6a2 2 0 1 0 0 4h4a2 2 0 1 1 0 4H8"/><path d="M12 17.5v-11"/>\"""),
-
-  TICKET(\"""
-  <path d="M2 9a3 3 0 0 1 0 6v2a2 2 0 0 0 2 2h16a2 2 0 0 0 2-2v-2a3 3 0 0 1 0-6V7a2 2 0 0 0-2-2H4a2 2 0 0 0-2 2Z"/><path d="M13 5v2"/><path d="M13 17v2"/><path d="M13 11v2"/>\""");
-
-  private final String contents;
-
-  UiIcon(String contents) {
-    this.contents = contents;
-  }
-
-  public final Html.Component css(String css) {
-    return m -> m.svg(
-        m.xmlns("http://www.w3.org/2000/svg"),
-        m.width("24"),
-        m.height("24"),
-        m.viewBox("0 0 24 24"),
-        m.fill("none"),
-        m.stroke("currentColor"),
-        m.strokeWidth("2"),
-        m.strokeLinecap("round"),
-        m.strokeLinejoin("round"),
-
-        m.css(css),
-
-        m.raw(contents)
-    );
-  }
-
-}
-
-""");
-
-  static final SourceModel MovieShowtime = SourceModel.create("MovieShowtime.java", """
-/*
- * Copyright (C) 2024-2026 Objectos Software LTDA.
- *
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *
- * http://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-package demo.landing.app;
-
-import java.sql.Array;
-import java.sql.SQLException;
-import module java.base;
-
-/// The time of a particular movie screening.
-record MovieShowtime(int showId, String time) {
-
-  private MovieShowtime(Object[] row) {
-    this(
-        Integer.parseInt(row[0].toString()),
-        row[1].toString()
-    );
-  }
-
-  static List<MovieShowtime> of(Array array) throws SQLException {
-    Object[] values;
-    values = (Object[]) array.getArray();
-
-    List<MovieShowtime> list;
-    list = new ArrayList<>(values.length);
-
-    for (Object value : values) {
-      Array inner;
-      inner = (Array) value;
-
-      Object[] row;
-      row = (Object[]) inner.getArray();
-
-      MovieShowtime showtime;
-      showtime = new MovieShowtime(row);
-
-      list.add(showtime);
-    }
-
-    return List.copyOf(list);
-  }
-
-}
-""");
-
-  static final SourceModel NotFoundView = SourceModel.create("NotFoundView.java", """
-/*
- * Copyright (C) 2024-2026 Objectos Software LTDA.
- *
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *
- * http://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-package demo.landing.app;
-
-import module objectos.way;
-
-/// Renders the error view
-final class NotFoundView extends Html.Template {
-
-  private final JsAction onclick;
-
-  NotFoundView(JsAction onclick) {
-    this.onclick = onclick;
-  }
-
-  @Override
-  protected final void render() {
-    h2(testableH1("Something Went Wrong"));
-
-    p("Sorry, we could not find the page you're looking for.");
-
-    div(
-        css(\"""
-        display:flex
-        justify-content:center
-        padding:48rx_0
-        \"""),
-
-        c(
-            UiIcon.FROWN.css(\"""
-            height:auto
-            stroke-width:0.5rx
-            width:120rx
-            \""")
-        )
-    );
-
-    div(
-        css(\"""
-        display:flex
-        justify-content:center
-        \"""),
-
-        button(
-            UiShell.PRIMARY,
-
-            onclick(onclick),
-
-            type("button"),
-
-            text("Get Tickets")
-        )
-    );
-  }
-
-}
-""");
-
-  static final SourceModel SeatsForm = SourceModel.create("SeatsForm.java", """
-/*
- * Copyright (C) 2024-2026 Objectos Software LTDA.
- *
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *
- * http://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-package demo.landing.app;
-
-import objectos.http.Handler;
-import objectos.http.Redirection;
-import objectos.http.Request;
-import objectos.http.Result;
-import objectos.http.Status;
-import objectos.way.Note;
-import objectos.way.Sql;
-
-/// Processes the seats selected by the user.
-final class SeatsForm implements Handler {
-
-  static final Note.Ref1<SeatsData> DATA_READ = Note.Ref1.create(SeatsForm.class, "Read", Note.DEBUG);
-
-  private final AppCtx ctx;
-
-  SeatsForm(AppCtx ctx) {
-    this.ctx = ctx;
-  }
-
-  @Override
-  public final Result handle(Request req) {
-    final Sql.Transaction trx;
-    trx = req.attr(Sql.Transaction.class);
-
-    final SeatsData data;
-    data = SeatsData.parse(req);
-
-    ctx.send(DATA_READ, data);
-
-    if (data.seats() == 0) {
-      // no seats were selected...
-      return handleAlert(trx, data, SeatsAlert.EMPTY);
-    }
-
-    if (data.seats() > 6) {
-      // too many seats were selected...
-      return handleAlert(trx, data, SeatsAlert.LIMIT);
-    }
-
-    final Sql.BatchUpdate tmpSelectionResult;
-    tmpSelectionResult = data.persistTmpSelection(trx);
-
-    return switch (tmpSelectionResult) {
-      case Sql.BatchUpdateFailed _ -> handleTmpSelectionFailed(trx, data);
-
-      case Sql.BatchUpdateSuccess _ -> handleTmpSelectionSuccess(trx, data);
-    };
-  }
-
-  private Result handleAlert(Sql.Transaction trx, SeatsData data, SeatsAlert alert) {
-    // just in case, clear this user's selection
-    data.clearUserSelection(trx);
-
-    final int showId;
-    showId = data.showId();
-
-    final int alertId;
-    alertId = alert.id();
-
-    final int id;
-    id = (alertId << 16) | showId;
-
-    final AppReservation reservation;
-    reservation = data.reservation();
-
-    final String seatsUrl;
-    seatsUrl = ctx.href(AppView.SEATS, id, reservation);
-
-    return Redirection.seeOther(seatsUrl);
-  }
-
-  private Result handleTmpSelectionFailed(Sql.Transaction trx, SeatsData data) {
-    // clear TMP_SELECTION just in case some of the records were inserted
-    data.clearTmpSelection(trx);
-
-    // insertion failed => bad data
-
-    return Status.BAD_REQUEST;
-  }
-
-  private Result handleTmpSelectionSuccess(Sql.Transaction trx, SeatsData data) {
-    final Sql.Update userSelectionResult;
-    userSelectionResult = data.persisUserSelection(trx);
-
-    return switch (userSelectionResult) {
-      case Sql.UpdateSuccess ok -> {
-        int count;
-        count = ok.count();
-
-        if (data.seats() != count) {
-
-          // some or possibly all of the seats were not selected.
-          // 1) maybe an already sold ticket was submitted
-          // 2) seats refer to a different show
-          // anyways... bad data
-
-          // clear SELECTION just in case some of the records were inserted
-          data.clearUserSelection(trx);
-
-          yield Status.BAD_REQUEST;
-
-        } else {
-
-          // all seats were persisted.
-          // render next screen.
-
-          final AppReservation reservation;
-          reservation = data.reservation();
-
-          final String redirectUrl;
-          redirectUrl = ctx.href(AppView.CONFIRM, reservation);
-
-          yield Redirection.seeOther(redirectUrl);
-
-        }
-
-      }
-
-      case Sql.UpdateFailed _ -> handleAlert(trx, data, SeatsAlert.BOOKED);
-    };
-  }
-
-}
-""");
-
-  static final SourceModel AppCtx = SourceModel.create("AppCtx.java", """
-/*
- * Copyright (C) 2024-2026 Objectos Software LTDA.
- *
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *
- * http://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-package demo.landing.app;
-
-import demo.landing.LandingDemo;
-import java.security.SecureRandom;
-import java.time.Clock;
-import java.time.Duration;
-import java.time.Instant;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.ZoneOffset;
-import java.util.HexFormat;
-import java.util.Objects;
-import java.util.function.Consumer;
-import java.util.random.RandomGenerator;
-import objectos.css.CssLibrary;
-import objectos.http.Handler;
-import objectos.http.HeaderName;
-import objectos.http.PathParam;
-import objectos.http.RequestMethod;
-import objectos.http.Result;
-import objectos.http.Routing;
-import objectos.script.Js;
-import objectos.script.JsAction;
-import objectos.way.Html;
-import objectos.way.Note;
-import objectos.way.Sql;
-
-/// Application entry point and system-wide context.
-public final class AppCtx implements LandingDemo {
-
-  public static final class Builder implements LandingDemo.Options {
-
-    private Clock clock;
-
-    private byte[] codecKey;
-
-    private Sql.Database database;
-
-    private Note.Sink noteSink;
-
-    private Instant reservationEpoch;
-
-    private RandomGenerator reservationRandom;
-
-    private boolean testing;
-
-    @Override
-    public final void clock(Clock value) {
-      clock = Objects.requireNonNull(value, "value == null");
-    }
-
-    @Override
-    public final void codecKey(byte[] value) {
-      final byte[] notNull;
-      notNull = Objects.requireNonNull(value, "value == null");
-
-      codecKey = notNull.clone();
-    }
-
-    @Override
-    public final void database(Sql.Database value) {
-      database = Objects.requireNonNull(value, "value == null");
-    }
-
-    @Override
-    public final void noteSink(Note.Sink value) {
-      noteSink = Objects.requireNonNull(value, "value == null");
-    }
-
-    @Override
-    public final void reservationEpoch(Instant value) {
-      reservationEpoch = Objects.requireNonNull(value, "value == null");
-    }
-
-    @Override
-    public final void reservationRandom(RandomGenerator value) {
-      reservationRandom = Objects.requireNonNull(value, "value == null");
-    }
-
-    @Override
-    public final void testing() {
-      testing = true;
-    }
-
-    final AppCtx build() {
-      if (clock == null) {
-        clock = Clock.systemDefaultZone();
-      }
-
-      Objects.requireNonNull(codecKey, "codecKey == null");
-
-      Objects.requireNonNull(database, "database == null");
-
-      if (noteSink == null) {
-        noteSink = Note.NoOpSink.create();
-      }
-
-      if (reservationEpoch == null) {
-        final LocalDateTime dateTime;
-        dateTime = LocalDateTime.of(2025, 1, 1, 0, 0);
-
-        final ZoneOffset offset;
-        offset = ZoneOffset.UTC;
-
-        reservationEpoch = dateTime.toInstant(offset);
-      }
-
-      if (reservationRandom == null) {
-        reservationRandom = new SecureRandom();
-      }
-
-      return new AppCtx(
-          clock,
-          codecKey,
-          database,
-          noteSink,
-          reservationEpoch,
-          reservationRandom,
-          testing
-      );
-    }
-
-  }
-
-  private static final Note.Ref1<Throwable> TRANSACTIONAL = Note.Ref1.create(AppCtx.class, "Transactional", Note.ERROR);
-
-  private final Clock clock;
-
-  private final byte[] codecKey;
-
-  private final Sql.Database database;
-
-  private final HexFormat hexFormat = HexFormat.of();
-
-  private final Note.Sink noteSink;
-
-  private final Instant reservationEpoch;
-
-  private final RandomGenerator reservationRandom;
-
-  private final boolean testing;
-
-  private AppCtx(
-      Clock clock,
-      byte[] codecKey,
-      Sql.Database database,
-      Note.Sink noteSink,
-      Instant reservationEpoch,
-      RandomGenerator reservationRandom,
-      boolean testing) {
-    this.clock = clock;
-
-    this.codecKey = codecKey;
-
-    this.database = database;
-
-    this.noteSink = noteSink;
-
-    this.reservationEpoch = reservationEpoch;
-
-    this.reservationRandom = reservationRandom;
-
-    this.testing = testing;
-  }
-
-  /// Creates a new instance with the specified configuration.
-  public static AppCtx create(Consumer<? super Builder> opts) {
-    final Builder builder;
-    builder = new Builder();
-
-    opts.accept(builder);
-
-    return builder.build();
-  }
-
-  // ##################################################################
-  // # BEGIN: Routes
-  // ##################################################################
-
-  @Override
-  public final void localRoutes(Routing local) {
-    local.at("/demo.landing/clear-reservation",
-        RequestMethod.POST, trx(new LocalClear(this)));
-
-    local.at("/demo.landing/create-show",
-        RequestMethod.POST, trx(new LocalCreate(this)));
-  }
-
-  @Override
-  public final void publicRoutes(Routing www) {
-    www.at("/demo.landing/boot",
-        RequestMethod.GET, trx(new Boot(this)));
-
-    www.at("/demo.landing/home",
-        RequestMethod.GET, trx(new Home(this)));
-
-    www.at("/demo.landing/movie/{id}",
-        PathParam.digits("id"),
-        RequestMethod.GET, trx(new Movie(this)));
-
-    www.at("/demo.landing/seats/{id}",
-        PathParam.digits("id"),
-        RequestMethod.GET, trx(new Seats(this)),
-        RequestMethod.POST, trx(new SeatsForm(this)));
-
-    www.at("/demo.landing/confirm",
-        RequestMethod.GET, trx(new Confirm(this)),
-        RequestMethod.POST, trx(new ConfirmForm(this)));
-
-    www.at("/demo.landing/ticket",
-        RequestMethod.GET, trx(new Ticket()));
-
-    www.at("/demo.landing/poster-{id}.jpg",
-        PathParam.digits("id"),
-        RequestMethod.GET, trx(new Poster()));
-
-    www.at("/demo.landing/{rest}",
-        new NotFound(this));
-  }
-
-  private Handler trx(Handler handler) {
-    return testing
-        ? req -> handler.handle(req)
-        : req -> {
-
-          final Sql.Transaction trx;
-          trx = database.connect();
-
-          try (trx) {
-            trx.sql("set schema CINEMA");
-
-            trx.update();
-
-            req.attr(Sql.Transaction.class, trx);
-
-            final Result result;
-            result = handler.handle(req);
-
-            trx.commit();
-
-            return result;
-          } catch (Throwable t) {
-            noteSink.send(TRANSACTIONAL, t);
-
-            throw trx.rollbackAndWrap(t);
-          }
-        };
-  }
-
-  // ##################################################################
-  // # END: Routes
-  // ##################################################################
-
-  // ##################################################################
-  // # BEGIN: History/Hash
-  // ##################################################################
-
-  /*
-  
-  random = 4 bytes
-  
-  view = 1 byte
-  
-  id = 4 byte
-  
-  rid = 8 bytes
-  ------------------
-  total = 17 bytes
-  
-  */
-
-  public final String decodeHash(String hash) {
-    if (hash == null) {
-      return href(AppView.HOME);
-    }
-
-    final int length;
-    length = hash.length();
-
-    // '#' + 'demo' + '=' + (17 * 2) + ';'
-    if (length != 41) {
-      return href(AppView.HOME);
-    }
-
-    if (!hash.startsWith("#demo=")) {
-      return href(AppView.HOME);
-    }
-
-    final char last;
-    last = hash.charAt(41 - 1);
-
-    if (last != ';') {
-      return href(AppView.HOME);
-    }
-
-    final String value;
-    value = hash.substring(6, 41 - 1);
-
-    return decodeHash0(value);
-  }
-
-  private static final int BYTE_MASK = 0xFF;
-
-  private static final int HASH_LENGTH = 17;
-
-  private final AppView[] views = AppView.values();
-
-  private String decodeHash0(String raw) {
-    if (raw == null) {
-      // a null value means a request with no URL fragment
-      // => we should present the first view
-      return href(AppView.HOME);
-    }
-
-    final byte[] bytes;
-
-    try {
-      bytes = hexFormat.parseHex(raw);
-    } catch (IllegalArgumentException expected) {
-      return href(AppView.NOT_FOUND);
-    }
-
-    if (bytes.length != HASH_LENGTH) {
-      // wrong length
-      return href(AppView.NOT_FOUND);
-    }
-
-    int index;
-    index = 0;
-
-    int random = 0;
-    random |= (bytes[index++] & BYTE_MASK) << 24;
-    random |= (bytes[index++] & BYTE_MASK) << 16;
-    random |= (bytes[index++] & BYTE_MASK) << 8;
-    random |= (bytes[index++] & BYTE_MASK) << 0;
-
-    obfuscate(bytes, random);
-
-    int viewOrdinal;
-    viewOrdinal = bytes[index++] & BYTE_MASK;
-
-    if (viewOrdinal < 0 || viewOrdinal >= views.length) {
-      // invalid view ordinal
-      return href(AppView.NOT_FOUND);
-    }
-
-    final AppView view;
-    view = views[viewOrdinal];
-
-    // next 4 bytes = id
-    int id = 0;
-    id |= (bytes[index++] & BYTE_MASK) << 24;
-    id |= (bytes[index++] & BYTE_MASK) << 16;
-    id |= (bytes[index++] & BYTE_MASK) << 8;
-    id |= (bytes[index++] & BYTE_MASK) << 0;
-
-    // next 8 bytes = rid (big endian)
-    long rid = 0L;
-    rid |= (long) (bytes[index++] & BYTE_MASK) << 56;
-    rid |= (long) (bytes[index++] & BYTE_MASK) << 48;
-    rid |= (long) (bytes[index++] & BYTE_MASK) << 40;
-    rid |= (long) (bytes[index++] & BYTE_MASK) << 32;
-    rid |= (long) (bytes[index++] & BYTE_MASK) << 24;
-    rid |= (long) (bytes[index++] & BYTE_MASK) << 16;
-    rid |= (long) (bytes[index++] & BYTE_MASK) << 8;
-    rid |= (long) (bytes[index++] & BYTE_MASK) << 0;
-
-    return href(view, id, rid);
-  }
-
-  private void obfuscate(byte[] bytes, int random) {
-    final int offset;
-    offset = random == Integer.MIN_VALUE ? Integer.MAX_VALUE : Math.abs(random);
-
-    for (int idx = 4, len = bytes.length; idx < len; idx++) {
-      byte b;
-      b = bytes[idx];
-
-      int keyIndex;
-      keyIndex = (idx + offset) % codecKey.length;
-
-      byte k;
-      k = codecKey[keyIndex];
-
-      bytes[idx] = (byte) (b ^ k);
-    }
-  }
-
-  public final String encodeHash(AppView view, int id, long rid) {
-    final byte[] bytes;
-    bytes = new byte[HASH_LENGTH];
-
-    int index;
-    index = 0;
-
-    final long millis;
-    millis = clock.millis();
-
-    final int random;
-    random = (int) millis ^ (int) (millis >>> 32);
-
-    bytes[index++] = (byte) ((random >>> 24) & BYTE_MASK);
-    bytes[index++] = (byte) ((random >>> 16) & BYTE_MASK);
-    bytes[index++] = (byte) ((random >>> 8) & BYTE_MASK);
-    bytes[index++] = (byte) ((random >>> 0) & BYTE_MASK);
-
-    // first byte = view
-    bytes[index++] = (byte) (view.ordinal() & BYTE_MASK);
-
-    // next 4 bytes = id
-    bytes[index++] = (byte) ((id >>> 24) & BYTE_MASK);
-    bytes[index++] = (byte) ((id >>> 16) & BYTE_MASK);
-    bytes[index++] = (byte) ((id >>> 8) & BYTE_MASK);
-    bytes[index++] = (byte) ((id >>> 0) & BYTE_MASK);
-
-    // next 8 bytes = rid (big endian)
-    bytes[index++] = (byte) ((rid >>> 56) & BYTE_MASK);
-    bytes[index++] = (byte) ((rid >>> 48) & BYTE_MASK);
-    bytes[index++] = (byte) ((rid >>> 40) & BYTE_MASK);
-    bytes[index++] = (byte) ((rid >>> 32) & BYTE_MASK);
-    bytes[index++] = (byte) ((rid >>> 24) & BYTE_MASK);
-    bytes[index++] = (byte) ((rid >>> 16) & BYTE_MASK);
-    bytes[index++] = (byte) ((rid >>> 8) & BYTE_MASK);
-    bytes[index++] = (byte) ((rid >>> 0) & BYTE_MASK);
-
-    obfuscate(bytes, random);
-
-    return hexFormat.formatHex(bytes);
-  }
-
-  // ##################################################################
-  // # END: History/Hash
-  // ##################################################################
-
-  // ##################################################################
-  // # BEGIN: Reservation
-  // ##################################################################
-
-  private static final long TIMESTAMP_BITS = 41;
-
-  private static final long RANDOM_BITS = 64 - TIMESTAMP_BITS;
-
-  private static final long MAX_RANDOM = (1L << RANDOM_BITS) - 1;
-
-  /// Generates a 64-bit Snowflake ID to uniquely identify an user making
-  /// seat reservations.
-  public final long nextReservation() {
-    final Instant now;
-    now = clock.instant();
-
-    final Duration duration;
-    duration = Duration.between(reservationEpoch, now);
-
-    final long epochTime;
-    epochTime = duration.toMillis();
-
-    final long timestamp;
-    timestamp = epochTime << RANDOM_BITS;
-
-    final long randomBits;
-    randomBits = reservationRandom.nextLong(MAX_RANDOM);
-
-    return timestamp | randomBits;
-  }
-
-  // ##################################################################
-  // # END: Reservation
-  // ##################################################################
-
-  // ##################################################################
-  // # BEGIN: UI
-  // ##################################################################
-
-  public static final Html.Id SHELL = Html.Id.of("demo.landing");
-
-  public static final HeaderName DEMO_LOCATION_HASH = HeaderName.of("Demo-Location-Hash");
-
-  public static final JsAction ONLOAD = Js.byId(SHELL).render("/demo.landing/boot", opts -> {
-    opts.header(DEMO_LOCATION_HASH.headerCase(), Js.window().location().hash());
-  });
-
-  /// The default 'submit' action.
-  static final JsAction SUBMIT = Js.submit(opts -> {
-    // disable history
-    opts.history(false);
-
-    // disable scroll
-    opts.scroll(false);
-
-    // update only the demo shell
-    opts.update(AppCtx.SHELL);
-  });
-
-  @Override
-  public final Html.Id shell() {
-    return SHELL;
-  }
-
-  @Override
-  public final JsAction loadAction() {
-    return ONLOAD;
-  }
-
-  public final JsAction clickAction(AppView view, AppReservation reservation) {
-    return clickAction(view, 0, reservation);
-  }
-
-  public final JsAction clickAction(AppView view, int id, AppReservation reservation) {
-    return clickAction(view, id, reservation.id());
-  }
-
-  public final JsAction clickAction(AppView view, int id, long rid) {
-    final String href;
-    href = href(view, id, rid);
-
-    final String hash;
-    hash = encodeHash(view, id, rid);
-
-    return Js.byId(SHELL).render(href, opts -> {
-      opts.history("/index.html#demo=" + hash + ";");
-    });
-  }
-
-  private String href(AppView view) {
-    return href(view, 0, 0L);
-  }
-
-  public final String href(AppView view, AppReservation reservation) {
-    return href(view, 0, reservation);
-  }
-
-  public final String href(AppView view, int id, AppReservation reservation) {
-    return href(view, id, reservation.id());
-  }
-
-  private String href(AppView view, int id, long reservationId) {
-    final StringBuilder href;
-    href = new StringBuilder();
-
-    href.append("/demo.landing/");
-
-    href.append(view.slug);
-
-    if (id > 0) {
-      href.append('/');
-
-      href.append(id);
-    }
-
-    if (reservationId != 0) {
-      href.append("?reservationId=");
-
-      href.append(reservationId);
-    }
-
-    return href.toString();
-  }
-
-  // ##################################################################
-  // # END: UI
-  // ##################################################################
-
-  // ##################################################################
-  // # BEGIN: CSS
-  // ##################################################################
-
-  public static CssLibrary stylesImpl() {
-    return opts -> {
-      opts.scanClasses(
-          ConfirmView.class,
-          HomeView.class,
-          MovieView.class,
-          NotFoundView.class,
-          SeatsView.class,
-          TicketView.class,
-          UiIcon.class,
-          UiShell.class
-      );
-
-      opts.theme(\"""
-      :root {
-        --font-sans: 'InterVariable', var(--default-font-sans);
-        --font-mono: 'Hack', var(--default-font-mono);
-        --color-body: var(--color-white);
-        --color-border: var(--color-gray-200);
-        --color-btn-ghost: var(--color-body);
-        --color-btn-ghost-active: color-mix(in oklab, var(--color-btn-ghost) 85%, black 15%);
-        --color-btn-ghost-hover: color-mix(in oklab, var(--color-btn-ghost) 90%, black 10%);
-        --color-btn-ghost-text: var(--color-text);
-        --color-btn-primary: var(--color-blue-600);
-        --color-btn-primary-active: color-mix(in oklab, var(--color-btn-primary) 70%, black 30%);
-        --color-btn-primary-hover: color-mix(in oklab, var(--color-btn-primary) 85%, black 15%);
-        --color-btn-primary-text: var(--color-gray-50);
-        --color-focus: var(--color-blue-600);
-        --color-footer: var(--color-gray-700);
-        --color-footer-text: var(--color-gray-100);
-        --color-high-comment: var(--color-gray-500);
-        --color-high-keyword: var(--color-blue-700);
-        --color-high-literal: var(--color-red-600);
-        --color-high-meta: var(--color-yellow-600);
-        --color-high-string: var(--color-green-700);
-        --color-html: var(--color-gray-50);
-        --color-icon: var(--color-gray-800);
-        --color-layer: var(--color-stone-100);
-        --color-link: var(--color-blue-600);
-        --color-link-hover: color-mix(in oklab, var(--color-link) 85%, black 15%);
-        --color-logo: var(--color-gray-800);
-        --color-logo-hover: var(--color-link);
-        --color-text: var(--color-gray-800);
-        --color-text-secondary: var(--color-gray-600);
-      }
-      \""");
-
-      opts.theme(\"""
-      :root { @media (prefers-color-scheme: dark) {
-        --color-body: var(--color-neutral-800);
-        --color-border: var(--color-neutral-600);
-        --color-btn-ghost-active: color-mix(in oklab, var(--color-btn-ghost) 85%, white 15%);
-        --color-btn-ghost-hover: color-mix(in oklab, var(--color-btn-ghost) 90%, white 10%);
-        --color-focus: var(--color-white);
-        --color-high-comment: var(--color-fuchsia-400);
-        --color-high-keyword: var(--color-blue-400);
-        --color-high-literal: var(--color-red-400);
-        --color-high-meta: var(--color-pink-400);
-        --color-high-string: var(--color-green-300);
-        --color-icon: var(--color-gray-200);
-        --color-layer: var(--color-stone-900);
-        --color-link: var(--color-blue-400);
-        --color-link-hover: color-mix(in oklab, var(--color-link) 85%, white 15%);
-        --color-logo: var(--color-neutral-100);
-        --color-text: var(--color-neutral-100);
-        --color-text-secondary: var(--color-neutral-300);
-      }}
-      \""");
-    };
-  }
-
-  // ##################################################################
-  // # END: CSS
-  // ##################################################################
-
-  // ##################################################################
-  // # BEGIN: Date/Time
-  // ##################################################################
-
-  public final LocalDateTime now() {
-    return LocalDateTime.now(clock);
-  }
-
-  public final LocalDate today() {
-    return LocalDate.now(clock);
-  }
-
-  // ##################################################################
-  // # END: Date/Time
-  // ##################################################################
-
-  // ##################################################################
-  // # BEGIN: Notes
-  // ##################################################################
-
-  public final void send(Note.Int1 note, int value) {
-    noteSink.send(note, value);
-  }
-
-  public final <T1> void send(Note.Ref1<T1> note, T1 value) {
-    noteSink.send(note, value);
-  }
-
-  // ##################################################################
-  // # END: Notes
-  // ##################################################################
-
-  // ##################################################################
-  // # BEGIN: Testing support
-  // ##################################################################
-
-  final AppCtx with(Clock clock, Instant registrationEpoch, RandomGenerator registrationRandom) {
-    return new AppCtx(clock, codecKey, database, noteSink, registrationEpoch, registrationRandom, testing);
-  }
-
-  // ##################################################################
-  // # END: Testing support
-  // ##################################################################
-
-}
-""");
-
-  static final SourceModel SeatsDetails = SourceModel.create("SeatsDetails.java", """
-/*
- * Copyright (C) 2024-2026 Objectos Software LTDA.
- *
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *
- * http://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-package demo.landing.app;
-
-import java.sql.SQLException;
-import module java.base;
-import module objectos.way;
-
-/// Details of the movie screening selected by the user. To be presented in the
-/// seats form.
-record SeatsDetails(
-    String date,
-    String time,
-
-    int screenId,
-    String screen,
-    int capacity,
-
-    int movieId,
-    String title
-) {
-
-  private SeatsDetails(ResultSet rs, int idx) throws SQLException {
-    this(
-        rs.getString(idx++),
-        rs.getString(idx++),
-
-        rs.getInt(idx++),
-        rs.getString(idx++),
-        rs.getInt(idx++),
-
-        rs.getInt(idx++),
-        rs.getString(idx++)
-    );
-  }
-
-  public static Optional<SeatsDetails> byId(Sql.Transaction trx, int id) {
-    trx.sql(\"""
-    select
-      formatdatetime(SHOW.SHOWDATE, 'EEE dd/LLL'),
-      formatdatetime(SHOW.SHOWTIME, 'kk:mm'),
-
-      SCREEN.SCREEN_ID,
-      SCREEN.NAME,
-      SCREEN.SEATING_CAPACITY,
-
-      MOVIE.MOVIE_ID,
-      MOVIE.TITLE
-    from
-      SHOW
-      natural join SCREENING
-      natural join MOVIE
-      join SCREEN on SCREENING.SCREEN_ID = SCREEN.SCREEN_ID
-    where
-      SHOW.SHOW_ID = ?
-    \""");
-
-    trx.param(id);
-
-    return trx.queryOptional(SeatsDetails::new);
-  }
-
-  public static Optional<SeatsDetails> byReservationId(Sql.Transaction trx, long reservationId) {
-    trx.sql(\"""
-    select
-      formatdatetime(SHOW.SHOWDATE, 'EEE dd/LLL'),
-      formatdatetime(SHOW.SHOWTIME, 'kk:mm'),
-
-      SCREEN.SCREEN_ID,
-      SCREEN.NAME,
-      SCREEN.SEATING_CAPACITY,
-
-      MOVIE.MOVIE_ID,
-      MOVIE.TITLE
-    from
-      RESERVATION
-      natural join SHOW
-      natural join SCREENING
-      natural join MOVIE
-      join SCREEN on SCREENING.SCREEN_ID = SCREEN.SCREEN_ID
-    where
-      RESERVATION.RESERVATION_ID = ?
-    \""");
-
-    trx.param(reservationId);
-
-    return trx.queryOptional(SeatsDetails::new);
-  }
-
-  public static SeatsDetails queryReservation(Sql.Transaction trx, long reservationId) {
-    reservation(trx, reservationId);
-
-    return trx.querySingle(SeatsDetails::new);
-  }
-
-  private static void reservation(Sql.Transaction trx, long reservationId) {
-    trx.sql(\"""
-    select
-      SHOW.SHOW_ID,
-      formatdatetime(SHOW.SHOWDATE, 'EEE dd/LLL'),
-      formatdatetime(SHOW.SHOWTIME, 'kk:mm'),
-
-      SCREEN.SCREEN_ID,
-      SCREEN.NAME,
-      SCREEN.SEATING_CAPACITY,
-
-      MOVIE.MOVIE_ID,
-      MOVIE.TITLE
-    from
-      RESERVATION
-      natural join SHOW
-      natural join SCREENING
-      natural join MOVIE
-      join SCREEN on SCREENING.SCREEN_ID = SCREEN.SCREEN_ID
-    where
-      RESERVATION.RESERVATION_ID = ?
-    \""");
-
-    trx.param(reservationId);
-  }
-
-}
-""");
-
-  static final SourceModel TicketView = SourceModel.create("TicketView.java", """
-/*
- * Copyright (C) 2024-2026 Objectos Software LTDA.
- *
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *
- * http://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-package demo.landing.app;
-
-import module java.base;
-import module objectos.way;
-
-/// Renders the tickets bought by the user.
-final class TicketView extends Html.Template {
-
-  private final NumberFormat formatter = DecimalFormat.getCurrencyInstance();
-
-  private final TicketModel ticket;
-
-  TicketView(TicketModel ticket) {
-    this.ticket = ticket;
-  }
-
-  @Override
-  protected final void render() {
-    testableH1("Ticket #" + ticket.id());
-
-    h2("Thank You");
-
-    p("Here's your receipt");
-
-    div(
-        css(\"""
-        position:relative
-        \"""),
-
-        c(
-            UiIcon.RECEIPT.css(\"""
-            border:1px_solid_var(--color-border)
-            border-radius:9999px
-            height:auto
-            inset:-80rx_0_auto_auto
-            padding:16rx
-            position:absolute
-            stroke-width:1rx
-            width:80rx
-            \""")
-        )
-    );
-
-    dl(
-        css(\"""
-        border:1px_solid_var(--color-border)
-        display:flex
-        flex-direction:column
-        gap:4rx
-        margin:32rx_0_0
-        padding:16rx
-
-        &_div/display:flex
-        &_div/justify-content:space-between
-
-        &_dd/font-weight:500
-        \"""),
-
-        div(
-            dt(testableFieldName("Ammount Paid")),
-            dd(testableFieldValue(format(ticket.ammountPaid())))
-        ),
-
-        div(
-            dt(testableFieldName("Purchase Time")),
-            dd(testableFieldValue(ticket.purchaseTime()))
-        )
-    );
-
-    h2(testableH2("Tickets"));
-
-    p(ticket.singular() ? "Here's your ticket" : "Here are your tickets");
-
-    div(
-        css(\"""
-        display:flex
-        flex-direction:column
-        gap:16rx
-        padding:32rx_0_0
-        \"""),
-
-        f(this::renderTickets)
-    );
-  }
-
-  private void renderTickets() {
-    for (var item : ticket.items()) {
-      div(
-          css(\"""
-          border:1px_solid_var(--color-border)
-          display:flex
-          justify-content:space-between
-          padding:16rx
-          \"""),
-
-          c(
-              UiIcon.TICKET.css(\"""
-              height:auto
-              margin-right:16rx
-              padding:16rx
-              stroke-width:1rx
-              width:80rx
-              \""")
-          ),
-
-          ul(
-              css(\"""
-              font-size:14rx
-              flex:1
-              \"""),
-
-              li(testableCell(ticket.title(), 8)),
-              li(testableCell(ticket.date(), 10)),
-              li(testableCell(ticket.time(), 6)),
-              li(testableCell(ticket.screen(), 8))
-          ),
-
-          div(
-              css(\"""
-              align-items:end
-              display:flex
-              flex-direction:column
-              justify-content:space-around
-              \"""),
-
-              div(
-                  css(\"""
-                  font-size:20rx
-                  font-weight:300
-                  \"""),
-
-                  text("Seat "),
-                  text(testableCell(item.seat(), 5))
-              ),
-
-              div(
-                  css(\"""
-                  font-size:14rx
-                  font-weight:600
-                  \"""),
-
-                  text(testableCell(format(item.price()), 6))
-              )
-          )
-      );
-
-      testableNewLine();
-    }
-  }
-
-  private String format(double price) {
-    return formatter.format(price);
-  }
-
-}
-""");
-
-  static final SourceModel LocalClear = SourceModel.create("LocalClear.java", """
-/*
- * Copyright (C) 2024-2026 Objectos Software LTDA.
- *
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *
- * http://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-package demo.landing.app;
-
-import java.time.LocalDateTime;
-import objectos.http.Content;
-import objectos.http.Handler;
-import objectos.http.MediaType;
-import objectos.http.Request;
-import objectos.http.Result;
-import objectos.way.Note;
-import objectos.way.Sql;
-
-final class LocalClear implements Handler {
-
-  private static final Note.Int1 CLEAR_RESERVATION = Note.Int1.create(LocalClear.class, "Clear Reservation", Note.INFO);
-
-  private final AppCtx ctx;
-
-  LocalClear(AppCtx ctx) {
-    this.ctx = ctx;
-  }
-
-  @Override
-  public final Result handle(Request req) {
-    final int localId;
-    localId = 1;
-
-    final Sql.Transaction trx;
-    trx = req.attr(Sql.Transaction.class);
-
-    final LocalDateTime now;
-    now = ctx.now();
-
-    trx.sql(\"""
-    delete from RESERVATION
-    where
-      datediff(minute, RESERVATION_TIME, ?) > 5
-      and TICKET_TIME is null
-    \""");
-
-    trx.param(now);
-
-    final int count;
-    count = trx.update();
-
-    ctx.send(CLEAR_RESERVATION, count);
-
-    log(trx, localId);
-
-    return Content.of(MediaType.TEXT_PLAIN, "OK\\n");
-  }
-
-  private void log(Sql.Transaction trx, int id) {
-    final LocalDateTime now;
-    now = ctx.now();
-
-    trx.sql(\"""
-    insert into LOCAL_LOG (LOCAL_ID, LOCAL_TIME) values (?, ?)
-    \""");
-
-    trx.param(id);
-
-    trx.param(now);
-
-    trx.update();
-  }
-
-}
-""");
-
-  static final SourceModel SourceModel_ = SourceModel.create("SourceModel.java", """
-/*
- * Copyright (C) 2024-2026 Objectos Software LTDA.
- *
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *
- * http://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-package demo.landing.app;
-
-import module objectos.way;
-
-/// The filename and the contents of a Java source file.
-record SourceModel(String name, String value, Html.Id button, Html.Id panel) {
-
-  private static int INDEX = 0;
-
-  public static SourceModel create(String name, String value) {
-    final int index;
-    index = INDEX++;
-
-    return new SourceModel(
-        name,
-
-        value,
-
-        Html.Id.of("src-btn-" + index),
-
-        Html.Id.of("src-panel-" + index)
-    );
-  }
-
-}
-""");
-
-  static final SourceModel ConfirmDetails = SourceModel.create("ConfirmDetails.java", """
-/*
- * Copyright (C) 2024-2026 Objectos Software LTDA.
- *
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *
- * http://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-package demo.landing.app;
-
-import java.sql.Array;
-import module java.base;
-import module objectos.way;
-
-/// The confirmation data to be shown to the user regarding the seats selected.
-/// Includes the price of each ticket and the total amount due.
-final record ConfirmDetails(
-    String orderNumber,
-    String reservationId,
-    int showId,
-    String title,
-    String screen,
-    String date,
-    String time,
-    double totalPrice,
-    List<Item> items
-) {
-
-  record Item(String seat, double price) {
-
-    private Item(ResultSet rs, int idx) throws SQLException {
-      this(
-          rs.getString(idx++),
-          rs.getDouble(idx++)
-      );
-    }
-
-    static List<Item> of(Array array) throws SQLException {
-      final Object[] values;
-      values = (Object[]) array.getArray();
-
-      final List<Item> list;
-      list = new ArrayList<>(values.length);
-
-      for (Object value : values) {
-        final ResultSet rs;
-        rs = (ResultSet) value;
-
-        if (!rs.next()) {
-          continue;
-        }
-
-        final Item item;
-        item = new Item(rs, 1);
-
-        list.add(item);
-      }
-
-      return List.copyOf(list);
-    }
-
-  }
-
-  private ConfirmDetails(ResultSet rs, int idx) throws SQLException {
-    this(
-        rs.getString(idx++),
-        rs.getString(idx++),
-        rs.getInt(idx++),
-        rs.getString(idx++),
-        rs.getString(idx++),
-        rs.getString(idx++),
-        rs.getString(idx++),
-        rs.getDouble(idx++),
-        Item.of(rs.getArray(idx++))
-    );
-  }
-
-  public static Optional<ConfirmDetails> queryOptional(Sql.Transaction trx, long reservationId) {
-    trx.sql(\"""
-    select
-      concat('Order #', RESERVATION.RESERVATION_ID),
-      cast(RESERVATION.RESERVATION_ID as VARCHAR),
-      SHOW.SHOW_ID,
-      MOVIE.TITLE,
-      SCREEN.NAME,
-      formatdatetime(SHOW.SHOWDATE, 'EEE dd/LLL'),
-      formatdatetime(SHOW.SHOWTIME, 'kk:mm'),
-      sum(SHOW.SEAT_PRICE),
-      array_agg (
-        row (concat(SEAT.SEAT_ROW, SEAT.SEAT_COL), SHOW.SEAT_PRICE)
-      )
-    from
-      RESERVATION
-      join SELECTION on RESERVATION.RESERVATION_ID = SELECTION.RESERVATION_ID
-      join SHOW on RESERVATION.SHOW_ID = SHOW.SHOW_ID
-      join SCREENING on SHOW.SCREENING_ID = SCREENING.SCREENING_ID
-      join MOVIE on SCREENING.MOVIE_ID = MOVIE.MOVIE_ID
-      join SCREEN on SCREENING.SCREEN_ID = SCREEN.SCREEN_ID
-      join SEAT on SELECTION.SEAT_ID = SEAT.SEAT_ID
-    where
-      RESERVATION.RESERVATION_ID = ?
-    group by
-      RESERVATION.RESERVATION_ID
-    \""");
-
-    trx.param(reservationId);
-
-    return trx.queryOptional(ConfirmDetails::new);
-  }
-
-}
-""");
-
-  static final SourceModel SeatsView = SourceModel.create("SeatsView.java", """
-/*
- * Copyright (C) 2024-2026 Objectos Software LTDA.
- *
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *
- * http://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-package demo.landing.app;
-
-import module objectos.way;
-
-/// Renders the seat selection view.
-final class SeatsView extends Html.Template {
-
-  private static final String FORM_ID = "seats-form";
-
-  private final SeatsAlert alert;
-
-  private final SeatsDetails details;
-
-  private final SeatsGrid grid;
-
-  private final String formAction;
-
-  SeatsView(SeatsAlert alert, SeatsDetails details, SeatsGrid grid, String formAction) {
-    this.alert = alert;
-
-    this.details = details;
-
-    this.grid = grid;
-
-    this.formAction = formAction;
-  }
-
-  @Override
-  protected final void render() {
-    // this node is for testing only, it is not rendered in the final HTML
-    testableH1("Show details");
-
-    h2(testableField("title", details.title()));
-
-    p("Please choose your seats");
-
-    if (alert != null) {
-      testableField("alert", alert.name());
-
-      renderAlert(alert.msg);
-    }
-
-    div(
-        css(\"""
-        border:1px_solid_var(--color-border)
-        display:flex
-        gap:24rx
-        margin:32rx_0
-        overflow-x:auto
-        padding:32rx_24rx
-        \"""),
-
-        f(this::renderDetails),
-
-        f(this::renderSeats)
-    );
-  }
-
-  private void renderAlert(String msg) {
-    div(
-        css(\"""
-        align-items:center
-        background-color:var(--color-blue-100)
-        border-left:3px_solid_var(--color-blue-800)
-        display:flex
-        font-size:14rx
-        line-height:16rx
-        margin:16rx_0
-        padding:16rx
-        \"""),
-
-        c(
-            UiIcon.INFO.css(\"""
-            height:20rx
-            width:auto
-            padding-right:16rx
-            \""")
-        ),
-
-        div(
-            css(\"""
-            flex:1
-            \"""),
-
-            text(msg)
-        )
-    );
-  }
-
-  private void renderDetails() {
-    div(
-        css(\"""
-        display:flex
-        flex-direction:column
-        font-size:14rx
-        gap:16rx
-        \"""),
-
-        renderDetailsItem(UiIcon.CALENDAR_CHECK, "date", details.date()),
-
-        renderDetailsItem(UiIcon.CLOCK, "time", details.time()),
-
-        renderDetailsItem(UiIcon.PROJECTOR, "screen", details.screen())
-    );
-  }
-
-  private Html.Instruction.OfElement renderDetailsItem(UiIcon icon, String name, String value) {
-    return div(
-        css(\"""
-        align-items:center
-        display:flex
-        flex-direction:column
-        gap:4rx
-        \"""),
-
-        c(
-            icon.css(\"""
-            height:auto
-            stroke:icon
-            width:20rx
-            \""")
-        ),
-
-        span(
-            css(\"""
-            text-align:center
-            width:6rch
-            \"""),
-
-            text(testableField(name, value))
-        )
-    );
-  }
-
-  private void renderSeats() {
-    // this node is for testing only, it is not rendered in the final HTML
-    testableH1("Seats");
-
-    div(
-        css(\"""
-        display:flex
-        flex-direction:column
-        flex-grow:1
-        justify-content:start
-        \"""),
-
-        f(this::renderSeatsScreen),
-
-        f(this::renderSeatsForm),
-
-        f(this::renderSeatsAction)
-    );
-  }
-
-  private void renderSeatsScreen() {
-    svg(
-        css(\"""
-        display:block
-        margin:0_auto
-        max-height:60rx
-        max-width:400rx
-        min-height:0
-        min-width:0
-        stroke:var(--color-icon)
-        width:100%
-        \"""),
-
-        width("400"), height("60"), viewBox("0 0 400 60"), xmlns("http://www.w3.org/2000/svg"),
-        path(d("M 0 50 Q 200 0 400 50")), fill("none"), strokeWidth("1.25")
-    );
-
-    p(
-        css(\"""
-        font-size:14rx
-        inset:-32rx_0_auto
-        position:relative
-        text-align:center
-        \"""),
-
-        text("Screen")
-    );
-  }
-
-  private void renderSeatsForm() {
-    form(
-        id(FORM_ID),
-
-        action(formAction),
-
-        css(\"""
-        aspect-ratio:1.15
-        display:grid
-        flex-grow:1
-        gap:8rx
-        grid-template-columns:repeat(10,1fr)
-        grid-template-rows:repeat(10,minmax(20rx,1fr))
-        margin:0_auto
-        max-width:400rx
-        width:100%
-        \"""),
-
-        method("post"),
-
-        onsubmit(AppCtx.SUBMIT),
-
-        input(
-            type("hidden"),
-            name("screenId"),
-            value(testableField("screenId", Integer.toString(details.screenId())))),
-
-        f(this::renderSeatsFormGrid)
-    );
-  }
-
-  private void renderSeatsFormGrid() {
-    for (SeatsGrid.Seat seat : grid) {
-      final int seatId;
-      seatId = seat.seatId();
-
-      if (seatId < 0) {
-        div();
-      } else {
-        final String seatIdValue;
-        seatIdValue = Integer.toString(seatId);
-
-        input(
-            css(\"""
-            cursor:pointer
-
-            disabled:cursor:default
-            \"""),
-
-            name("seat"),
-
-            type("checkbox"),
-
-            seat.checked() ? checked : noop(),
-
-            seat.reserved() ? disabled : noop(),
-
-            value(seatIdValue)
-        );
-
-        if (seat.checked()) {
-          testableField("checked", seatIdValue);
-        }
-      }
-    }
-  }
-
-  private void renderSeatsAction() {
-    div(
-        css(\"""
-        display:flex
-        justify-content:end
-        padding-top:64rx
-        margin:0_auto
-        max-width:400rx
-        width:100%
-        \"""),
-
-        button(
-            UiShell.PRIMARY,
-
-            form(FORM_ID),
-
-            type("submit"),
-
-            text("Book seats")
-        )
-    );
-  }
-
-}
-""");
-
-  static final SourceModel Boot = SourceModel.create("Boot.java", """
-/*
- * Copyright (C) 2024-2026 Objectos Software LTDA.
- *
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *
- * http://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-package demo.landing.app;
-
-import objectos.http.Handler;
-import objectos.http.Redirection;
-import objectos.http.Request;
-import objectos.http.Result;
-
-/// The `/home` controller.
-final class Boot implements Handler {
-
-  private final AppCtx ctx;
-
-  Boot(AppCtx ctx) {
-    this.ctx = ctx;
-  }
-
-  @Override
-  public final Result handle(Request req) {
-    final String hashValue;
-    hashValue = req.header(AppCtx.DEMO_LOCATION_HASH);
-
-    final String hashRedirect;
-    hashRedirect = ctx.decodeHash(hashValue);
-
-    return Redirection.found(hashRedirect);
-  }
-
-}
-""");
-
-  static final SourceModel Poster = SourceModel.create("Poster.java", """
-/*
- * Copyright (C) 2024-2026 Objectos Software LTDA.
- *
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *
- * http://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-package demo.landing.app;
-
-import objectos.http.Handler;
-import objectos.http.Request;
-import objectos.http.Result;
-import objectos.http.StaticFile;
-import objectos.way.Sql;
-
-final class Poster implements Handler {
-
-  @Override
-  public final Result handle(Request req) {
-    final int id;
-    id = req.pathParamAsInt("id", Integer.MIN_VALUE);
-
-    if (id < 1) {
-      return req;
-    }
-
-    if (id > 4) {
-      return req;
-    }
-
-    final Sql.Transaction trx;
-    trx = req.attr(Sql.Transaction.class);
-
-    final PosterModel model;
-    model = PosterModel.query(trx, id);
-
-    return StaticFile.of(model);
-  }
-
-}
-
-""");
-
-  static final SourceModel MovieScreening = SourceModel.create("MovieScreening.java", """
-/*
- * Copyright (C) 2024-2026 Objectos Software LTDA.
- *
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *
- * http://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-package demo.landing.app;
-
-import module java.base;
-import module objectos.way;
-
-/// The showing of a movie in this theater.
-record MovieScreening(
-    int screenId,
-    String screenName,
-    String features,
-    String date,
-    List<MovieShowtime> showtimes
-) {
-
-  MovieScreening(ResultSet rs, int idx) throws SQLException {
-    this(
-        rs.getInt(idx++),
-        rs.getString(idx++),
-        rs.getString(idx++),
-        rs.getString(idx++),
-        MovieShowtime.of(rs.getArray(idx++))
-    );
-  }
-
-  public static List<MovieScreening> query(Sql.Transaction trx, int id, LocalDateTime dateTime) {
-    trx.sql(\"""
-    select
-      SCREEN.SCREEN_ID,
-      SCREEN.NAME,
-      (
-        select
-          listagg (FEATURE.NAME, ', ') within group (order by FEATURE.FEATURE_ID)
-        from
-          SCREENING_FEATURE
-          natural join FEATURE
-        where
-          SCREENING_FEATURE.SCREENING_ID = SCREENING.SCREENING_ID
-        group by
-          SCREENING_FEATURE.SCREENING_ID
-      ) as F,
-      formatdatetime(SHOW.SHOWDATE, 'EEE dd/LLL'),
-      array_agg (
-        array [cast(SHOW.SHOW_ID as varchar), formatdatetime(SHOW.SHOWTIME, 'kk:mm')]
-        order by SHOW.SHOWTIME
-      )
-    from
-      SHOW
-      natural join SCREENING
-      natural join SCREEN
-    where
-      SCREENING.MOVIE_ID = ?
-      and (
-        (
-          SHOW.SHOWDATE = ?
-          and SHOW.SHOWTIME > ?
-        )
-        or SHOW.SHOWDATE > ?
-      )
-    group by
-      SHOW.SHOWDATE,
-      SCREEN.SCREEN_ID
-    order by
-      SHOW.SHOWDATE,
-      SCREEN.SCREEN_ID
-    \""");
-
-    trx.param(id);
-
-    final LocalDate date;
-    date = dateTime.toLocalDate();
-
-    trx.param(date);
-
-    final LocalTime time;
-    time = dateTime.toLocalTime();
-
-    trx.param(time);
-
-    trx.param(date);
-
-    return trx.query(MovieScreening::new);
-  }
-
-}
-""");
-
-  static final SourceModel MovieDetails = SourceModel.create("MovieDetails.java", """
-/*
- * Copyright (C) 2024-2026 Objectos Software LTDA.
- *
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *
- * http://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-package demo.landing.app;
-
-import module java.base;
-import module objectos.way;
-
-/// The details of a particular movie.
-record MovieDetails(
-    int movieId,
-    String title,
-    String runtime,
-    String releaseDate,
-    String genres,
-    String synopsys
-) {
-
-  MovieDetails(ResultSet rs, int idx) throws SQLException {
-    this(
-        rs.getInt(idx++),
-        rs.getString(idx++),
-        rs.getString(idx++),
-        rs.getString(idx++),
-        rs.getString(idx++),
-        rs.getString(idx++)
-    );
-  }
-
-  public static Optional<MovieDetails> queryOptional(Sql.Transaction trx, int id) {
-    trx.sql(\"""
-    select
-      MOVIE.MOVIE_ID,
-      MOVIE.TITLE,
-      concat (MOVIE.RUNTIME / 60, 'h ', MOVIE.RUNTIME % 60, 'm'),
-      formatdatetime (MOVIE.RELEASE_DATE, 'MMM dd, yyyy'),
-      listagg (GENRE.NAME, ', ') within group (
-        order by
-          GENRE.NAME
-      ),
-      MOVIE.SYNOPSYS
-    from
-      MOVIE
-      natural join MOVIE_GENRE
-      natural join GENRE
-    where
-      MOVIE.MOVIE_ID = ?
-    group by
-      MOVIE.MOVIE_ID
-    \""");
-
-    trx.param(id);
-
-    return trx.queryOptional(MovieDetails::new);
-  }
-
-}
-""");
-
-  static final SourceModel SeatsData = SourceModel.create("SeatsData.java", """
-/*
- * Copyright (C) 2024-2026 Objectos Software LTDA.
- *
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *
- * http://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-package demo.landing.app;
-
-import module java.base;
-import module objectos.way;
-
-/// Represents the `/seats/{id}` user submitted data.
-record SeatsData(AppReservation reservation, int showId, int screenId, int[] selection) {
-
-  public static SeatsData parse(Request req) {
-    final AppReservation reservation;
-    reservation = AppReservation.parse(req);
-
-    return new SeatsData(
-        reservation,
-
-        req.pathParamAsInt("id", Integer.MIN_VALUE),
+  static final SourceModel AppAsset = SourceModel.create("AppAsset.java", "2295c1f3ccb127bc", 0);
 
-        req.formParamAsInt("screenId", Integer.MIN_VALUE),
+  static final SourceModel AppAssets = SourceModel.create("AppAssets.java", "35f06621492f9531", 1);
 
-        req.formParamAllAsInt("seat", Integer.MIN_VALUE).distinct().toArray()
-    );
-  }
-
-  @Override
-  public final String toString() {
-    return String.format(
-        "SeatsData[reservation=%s, screenId=%d, selection=%s]",
-        reservation, screenId, Arrays.toString(selection)
-    );
-  }
-
-  final void clearTmpSelection(Sql.Transaction trx) {
-    // clear this user's current tmp selection
-
-    trx.sql(\"""
-    delete from
-      TMP_SELECTION
-    where
-      RESERVATION_ID = ?
-    \""");
-
-    trx.param(reservation.id());
-
-    trx.update();
-  }
-
-  final Sql.BatchUpdate persistTmpSelection(Sql.Transaction trx) {
-    clearTmpSelection(trx);
-
-    // insert the data.
-    // it will fail if either one is true:
-    // 1) invalid RESERVATION_ID
-    // 2) invalid SEAT_ID
-    // 3) invalid SCREEN_ID
-    // 4) SEAT_ID and SCREEN_ID are valid but SEAT_ID does not belong to SCREEN_ID
-
-    trx.sql(\"""
-    insert into
-      TMP_SELECTION (RESERVATION_ID, SEAT_ID, SCREEN_ID)
-    values
-      (?, ?, ?)
-    \""");
-
-    for (int seatId : selection) {
-      trx.param(reservation.id());
-
-      trx.param(seatId);
-
-      trx.param(screenId);
-
-      trx.addBatch();
-    }
-
-    return trx.batchUpdateWithResult();
-  }
-
-  final void clearUserSelection(Sql.Transaction trx) {
-    // clear this user's current selection.
-    // does nothing (hopefully) if RESERVATION_ID refers to an already sold ticket
-
-    trx.sql(\"""
-    delete from SELECTION
-    where RESERVATION_ID in (
-      select
-        RESERVATION_ID
-      from
-        RESERVATION
-      where
-        RESERVATION_ID = ?
-        and RESERVATION.TICKET_TIME is null
-    )
-    \""");
-
-    trx.param(reservation.id());
-
-    trx.update();
-  }
-
-  final Sql.Update persisUserSelection(Sql.Transaction trx) {
-    clearUserSelection(trx);
-
-    // persist this user's selection.
-    // it will fail if:
-    // 1) we try to insert an already selected seat (unique constraint)
-    //
-    // it will select only a subset (possibly empty) if:
-    // 1) RESERVATION_ID refers to an already sold ticket
-    // 2) SEAT is from a different screen that the current SHOW
-
-    trx.sql(\"""
-    insert into
-      SELECTION (RESERVATION_ID, SEAT_ID, SHOW_ID)
-    select
-      TMP_SELECTION.RESERVATION_ID,
-      TMP_SELECTION.SEAT_ID,
-      SHOW.SHOW_ID
-    from
-      TMP_SELECTION
-      join RESERVATION on TMP_SELECTION.RESERVATION_ID = RESERVATION.RESERVATION_ID
-      join SHOW on RESERVATION.SHOW_ID = SHOW.SHOW_ID
-      join SCREENING on SHOW.SCREENING_ID = SCREENING.SCREENING_ID
-      join SEAT on TMP_SELECTION.SEAT_ID = SEAT.SEAT_ID
-    where
-      RESERVATION.RESERVATION_ID = ?
-      and RESERVATION.TICKET_TIME is null
-      and SCREENING.SCREEN_ID = SEAT.SCREEN_ID
-    \""");
-
-    trx.param(reservation.id());
-
-    return trx.updateWithResult();
-  }
-
-  final int seats() {
-    return selection.length;
-  }
-
-}
-""");
-
-  static final SourceModel Ticket = SourceModel.create("Ticket.java", """
-/*
- * Copyright (C) 2024-2026 Objectos Software LTDA.
- *
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *
- * http://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-package demo.landing.app;
-
-import java.util.List;
-import java.util.Optional;
-import objectos.http.Handler;
-import objectos.http.Request;
-import objectos.http.Result;
-import objectos.script.Js;
-import objectos.way.Sql;
-
-/// The `/ticket` controller.
-final class Ticket implements Handler {
-
-  Ticket() {}
-
-  @Override
-  public final Result handle(Request req) {
-    final Sql.Transaction trx;
-    trx = req.attr(Sql.Transaction.class);
-
-    final AppReservation reservation;
-    reservation = AppReservation.parse(req);
-
-    final Optional<TicketModel> maybe;
-    maybe = TicketModel.queryOptional(trx, reservation.id());
-
-    if (maybe.isEmpty()) {
-      return req;
-    }
-
-    final TicketModel ticket;
-    ticket = maybe.get();
-
-    return UiShell.of(opts -> {
-      opts.homeAction = Js.byId(AppCtx.SHELL).render("/demo.landing/home", render -> {
-        render.history("/index.html");
-      });
-
-      opts.main = new TicketView(ticket);
-
-      opts.sources = List.of(
-          Source.Ticket,
-          Source.TicketModel,
-          Source.TicketView
-      );
-    });
-  }
-
-}
-""");
-
-  static final SourceModel MovieView = SourceModel.create("MovieView.java", """
-/*
- * Copyright (C) 2024-2026 Objectos Software LTDA.
- *
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *
- * http://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-package demo.landing.app;
-
-import module java.base;
-import module objectos.way;
-
-/// Renders the details of a movie and lists its available screenings.
-final class MovieView extends Html.Template {
-
-  /// A screening of the movie to be displayed in this view
-  record Screening(
-      String screenName,
-      String features,
-      String date,
-      List<Showtime> showtimes
-  ) {}
-
-  /// A clickable showtime to be listed in this view
-  record Showtime(
-      int id,
-      String time,
-      JsAction onclick
-  ) {}
-
-  private final MovieDetails details;
-
-  private final List<Screening> screenings;
-
-  MovieView(MovieDetails details, List<Screening> screenings) {
-    this.details = details;
-
-    this.screenings = screenings;
-  }
-
-  @Override
-  protected final void render() {
-    div(
-        css(\"""
-        display:grid
-        gap:16rx
-        grid-template-columns:1fr_160rx
-        \"""),
-
-        f(this::renderMovieDetails)
-    );
-
-    div(
-        css(\"""
-        display:flex
-        flex-direction:column
-        gap:16rx
-        padding:64rx_0_0
-        \"""),
-
-        h3(
-            css(\"""
-            font-size:24rx
-            font-weight:300
-            line-height:1
-            \"""),
-
-            text(testableH1("Showtimes"))
-        ),
-
-        f(this::renderMovieScreenings)
-    );
-  }
-
-  // ##################################################################
-  // # BEGIN: Movie Details
-  // ##################################################################
-
-  private void renderMovieDetails() {
-    div(
-        h2(testableH1(details.title())),
-
-        p(testableField("synopsys", details.synopsys())),
-
-        dl(
-            css(\"""
-            display:grid
-            font-size:14rx
-            grid-template-columns:repeat(2,1fr)
-
-            &_dt/font-weight:600
-            &_dt/padding-top:12rx
-            \"""),
-
-            div(
-                dt("Rating"),
-                dd("N/A")
-            ),
-
-            div(
-                dt("Runtime"),
-                dd(testableField("runtime", details.runtime()))
-            ),
-
-            div(
-                dt("Release date"),
-                dd(testableField("release-date", details.releaseDate()))
-            ),
-
-            div(
-                dt("Genres"),
-                dd(testableField("genres", details.genres()))
-            )
-        )
-    );
-
-    div(
-        css(\"""
-        padding-top:16rx
-        \"""),
-
-        img(
-            css(\"""
-            border-radius:6rx
-            width:100%
-            \"""),
-
-            alt(details.title()),
-
-            src("/demo.landing/poster-" + details.movieId() + ".jpg")
-        )
-    );
-  }
-
-  // ##################################################################
-  // # END: Movie Details
-  // ##################################################################
-
-  // ##################################################################
-  // # BEGIN: Movie Screening
-  // ##################################################################
-
-  private void renderMovieScreenings() {
-    for (Screening screening : screenings) {
-      renderMovieScreening(screening);
-    }
-  }
-
-  private void renderMovieScreening(Screening screening) {
-    div(
-        css(\"""
-        border:1px_solid_var(--color-border)
-        display:flex
-        gap:32rx
-        padding:16rx
-        position:relative
-        \"""),
-
-        div(
-            css(\"""
-            align-items:center
-            display:flex
-            flex-direction:column
-            gap:8rx
-            justify-content:center
-            \"""),
-
-            c(
-                UiIcon.CALENDAR_CHECK.css(\"""
-                stroke:icon
-                \""")
-            ),
-
-            span(
-                css(\"""
-                text-align:center
-                width:6rch
-                \"""),
-
-                text(testableH2(screening.date()))
-            )
-        ),
-
-        div(
-            h4(
-                css(\"""
-                font-weight:500
-                line-height:1
-                padding-top:8rx
-                \"""),
-
-                text(testableField("screen", screening.screenName()))
-            ),
-
-            div(
-                css(\"""
-                font-size:14rx
-                font-weight:300
-                padding:8rx_0
-                \"""),
-
-                text(testableField("features", screening.features()))
-            ),
-
-            ul(
-                css(\"""
-                display:flex
-                flex-wrap:wrap
-                gap:12rx
-                \"""),
-
-                testableNewLine(),
-
-                f(this::renderMovieShowtimes, screening.showtimes())
-            )
-        )
-    );
-  }
-
-  // ##################################################################
-  // # END: Movie Screening
-  // ##################################################################
+  static final SourceModel AppCatalog = SourceModel.create("AppCatalog.java", "445186707744d001", 2);
 
-  // ##################################################################
-  // # BEGIN: Movie Showtime
-  // ##################################################################
+  static final SourceModel AppCtx = SourceModel.create("AppCtx.java", "81ae29eb4b217c84", 3);
 
-  private void renderMovieShowtimes(List<Showtime> showtimes) {
-    for (Showtime showtime : showtimes) {
-      final int showId;
-      showId = showtime.id();
+  static final SourceModel AppJobs = SourceModel.create("AppJobs.java", "766f3b5249b9bc40", 4);
 
-      testableCell(Integer.toString(showId), 2);
+  static final SourceModel AppReservation = SourceModel.create("AppReservation.java", "da86e98e1034129c", 5);
 
-      li(
-          div(
-              css(\"""
-              border:1px_solid_var(--color-border)
-              border-radius:9999px
-              display:flex
-              padding:8rx_16rx
+  static final SourceModel AppTrx = SourceModel.create("AppTrx.java", "2df70a91fac9fc5a", 6);
 
-              active/background-color:var(--color-btn-ghost-active)
-              hover/background-color:var(--color-btn-ghost-hover)
-              hover/cursor:pointer
-              \"""),
+  static final SourceModel AppView = SourceModel.create("AppView.java", "9bbbe7c9579ced28", 7);
 
-              onclick(showtime.onclick),
+  static final SourceModel Boot = SourceModel.create("Boot.java", "285c3cfd42b53658", 8);
 
-              span(testableCell(showtime.time, 5))
-          ),
+  static final SourceModel Confirm = SourceModel.create("Confirm.java", "23edbd0ba933fdff", 9);
 
-          testableNewLine()
-      );
-    }
-  }
-
-  // ##################################################################
-  // # END: Movie Showtime
-  // ##################################################################
-
-}
-""");
-
-  static final SourceModel UiShell = SourceModel.create("UiShell.java", """
-/*
- * Copyright (C) 2024-2026 Objectos Software LTDA.
- *
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *
- * http://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-package demo.landing.app;
-
-import module java.base;
-import module objectos.way;
-import objectos.way.Html.Component;
-
-/// The demo UI shell responsible for displaying the application on the
-/// top/right and the source code on the bottom/left.
-final class UiShell extends Html.Template {
-
-  static final Html.ClassName PRIMARY = Html.ClassName.ofText(\"""
-    appearance:none
-    background-color:var(--color-btn-primary)
-    color:var(--color-btn-primary-text)
-    cursor:pointer
-    display:flex
-    font-size:14rx
-    min-height:48rx
-    padding:14rx_63rx_14rx_15rx
-
-    active/background-color:var(--color-btn-primary-active)
-    hover/background-color:var(--color-btn-primary-hover)
-    \""");
-
-  static final class Builder {
-
-    JsAction backAction;
-
-    JsAction homeAction;
-
-    Html.Component main;
-
-    List<SourceModel> sources;
-
-  }
-
-  private final JsAction backAction;
-
-  private final JsAction homeAction;
-
-  private final Html.Component main;
-
-  private final List<SourceModel> sources;
-
-  private UiShell(JsAction backAction, JsAction homeAction, Component main, List<SourceModel> sources) {
-    this.backAction = backAction;
-    this.homeAction = homeAction;
-    this.main = main;
-    this.sources = sources;
-  }
-
-  public static UiShell of(Consumer<Builder> opts) {
-    final Builder builder;
-    builder = new Builder();
-
-    opts.accept(builder);
-
-    return new UiShell(
-        builder.backAction,
-
-        builder.homeAction,
-
-        builder.main,
-
-        builder.sources
-    );
-  }
-
-  @Override
-  protected final void render() {
-    final List<SourceModel> sources;
-    sources = combineSources();
-
-    div(
-        AppCtx.SHELL,
-
-        css(\"""
-        display:grid
-        grid-template:'a'_448rx_'b'_auto_'c'_448rx_/_1fr
-
-        lg/grid-template:'c_a'_512rx_'b_b'_auto_/_1fr_1fr
-
-        xl/grid-template:'b_c_a'_512rx_/_200rx_1fr_1fr
-        \"""),
-
-        f(this::renderComponents),
-
-        f(this::renderSourceCode, sources),
-
-        f(this::renderSourceFileSelector, sources)
-    );
-  }
-
-  private List<SourceModel> combineSources() {
-    final List<SourceModel> combined;
-    combined = new ArrayList<>();
-
-    combined.addAll(sources);
-
-    combined.add(Source.AppCtx);
-    combined.add(Source.AppView);
-    combined.add(Source.UiIcon);
-    combined.add(Source.UiShell);
-
-    return combined;
-  }
-
-  // ##################################################################
-  // # BEGIN: Main contents
-  // ##################################################################
-
-  private void renderComponents() {
-    div(
-        css(\"""
-        border:1px_solid_var(--color-border)
-        grid-area:a
-        overflow:auto
-        position:relative
-
-        lg/border-bottom-width:1px
-        lg/border-left-width:0px
-        \"""),
-
-        div(
-            css(\"""
-            align-items:center
-            background-color:var(--color-layer)
-            color:var(--color-gray-500)
-            display:flex
-            height:64rx
-            justify-content:space-between
-            padding:0_16rx
-            position:sticky
-            top:0px
-            z-index:8000
-            \"""),
-
-            div(
-                css(\"""
-                align-items:center
-                display:flex
-                gap:6rx
-                height:100%
+  static final SourceModel ConfirmData = SourceModel.create("ConfirmData.java", "68e5b42709a76e40", 10);
 
-                hover/cursor:pointer
-                \"""),
+  static final SourceModel ConfirmDetails = SourceModel.create("ConfirmDetails.java", "c57e62852a259ee8", 11);
 
-                onclick(homeAction),
+  static final SourceModel ConfirmForm = SourceModel.create("ConfirmForm.java", "796988f42a5b45f2", 12);
 
-                objectosLogo(),
+  static final SourceModel ConfirmView = SourceModel.create("ConfirmView.java", "103ac3b4f319731f", 13);
 
-                span(
-                    css(\"""
-                    font-size:24rx
-                    font-weight:300
-                    line-height:1
-                    transform:translateY(-1px)
-                    \"""),
+  static final SourceModel ConnectionAdmission = SourceModel.create("ConnectionAdmission.java", "a7664b0c03c23534", 14);
 
-                    text("kino")
-                )
-            ),
+  static final SourceModel HoldWheel = SourceModel.create("HoldWheel.java", "7ba506e3d0357496", 15);
 
-            a(
-                css(\"""
-                align-items:center
-                border-radius:6rx
-                display:flex
-                padding:8rx
+  static final SourceModel Home = SourceModel.create("Home.java", "c480442cc67f6e14", 16);
 
-                active/background-color:var(--color-btn-ghost-active)
-                hover/background-color:var(--color-btn-ghost-hover)
-                \"""),
+  static final SourceModel HomeModel = SourceModel.create("HomeModel.java", "f5ddad820bf32778", 17);
 
-                href("https://github.com/objectos/demo.landing"),
+  static final SourceModel HomeView = SourceModel.create("HomeView.java", "aa6369aef754cc3d", 18);
 
-                gitHubLogo()
-            )
-        ),
+  static final SourceModel LocalClear = SourceModel.create("LocalClear.java", "6f10e13505503e29", 19);
 
-        div(
-            css(\"""
-            padding:0_16rx_16rx
+  static final SourceModel LocalCreate = SourceModel.create("LocalCreate.java", "afbc2fb345b68bf6", 20);
 
-            &_h2/font-size:36rx
-            &_h2/font-weight:200
-            &_h2/line-height:1
-            &_h2/padding:48rx_0_8rx
-            \"""),
+  static final SourceModel LocalReload = SourceModel.create("LocalReload.java", "c5c17de2f2483325", 21);
 
-            f(this::renderBackLink),
+  static final SourceModel Movie = SourceModel.create("Movie.java", "fd586dd59640ae3e", 22);
 
-            c(main)
-        )
-    );
-  }
-
-  // ##################################################################
-  // # END: Main contents
-  // ##################################################################
-
-  // ##################################################################
-  // # BEGIN: Back Link
-  // ##################################################################
-
-  private void renderBackLink() {
-    if (backAction != null) {
-      // if (testable())
-      String backLink;
-      backLink = backAction.toString();
-
-      final String raw;
-      raw = backLink;
-
-      final int prefix;
-      prefix = raw.indexOf("/demo.landing/");
-
-      if (prefix != -1) {
-        final int quote;
-        quote = raw.indexOf('"', prefix);
-
-        if (quote != -1) {
-          backLink = raw.substring(prefix, quote);
-        }
-      }
-
-      testableField("back-link", backLink);
-
-      div(
-          css(\"""
-          border-radius:9999px
-          padding:6rx
-          margin:6rx_0_0_-6rx
-          position:absolute
-
-          active/background-color:var(--color-btn-ghost-active)
-          hover/background-color:var(--color-btn-ghost-hover)
-          hover/cursor:pointer
-          \"""),
-
-          onclick(backAction),
-
-          c(
-              UiIcon.ARROW_LEFT.css(\"""
-              height:20rx
-              width:20rx
-              \""")
-          )
-      );
-    }
-  }
-
-  // ##################################################################
-  // # END: Back Link
-  // ##################################################################
-
-  // ##################################################################
-  // # BEGIN: Source code panel
-  // ##################################################################
+  static final SourceModel MovieDetails = SourceModel.create("MovieDetails.java", "36fba051ea985e16", 23);
 
-  private static final Html.AttributeName SEL = Html.AttributeName.of("data-selected");
+  static final SourceModel MovieScreening = SourceModel.create("MovieScreening.java", "ccbedb0a2b7aeb6c", 24);
 
-  private void renderSourceCode(List<SourceModel> sources) {
-    div(
-        css(\"""
-        border:1px_solid_var(--color-border)
-        display:flex
-        flex-direction:column
-        grid-area:c
-        \"""),
+  static final SourceModel MovieShowtime = SourceModel.create("MovieShowtime.java", "551cfe7bf58ef551", 25);
 
-        css(\"""
-        flex:1
-        min-height:0
-        overflow:auto
-        \"""),
+  static final SourceModel MovieView = SourceModel.create("MovieView.java", "3efaca1ce9097ab8", 26);
 
-        f(this::renderSourceCodeItems, sources)
-    );
-  }
-
-  private void renderSourceCodeItems(List<SourceModel> sources) {
-    for (int idx = 0, size = sources.size(); idx < size; idx++) {
-      final SourceModel item;
-      item = sources.get(idx);
-
-      final String source;
-      source = item.value();
-
-      pre(
-          item.panel(),
-
-          css(\"""
-          display:none
-          font-family:var(--font-mono)
-          font-size:13rx
-          line-height:18.6rx
-          padding:16rx
-          &[data-selected=true]/display:flex
-
-          &_span[data-line]/display:block
-          &_span[data-line]/min-height:1lh
-
-          &_span[data-line]:nth-child(-n+15)/display:none
-
-          &_span[data-high=annotation]/color:var(--color-high-meta)
-          &_span[data-high=comment]/color:var(--color-high-comment)
-          &_span[data-high=comment]/font-style:italic
-          &_span[data-high=keyword]/color:var(--color-high-keyword)
-          &_span[data-high=string]/color:var(--color-high-string)
-          \"""),
+  static final SourceModel NotFound = SourceModel.create("NotFound.java", "442897370a156694", 27);
 
-          attr(SEL, Boolean.toString(idx == 0)),
+  static final SourceModel NotFoundView = SourceModel.create("NotFoundView.java", "20d91de0e7775805", 28);
 
-          code(
-              css(\"""
-              flex-grow:1
-              \"""),
+  static final SourceModel Poster = SourceModel.create("Poster.java", "f87a0c3439eda405", 29);
 
-              c(
-                  Syntax.highlight(Syntax.JAVA, source)
-              )
-          )
-      );
-    }
-  }
-
-  // ##################################################################
-  // # END: Source code panel
-  // ##################################################################
-
-  // ##################################################################
-  // # BEGIN: Source file selector
-  // ##################################################################
-
-  private static final Html.Id SRC = Html.Id.of("source-frame");
+  static final SourceModel PosterCache = SourceModel.create("PosterCache.java", "5641573a584b4059", 30);
 
-  private static final Html.AttributeName BTN = Html.AttributeName.of("data-button");
+  static final SourceModel PosterImages = SourceModel.create("PosterImages.java", "4ebfbf42579b0a90", 31);
 
-  private static final Html.AttributeName PNL = Html.AttributeName.of("data-panel");
+  static final SourceModel PosterModel = SourceModel.create("PosterModel.java", "7185dab75b6731ff", 32);
 
-  private void renderSourceFileSelector(List<SourceModel> sources) {
-    final SourceModel first;
-    first = sources.getFirst();
+  static final SourceModel PosterStore = SourceModel.create("PosterStore.java", "3acf868df6d16fb2", 33);
 
-    // the source file selector
-    div(
-        SRC,
+  static final SourceModel SeatInventory = SourceModel.create("SeatInventory.java", "4e97250bfbf4a542", 34);
 
-        css(\"""
-        border-left:1px_solid_var(--color-border)
-        border-right:1px_solid_var(--color-border)
-        display:flex
-        font-size:14rx
-        gap:4rx_8rx
-        grid-area:b
-        padding:16rx
-        overflow-x:auto
+  static final SourceModel SeatLocks = SourceModel.create("SeatLocks.java", "ba7589acf48264e6", 35);
 
-        lg/border-bottom:1px_solid_var(--color-border)
+  static final SourceModel SeatMap = SourceModel.create("SeatMap.java", "0b1a996816a996f2", 36);
 
-        xl/border-top:1px_solid_var(--color-border)
-        xl/border-right-width:0px
-        xl/flex-direction:column
-        \"""),
+  static final SourceModel Seats = SourceModel.create("Seats.java", "95de5ec72ec1876b", 37);
 
-        // stores the current selected button in the data-button attribute
-        attr(BTN, first.button().attrValue()),
+  static final SourceModel SeatsAlert = SourceModel.create("SeatsAlert.java", "10d029c4e9bb94fa", 38);
 
-        // stores the current selected panel in the data-panel attribute
-        attr(PNL, first.panel().attrValue()),
+  static final SourceModel SeatsData = SourceModel.create("SeatsData.java", "cf15db9db829837d", 39);
 
-        f(this::renderSourceMenuItems, sources)
-    );
-  }
-
-  private void renderSourceMenuItems(List<SourceModel> sources) {
-    for (int idx = 0, size = sources.size(); idx < size; idx++) {
-      final SourceModel item;
-      item = sources.get(idx);
+  static final SourceModel SeatsDetails = SourceModel.create("SeatsDetails.java", "c9388e507619a1e3", 40);
 
-      button(
-          item.button(),
+  static final SourceModel SeatsForm = SourceModel.create("SeatsForm.java", "9613f307a17be760", 41);
 
-          css(\"""
-          border-radius:6rx
-          cursor:pointer
-          padding:4rx_8rx
-          &[data-selected=true]/background-color:var(--color-btn-ghost-active)
+  static final SourceModel SeatsGrid = SourceModel.create("SeatsGrid.java", "5608f55365a19285", 42);
 
-          active/background-color:var(--color-btn-ghost-active)
-          hover/background-color:var(--color-btn-ghost-hover)
-          \"""),
+  static final SourceModel SeatsView = SourceModel.create("SeatsView.java", "3216ee5e3e178422", 43);
 
-          attr(SEL, Boolean.toString(idx == 0)),
+  static final SourceModel SourceModel_ = SourceModel.create("SourceModel.java", "ccbfdbddaa91bf1d", 44);
 
-          onclick(Js.of(
-              // 'stores' the Shell.SRC element at the 'frame' variable
-              Js.var("frame", Js.byId(SRC)),
-              // 'deselects' current
-              Js.byId(Js.var("frame").as(JsElement.type).attr(BTN)).attr(SEL, "false"),
-              Js.byId(Js.var("frame").as(JsElement.type).attr(PNL)).attr(SEL, "false"),
-              // 'selects' self
-              Js.byId(item.button()).attr(SEL, "true"),
-              Js.byId(item.panel()).attr(SEL, "true"),
-              // stores selected,
-              Js.var("frame").as(JsElement.type).attr(BTN, item.button().attrValue()),
-              Js.var("frame").as(JsElement.type).attr(PNL, item.panel().attrValue())
-          )),
-
-          text(item.name())
-      );
-    }
-  }
+  static final SourceModel SourcePanel = SourceModel.create("SourcePanel.java", "b8b6c19272303597", 45);
 
-  // ##################################################################
-  // # END: Source file selector
-  // ##################################################################
+  static final SourceModel Ticket = SourceModel.create("Ticket.java", "0618dd651d764e01", 46);
 
-  // ##################################################################
-  // # BEGIN: Logos
-  // ##################################################################
+  static final SourceModel TicketModel = SourceModel.create("TicketModel.java", "cbb35086358af05d", 47);
 
-  private Html.Instruction objectosLogo() {
-    return svg(
-        css(\"""
-        fill:var(--color-logo)
-        height:24rx
-        transition:fill_300ms_ease
-        width:auto
-        \"""),
+  static final SourceModel TicketView = SourceModel.create("TicketView.java", "cf4fb31122f4973d", 48);
 
-        xmlns("http://www.w3.org/2000/svg"), width("200"), height("49.28"), viewBox("0 0 200 49.28"),
+  static final SourceModel UiIcon = SourceModel.create("UiIcon.java", "a37c7d7e9b4623e5", 49);
 
-        path(
-            d("m189.6 38.21q-2.53 0-5.3-0.932-2.76-0.903-4.6-3.087-0.38-0.495-0.35-1.02 0.12-0.582 0.64-0.99 0.5-0.32 1.02-0.233 0.58 0.09 0.93 0.524 1.4 1.66 3.38 2.33 2.04 0.641 4.43 0.641 4.08 0 5.77-1.456 1.71-1.456 1.71-3.408 0-1.893-1.86-3.087-1.78-1.281-5.56-1.806-4.87-0.669-7.2-2.621-2.33-1.951-2.33-4.514 0-2.417 1.23-4.077 1.19-1.689 3.29-2.534 2.12-0.874 4.86-0.874 3.29 0 5.56 1.223 2.31 1.165 3.7 3.146 0.38 0.495 0.24 1.077-0.1 0.525-0.73 0.874-0.47 0.233-1.02 0.146-0.53-0.09-0.9-0.583-1.23-1.543-2.97-2.33-1.69-0.815-3.99-0.815-3.06 0-4.75 1.31-1.69 1.311-1.69 3.146 0 1.252 0.67 2.242 0.73 0.903 2.33 1.602 1.6 0.612 4.28 1.02 3.64 0.466 5.71 1.63 2.15 1.165 3.03 2.738 0.9 1.485 0.9 3.233 0 2.301-1.46 3.99-1.45 1.689-3.81 2.621-2.39 0.874-5.16 0.874zm-27.97 0q-3.9 0-6.99-1.748-3.05-1.805-4.85-4.863-1.75-3.088-1.75-6.932 0-3.873 1.75-6.931 1.8-3.117 4.85-4.864 3.09-1.806 6.99-1.806 3.89 0 6.95 1.806 3.05 1.747 4.8 4.864 1.81 3.058 1.81 6.931 0 3.844-1.81 6.932-1.75 3.058-4.8 4.863-3.06 1.748-6.95 1.748zm0-2.709q3.07 0 5.43-1.427 2.45-1.456 3.79-3.873 1.42-2.476 1.42-5.592 0-3.058-1.42-5.475-1.34-2.476-3.79-3.874-2.36-1.456-5.43-1.456-3.03 0-5.45 1.456-2.41 1.398-3.83 3.874-1.4 2.417-1.4 5.533 0 3.058 1.4 5.534 1.42 2.417 3.83 3.873 2.42 1.427 5.45 1.427zm-19.01 2.418q-2.65-0.06-4.75-1.224-2.09-1.194-3.26-3.291-1.16-2.126-1.16-4.805v-24.17q0-0.67 0.4-1.078 0.44-0.436 1.05-0.436 0.7 0 1.08 0.436 0.44 0.408 0.44 1.078v24.17q0 2.825 1.74 4.601 1.75 1.748 4.52 1.748h1.08q0.67 0 1.05 0.437 0.43 0.407 0.43 1.077 0 0.641-0.43 1.078-0.38 0.379-1.05 0.379zm-12.96-22.95q-0.58 0-0.96-0.35-0.35-0.378-0.35-0.961 0-0.582 0.35-0.932 0.38-0.378 0.96-0.378h13.16q0.59 0 0.94 0.378 0.38 0.35 0.38 0.932 0 0.583-0.38 0.961-0.35 0.35-0.94 0.35zm-13.09 23.24q-3.78 0-6.79-1.806-2.96-1.776-4.71-4.834-1.7-3.059-1.7-6.903 0-3.873 1.6-6.931t4.42-4.806q2.81-1.806 6.45-1.806 3.1 0 5.7 1.224 2.56 1.165 4.45 3.582 0.38 0.495 0.29 1.019-0.1 0.525-0.64 0.874-0.44 0.349-0.96 0.291-0.52-0.09-0.93-0.582-3.09-3.699-7.91-3.699-2.86 0-5.04 1.427-2.14 1.398-3.35 3.815-1.17 2.447-1.17 5.592 0 3.058 1.31 5.534 1.31 2.417 3.59 3.873 2.33 1.427 5.39 1.427 1.99 0 3.74-0.582 1.81-0.583 3.12-1.806 0.44-0.379 0.96-0.437 0.52-0.06 0.93 0.35 0.47 0.437 0.47 1.019 0.1 0.524-0.38 0.903-3.55 3.262-8.84 3.262zm-27.69-0.06q-3.84 0-6.85-1.69-2.96-1.747-4.66-4.805t-1.7-6.99q0-3.99 1.61-6.99 1.6-3.058 4.41-4.805 2.82-1.748 6.46-1.748 3.59 0 6.36 1.69 2.76 1.66 4.31 4.63 1.56 2.913 1.56 6.728 0 0.641-0.39 1.019-0.39 0.35-1.02 0.35h-21.35v-2.534h22.13l-2.14 1.602q0.1-3.146-1.07-5.563-1.16-2.446-3.35-3.786-2.13-1.427-5.04-1.427-2.77 0-4.95 1.427-2.14 1.34-3.4 3.786-1.21 2.417-1.21 5.621 0 3.146 1.31 5.592 1.31 2.417 3.64 3.815 2.33 1.369 5.34 1.369 1.89 0 3.78-0.641 1.94-0.67 3.06-1.747 0.39-0.379 0.92-0.379 0.58-0.06 0.97 0.291 0.54 0.437 0.54 0.962 0 0.553-0.44 0.99-1.55 1.398-4.08 2.33-2.47 0.903-4.75 0.903zm-30.93 11.13q-0.64 0-1.07-0.44-0.44-0.38-0.44-1.02 0-0.67 0.44-1.1 0.43-0.41 1.07-0.41 2.47 0 4.31-1.05 1.9-1.08 2.97-2.97 1.06-1.89 1.06-4.313v-25.16q0-0.67 0.39-1.049 0.44-0.408 1.07-0.408 0.68 0 1.07 0.408 0.43 0.379 0.43 1.049v25.16q0 3.291-1.45 5.821-1.46 2.57-4.03 4.02-2.52 1.46-5.82 1.46zm9.75-43.48q-0.92 0-1.6-0.641-0.63-0.67-0.63-1.66 0-1.107 0.68-1.631 0.73-0.582 1.6-0.582 0.82 0 1.5 0.582 0.73 0.524 0.73 1.631 0 0.99-0.68 1.66-0.63 0.641-1.6 0.641zm-21.55 32.42q-3.79 0-6.84-1.748-3.06-1.747-4.86-4.747-1.75-3.029-1.84-6.815v-23.44q0-0.67 0.39-1.048 0.43-0.408 1.06-0.408 0.68 0 1.07 0.408 0.39 0.378 0.39 1.048v15.14q1.55-2.505 4.32-4.019 2.82-1.515 6.31-1.515 3.88 0 6.94 1.806 3.11 1.747 4.85 4.805 1.8 3.058 1.8 6.932 0 3.902-1.8 6.99-1.74 3.058-4.85 4.863-3.06 1.748-6.94 1.748zm0-2.709q3.06 0 5.44-1.427 2.42-1.456 3.83-3.873 1.41-2.476 1.41-5.592 0-3.087-1.41-5.534-1.41-2.417-3.83-3.815-2.38-1.456-5.44-1.456-3.01 0-5.44 1.456-2.42 1.398-3.83 3.815-1.36 2.447-1.36 5.534 0 3.116 1.36 5.592 1.41 2.417 3.83 3.873 2.43 1.427 5.44 1.427zm-32.53 2.709q-3.88 0-6.99-1.748-3.06-1.805-4.85-4.863-1.75-3.088-1.75-6.932 0-3.873 1.75-6.931 1.79-3.117 4.85-4.864 3.11-1.806 6.99-1.806t6.94 1.806q3.06 1.747 4.8 4.864 1.8 3.058 1.8 6.931 0 3.844-1.8 6.932-1.74 3.058-4.8 4.863-3.06 1.748-6.94 1.748zm0-2.709q3.06 0 5.44-1.427 2.42-1.456 3.78-3.873 1.41-2.476 1.41-5.592 0-3.058-1.41-5.475-1.36-2.476-3.78-3.874-2.38-1.456-5.44-1.456-3.01 0-5.44 1.456-2.42 1.398-3.83 3.874-1.41 2.417-1.41 5.533 0 3.058 1.41 5.534 1.41 2.417 3.83 3.873 2.43 1.427 5.44 1.427z"),
-            strokeWidth(".9101")
-        )
-    );
-  }
+  static final SourceModel UiLogo = SourceModel.create("UiLogo.java", "8980b1c518ef649e", 50);
 
-  private Html.Instruction gitHubLogo() {
-    return svg(
-        css(\"""
-        fill:var(--color-logo)
-        height:24rx
-        width:auto
-        \"""),
+  static final SourceModel UiShell = SourceModel.create("UiShell.java", "12cefc27e2bc0960", 51);
 
-        xmlns("http://www.w3.org/2000/svg"), width("98"), height("96"), viewBox("0 0 98 96"),
+  static final SourceModel UiSource = SourceModel.create("UiSource.java", "c67442f3412f4766", 52);
 
-        path(
-            fillRule("evenodd"), clipRule("evenodd"), d(
-                "M48.854 0C21.839 0 0 22 0 49.217c0 21.756 13.993 40.172 33.405 46.69 2.427.49 3.316-1.059 3.316-2.362 0-1.141-.08-5.052-.08-9.127-13.59 2.934-16.42-5.867-16.42-5.867-2.184-5.704-5.42-7.17-5.42-7.17-4.448-3.015.324-3.015.324-3.015 4.934.326 7.523 5.052 7.523 5.052 4.367 7.496 11.404 5.378 14.235 4.074.404-3.178 1.699-5.378 3.074-6.6-10.839-1.141-22.243-5.378-22.243-24.283 0-5.378 1.94-9.778 5.014-13.2-.485-1.222-2.184-6.275.486-13.038 0 0 4.125-1.304 13.426 5.052a46.97 46.97 0 0 1 12.214-1.63c4.125 0 8.33.571 12.213 1.63 9.302-6.356 13.427-5.052 13.427-5.052 2.67 6.763.97 11.816.485 13.038 3.155 3.422 5.015 7.822 5.015 13.2 0 18.905-11.404 23.06-22.324 24.283 1.78 1.548 3.316 4.481 3.316 9.126 0 6.6-.08 11.897-.08 13.526 0 1.304.89 2.853 3.316 2.364 19.412-6.52 33.405-24.935 33.405-46.691C97.707 22 75.788 0 48.854 0z")
-        )
-    );
+  static SourceModel byHash(String hash) {
+    return switch (hash) {
+      case "2295c1f3ccb127bc" -> AppAsset;
+      case "35f06621492f9531" -> AppAssets;
+      case "445186707744d001" -> AppCatalog;
+      case "81ae29eb4b217c84" -> AppCtx;
+      case "766f3b5249b9bc40" -> AppJobs;
+      case "da86e98e1034129c" -> AppReservation;
+      case "2df70a91fac9fc5a" -> AppTrx;
+      case "9bbbe7c9579ced28" -> AppView;
+      case "285c3cfd42b53658" -> Boot;
+      case "23edbd0ba933fdff" -> Confirm;
+      case "68e5b42709a76e40" -> ConfirmData;
+      case "c57e62852a259ee8" -> ConfirmDetails;
+      case "796988f42a5b45f2" -> ConfirmForm;
+      case "103ac3b4f319731f" -> ConfirmView;
+      case "a7664b0c03c23534" -> ConnectionAdmission;
+      case "7ba506e3d0357496" -> HoldWheel;
+      case "c480442cc67f6e14" -> Home;
+      case "f5ddad820bf32778" -> HomeModel;
+      case "aa6369aef754cc3d" -> HomeView;
+      case "6f10e13505503e29" -> LocalClear;
+      case "afbc2fb345b68bf6" -> LocalCreate;
+      case "c5c17de2f2483325" -> LocalReload;
+      case "fd586dd59640ae3e" -> Movie;
+      case "36fba051ea985e16" -> MovieDetails;
+      case "ccbedb0a2b7aeb6c" -> MovieScreening;
+      case "551cfe7bf58ef551" -> MovieShowtime;
+      case "3efaca1ce9097ab8" -> MovieView;
+      case "442897370a156694" -> NotFound;
+      case "20d91de0e7775805" -> NotFoundView;
+      case "f87a0c3439eda405" -> Poster;
+      case "5641573a584b4059" -> PosterCache;
+      case "4ebfbf42579b0a90" -> PosterImages;
+      case "7185dab75b6731ff" -> PosterModel;
+      case "3acf868df6d16fb2" -> PosterStore;
+      case "4e97250bfbf4a542" -> SeatInventory;
+      case "ba7589acf48264e6" -> SeatLocks;
+      case "0b1a996816a996f2" -> SeatMap;
+      case "95de5ec72ec1876b" -> Seats;
+      case "10d029c4e9bb94fa" -> SeatsAlert;
+      case "cf15db9db829837d" -> SeatsData;
+      case "c9388e507619a1e3" -> SeatsDetails;
+      case "9613f307a17be760" -> SeatsForm;
+      case "5608f55365a19285" -> SeatsGrid;
+      case "3216ee5e3e178422" -> SeatsView;
+      case "ccbfdbddaa91bf1d" -> SourceModel_;
+      case "b8b6c19272303597" -> SourcePanel;
+      case "0618dd651d764e01" -> Ticket;
+      case "cbb35086358af05d" -> TicketModel;
+      case "cf4fb31122f4973d" -> TicketView;
+      case "a37c7d7e9b4623e5" -> UiIcon;
+      case "8980b1c518ef649e" -> UiLogo;
+      case "12cefc27e2bc0960" -> UiShell;
+      case "c67442f3412f4766" -> UiSource;
+      default -> null;
+    };
   }
 
-  // ##################################################################
-  // # END: Logos
-  // ##################################################################
-
-}
-""");
-
-  static final SourceModel AppView = SourceModel.create("AppView.java", """
-/*
- * Copyright (C) 2024-2026 Objectos Software LTDA.
- *
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *
- * http://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-package demo.landing.app;
-
-import module java.base;
-
-/// The views of this application.
-enum AppView {
-
-  HOME,
-
-  MOVIE,
-
-  SEATS,
-
-  CONFIRM,
-
-  TICKET,
-
-  NOT_FOUND;
-
-  final String slug = name().toLowerCase(Locale.US);
-
-}
-""");
 }
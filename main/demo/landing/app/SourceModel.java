@@ -15,26 +15,204 @@
  */
 package demo.landing.app;
 
+import module java.base;
 import module objectos.way;
 
-/// The filename and the contents of a Java source file.
-record SourceModel(String name, String value, Html.Id button, Html.Id panel) {
+/// The filename and the contents of a Java source file. The `hash` is the
+/// hash of the syntax highlighted contents as generated by `SourceGen`.
+///
+/// The contents are stored compressed in the `Source.dat` resource. They are
+/// decompressed on first access and softly cached afterwards, so they can be
+/// reclaimed under memory pressure.
+final class SourceModel {
 
-  private static int INDEX = 0;
+  private static final int MAGIC = 0x53524331; // SRC1
 
-  public static SourceModel create(String name, String value) {
-    final int index;
-    index = INDEX++;
+  private static final String RESOURCE = "Source.dat";
 
-    return new SourceModel(
-        name,
+  private final String name;
 
-        value,
+  private final String hash;
 
-        Html.Id.of("src-btn-" + index),
+  private final int index;
 
-        Html.Id.of("src-panel-" + index)
-    );
+  private final Html.Id button;
+
+  private final Html.Id panel;
+
+  private volatile SoftReference<String> value;
+
+  private volatile SoftReference<String> html;
+
+  private SourceModel(String name, String hash, int index) {
+    this.name = name;
+
+    this.hash = hash;
+
+    this.index = index;
+
+    button = Html.Id.of("src-btn-" + hash);
+
+    panel = Html.Id.of("src-panel-" + hash);
+  }
+
+  public static SourceModel create(String name, String hash, int index) {
+    return new SourceModel(name, hash, index);
+  }
+
+  public final String name() {
+    return name;
+  }
+
+  public final String hash() {
+    return hash;
+  }
+
+  public final Html.Id button() {
+    return button;
+  }
+
+  public final Html.Id panel() {
+    return panel;
+  }
+
+  /// The raw contents of this source file.
+  public final String value() {
+    final SoftReference<String> ref;
+    ref = value;
+
+    String result;
+    result = ref != null ? ref.get() : null;
+
+    if (result == null) {
+      result = load(index * 2);
+
+      value = new SoftReference<>(result);
+    }
+
+    return result;
+  }
+
+  /// The syntax highlighted contents of this source file.
+  public final String html() {
+    final SoftReference<String> ref;
+    ref = html;
+
+    String result;
+    result = ref != null ? ref.get() : null;
+
+    if (result == null) {
+      result = load(index * 2 + 1);
+
+      html = new SoftReference<>(result);
+    }
+
+    return result;
+  }
+
+  /// The path from where the panel of this source file can be loaded. It
+  /// changes whenever the contents change, so responses can be cached forever.
+  final String href() {
+    return "/demo.landing/source/" + hash;
+  }
+
+  /// The entity tag of the panel of this source file.
+  final String etag() {
+    return "\"" + hash + "\"";
+  }
+
+  @Override
+  public final String toString() {
+    return name;
+  }
+
+  // concurrent loads of the same entry are harmless:
+  // both threads decompress the same immutable data
+  private static String load(int entry) {
+    try (InputStream in = SourceModel.class.getResourceAsStream(RESOURCE)) {
+      if (in == null) {
+        throw new IllegalStateException(RESOURCE + " not found");
+      }
+
+      final DataInputStream data;
+      data = new DataInputStream(in);
+
+      final int magic;
+      magic = data.readInt();
+
+      if (magic != MAGIC) {
+        throw new IllegalStateException(RESOURCE + ": invalid magic number");
+      }
+
+      final int count;
+      count = data.readInt();
+
+      if (entry >= count) {
+        throw new IllegalStateException(RESOURCE + ": entry " + entry + " not found");
+      }
+
+      // position of this entry in the index
+      data.skipNBytes(entry * 12);
+
+      final int offset;
+      offset = data.readInt();
+
+      final int length;
+      length = data.readInt();
+
+      final int size;
+      size = data.readInt();
+
+      // magic + count + the index up to the end of this entry
+      final int position;
+      position = 4 + 4 + entry * 12 + 12;
+
+      data.skipNBytes(offset - position);
+
+      final byte[] compressed;
+      compressed = data.readNBytes(length);
+
+      return inflate(compressed, size);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  static String inflate(byte[] compressed, int size) {
+    final Inflater inflater;
+    inflater = new Inflater();
+
+    try {
+      inflater.setInput(compressed);
+
+      final byte[] bytes;
+      bytes = new byte[size];
+
+      int count;
+      count = 0;
+
+      while (count < size && !inflater.finished()) {
+        final int read;
+        read = inflater.inflate(bytes, count, size - count);
+
+        if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+          // truncated entry: no more input would ever be inflated
+          throw new IllegalStateException(RESOURCE + ": corrupted entry");
+        }
+
+        count += read;
+      }
+
+      if (count != size) {
+        throw new IllegalStateException(RESOURCE + ": corrupted entry");
+      }
+
+      return new String(bytes, StandardCharsets.UTF_8);
+    } catch (DataFormatException e) {
+      throw new IllegalStateException(RESOURCE + ": corrupted entry", e);
+    } finally {
+      inflater.end();
+    }
   }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (C) 2024-2026 Objectos Software LTDA.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package demo.landing.app;
+
+import objectos.http.Handler;
+import objectos.http.HeaderName;
+import objectos.http.Request;
+import objectos.http.Response;
+import objectos.http.Result;
+import objectos.http.Status;
+
+/// The `/source/{hash}` controller. Renders the source code panel requested
+/// by the source file selector.
+///
+/// The path is content-addressed: a given hash always maps to the same
+/// panel. Responses are therefore marked as immutable, and revalidations are
+/// answered with a `304` without rendering the panel.
+final class SourcePanel implements Handler {
+
+  SourcePanel() {}
+
+  @Override
+  public final Result handle(Request req) {
+    final String hash;
+    hash = req.pathParam("hash");
+
+    final SourceModel source;
+    source = Source.byHash(hash);
+
+    if (source == null) {
+      return req;
+    }
+
+    final String etag;
+    etag = source.etag();
+
+    final boolean notModified;
+    notModified = AppCtx.ifNoneMatch(req.header(HeaderName.IF_NONE_MATCH), etag);
+
+    return Response.create(opts -> {
+      opts.status(notModified ? Status.NOT_MODIFIED : Status.OK);
+
+      opts.date();
+
+      opts.header(HeaderName.ETAG, etag);
+
+      opts.header(HeaderName.CACHE_CONTROL, AppCtx.IMMUTABLE);
+
+      if (notModified) {
+        return;
+      }
+
+      // the panel itself: not bounded
+      opts.send(new UiSource(source, true, false));
+    });
+  }
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2024-2026 Objectos Software LTDA.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package demo.landing.app;
+
+import module objectos.way;
+
+/// Renders the panel displaying the contents of a single source file. Only the
+/// selected panel carries the source code, the remaining ones are empty
+/// placeholders whose contents are loaded on demand.
+///
+/// A bounded panel carries the source code only if it is small enough, and
+/// otherwise a button loading it. So the size of a page does not grow with
+/// the size of its first source file.
+final class UiSource extends Html.Template {
+
+  static final Html.AttributeName SEL = Html.AttributeName.of("data-selected");
+
+  // the largest source code rendered in a bounded panel, in chars
+  static final int INLINE_LIMIT = 64 * 1024;
+
+  private final SourceModel source;
+
+  private final boolean selected;
+
+  private final boolean bounded;
+
+  UiSource(SourceModel source, boolean selected, boolean bounded) {
+    this.source = source;
+
+    this.selected = selected;
+
+    this.bounded = bounded;
+  }
+
+  @Override
+  protected final void render() {
+    pre(
+        source.panel(),
+
+        css("""
+        display:none
+        font-family:var(--font-mono)
+        font-size:13rx
+        line-height:18.6rx
+        padding:16rx
+        &[data-selected=true]/display:flex
+
+        &_span[data-line]/display:block
+        &_span[data-line]/min-height:1lh
+
+        &_span[data-line]:nth-child(-n+15)/display:none
+
+        &_span[data-high=annotation]/color:var(--color-high-meta)
+        &_span[data-high=comment]/color:var(--color-high-comment)
+        &_span[data-high=comment]/font-style:italic
+        &_span[data-high=keyword]/color:var(--color-high-keyword)
+        &_span[data-high=string]/color:var(--color-high-string)
+        """),
+
+        attr(SEL, Boolean.toString(selected)),
+
+        code(
+            css("""
+            flex-grow:1
+            """),
+
+            contents()
+        )
+    );
+  }
+
+  private Html.Instruction contents() {
+    if (!selected) {
+      return noop();
+    }
+
+    // pre-highlighted at build time by SourceGen
+    final String html;
+    html = source.html();
+
+    if (bounded && html.length() > INLINE_LIMIT) {
+      return button(
+          css("""
+          border-radius:6rx
+          cursor:pointer
+          font-family:var(--font-sans)
+          padding:4rx_8rx
+
+          active/background-color:var(--color-btn-ghost-active)
+          hover/background-color:var(--color-btn-ghost-hover)
+          """),
+
+          onclick(Js.byId(source.panel()).render(source.href())),
+
+          text("Load " + source.name())
+      );
+    }
+
+    return raw(html);
+  }
+
+}
@@ -18,29 +18,22 @@ package demo.landing.dev;
 import demo.landing.LandingDemo;
 import java.nio.file.Path;
 import java.util.function.Consumer;
-import objectos.css.StyleSheet;
 import objectos.http.Redirection;
 import objectos.http.RequestMethod;
 import objectos.http.Routing;
 import objectos.http.StaticFile;
-import objectos.script.JsLibrary;
 import objectos.way.App;
-import objectos.way.Html;
 import objectos.way.Note;
 
 public final class DevModule implements Consumer<Routing> {
 
   private final LandingDemo ctx;
 
-  private final Html.Component head;
-
   private final Note.Sink noteSink;
 
   public DevModule(App.Injector injector) {
     ctx = injector.getInstance(LandingDemo.class);
 
-    head = injector.getInstance(Html.Component.class);
-
     noteSink = injector.getInstance(Note.Sink.class);
   }
 
@@ -50,23 +43,21 @@ public final class DevModule implements Consumer<Routing> {
 
     ctx.publicRoutes(r);
 
-    r.at("/",
-        RequestMethod.GET, Redirection.movedPermanently("/index.html"));
+    // generated on every reload
+    final LandingDemo.Assets assets;
+    assets = LandingDemo.assets(opts -> {
+      opts.noteSink(noteSink);
 
-    r.at("/index.html",
-        RequestMethod.GET, StaticFile.of(new DevView(head)));
+      opts.scanDirectory(Path.of("work", "main"));
+    });
 
-    r.at("/ui/script.js",
-        RequestMethod.GET, StaticFile.of(JsLibrary.of()));
+    assets.routes(r);
 
-    r.at("/ui/styles.css",
-        RequestMethod.GET, StaticFile.of(StyleSheet.create(opts -> {
-          opts.noteSink(noteSink);
-
-          opts.include(LandingDemo.styles());
+    r.at("/",
+        RequestMethod.GET, Redirection.movedPermanently("/index.html"));
 
-          opts.scanDirectory(Path.of("work", "main"));
-        })));
+    r.at("/index.html",
+        RequestMethod.GET, StaticFile.of(new DevView(assets.head())));
   }
 
 }
\ No newline at end of file
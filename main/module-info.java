@@ -18,4 +18,5 @@ module demo.landing {
 
   requires transitive objectos.way;
   requires com.h2database;
+  requires java.desktop;
 }
\ No newline at end of file
@@ -22,11 +22,8 @@ import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.HexFormat;
-import objectos.css.StyleSheet;
 import objectos.http.Handler;
-import objectos.script.JsLibrary;
 import objectos.way.App;
-import objectos.way.Html;
 import objectos.way.Note;
 import objectos.way.Sql;
 import org.h2.jdbcx.JdbcConnectionPool;
@@ -64,10 +61,10 @@ public final class StartTest extends Start {
   }
 
   @Override
-  final JdbcConnectionPool connectionPool() {
+  final JdbcConnectionPool connectionPool(String settings) {
     // we create a in-memory database for testing
     final String url;
-    url = "jdbc:h2:mem:testing;DB_CLOSE_DELAY=-1";
+    url = "jdbc:h2:mem:testing;DB_CLOSE_DELAY=-1" + settings;
 
     return JdbcConnectionPool.create(url, "sa", "");
   }
@@ -78,6 +75,12 @@ public final class StartTest extends Start {
     LandingDemoDb.migration01(migrations);
 
     // no data
+
+    // schema
+    LandingDemoDb.migration03(migrations);
+
+    // schema
+    LandingDemoDb.migration04(migrations);
   }
 
   @Override
@@ -118,36 +121,10 @@ public final class StartTest extends Start {
 
       demo.reservationRandom(fixedGenerator);
 
-      demo.testing();
-    });
-  }
-
-  @Override
-  final Html.Component headComponent(App.Injector injector) {
-    final StyleSheet styleSheet;
-    styleSheet = StyleSheet.create(opts -> {
-      final Note.Sink noteSink;
-      noteSink = injector.getInstance(Note.Sink.class);
-
-      opts.noteSink(noteSink);
+      demo.schemaBound();
 
-      opts.include(LandingDemo.styles());
+      demo.testing();
     });
-
-    final String css;
-    css = styleSheet.generate();
-
-    final JsLibrary library;
-    library = JsLibrary.of();
-
-    final String script;
-    script = library.toString();
-
-    return html -> {
-      html.style(css);
-
-      html.script(script);
-    };
   }
 
   @Override
@@ -0,0 +1,210 @@
+/*
+ * Copyright (C) 2024-2026 Objectos Software LTDA.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package demo.landing.app;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import objectos.http.HeaderName;
+import objectos.http.MediaType;
+import objectos.http.Request;
+import objectos.http.RequestMethod;
+import objectos.http.Result;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+@Listeners(Testing.class)
+public class AppAssetTest {
+
+  @Test
+  public void path() {
+    final AppAsset asset;
+    asset = AppAsset.of("styles", "css", MediaType.TEXT_CSS, "body{margin:0}");
+
+    assertEquals(asset.path(), "/ui/styles." + asset.hash() + ".css");
+    assertEquals(asset.hash().length(), 16);
+  }
+
+  @Test(description = "path changes whenever the contents change")
+  public void fingerprint() {
+    final AppAsset a;
+    a = AppAsset.of("styles", "css", MediaType.TEXT_CSS, "body{margin:0}");
+
+    final AppAsset b;
+    b = AppAsset.of("styles", "css", MediaType.TEXT_CSS, "body{margin:1px}");
+
+    assertNotEquals(a.path(), b.path());
+
+    final AppAsset c;
+    c = AppAsset.of("styles", "css", MediaType.TEXT_CSS, "body{margin:0}");
+
+    assertEquals(c.path(), a.path());
+  }
+
+  @Test
+  public void gzip() throws IOException {
+    final String contents;
+    contents = "body{margin:0}".repeat(100);
+
+    final AppAsset asset;
+    asset = AppAsset.of("styles", "css", MediaType.TEXT_CSS, contents);
+
+    assertTrue(asset.gzip().length < asset.data().length);
+
+    try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(asset.gzip()))) {
+      final byte[] bytes;
+      bytes = in.readAllBytes();
+
+      assertEquals(new String(bytes, StandardCharsets.UTF_8), contents);
+    }
+  }
+
+  @Test(description = "Accept-Encoding: gzip unless absent or q=0")
+  public void acceptsGzip() {
+    assertFalse(AppAsset.acceptsGzip(null));
+    assertFalse(AppAsset.acceptsGzip(""));
+    assertFalse(AppAsset.acceptsGzip("br, deflate"));
+    assertFalse(AppAsset.acceptsGzip("gzip;q=0"));
+    assertFalse(AppAsset.acceptsGzip("gzip; q=0.0, br"));
+    assertFalse(AppAsset.acceptsGzip("*;q=0"));
+    assertFalse(AppAsset.acceptsGzip("*, gzip;q=0"));
+
+    assertTrue(AppAsset.acceptsGzip("gzip"));
+    assertTrue(AppAsset.acceptsGzip("gzip, deflate, br"));
+    assertTrue(AppAsset.acceptsGzip("deflate, gzip;q=0.5"));
+    assertTrue(AppAsset.acceptsGzip("GZIP"));
+    assertTrue(AppAsset.acceptsGzip("*"));
+  }
+
+  @Test(description = "each representation has its own entity tag")
+  public void handle01() {
+    final AppAsset asset;
+    asset = AppAsset.of("styles", "css", MediaType.TEXT_CSS, "body{margin:0}");
+
+    final String identity;
+    identity = """
+    200 OK
+    ETag: "%s"
+    Cache-Control: public, max-age=31536000, immutable
+    Vary: Accept-Encoding
+    """.formatted(asset.hash());
+
+    final String gzip;
+    gzip = """
+    200 OK
+    ETag: "%s-gzip"
+    Cache-Control: public, max-age=31536000, immutable
+    Vary: Accept-Encoding
+    Content-Encoding: gzip
+    """.formatted(asset.hash());
+
+    final String res1;
+    res1 = handle(asset, null, null);
+
+    assertTrue(res1.startsWith(identity));
+    assertFalse(res1.contains("Content-Encoding"));
+
+    final String res2;
+    res2 = handle(asset, "gzip, deflate", null);
+
+    assertTrue(res2.startsWith(gzip));
+
+    final String res3;
+    res3 = handle(asset, "gzip;q=0", null);
+
+    assertTrue(res3.startsWith(identity));
+    assertFalse(res3.contains("Content-Encoding"));
+  }
+
+  @Test(description = "If-None-Match: 304 for the entity tag of the same representation only")
+  public void handle02() {
+    final AppAsset asset;
+    asset = AppAsset.of("styles", "css", MediaType.TEXT_CSS, "body{margin:0}");
+
+    final String identity;
+    identity = "\"" + asset.hash() + "\"";
+
+    final String gzip;
+    gzip = "\"" + asset.hash() + "-gzip\"";
+
+    assertEquals(
+        handle(asset, null, identity),
+
+        """
+        304 Not Modified
+        ETag: %s
+        Cache-Control: public, max-age=31536000, immutable
+        Vary: Accept-Encoding
+        """.formatted(identity)
+    );
+
+    assertEquals(
+        handle(asset, "gzip", gzip),
+
+        """
+        304 Not Modified
+        ETag: %s
+        Cache-Control: public, max-age=31536000, immutable
+        Vary: Accept-Encoding
+        """.formatted(gzip)
+    );
+
+    assertEquals(
+        handle(asset, "gzip", "*"),
+
+        """
+        304 Not Modified
+        ETag: %s
+        Cache-Control: public, max-age=31536000, immutable
+        Vary: Accept-Encoding
+        """.formatted(gzip)
+    );
+
+    // a cached representation of the other encoding is not a match
+    assertTrue(handle(asset, "gzip", identity).startsWith("200 OK\n"));
+    assertTrue(handle(asset, null, gzip).startsWith("200 OK\n"));
+  }
+
+  private String handle(AppAsset asset, String acceptEncoding, String ifNoneMatch) {
+    final Request req;
+    req = Request.create(config -> {
+      config.method(RequestMethod.GET);
+
+      config.path(asset.path());
+
+      if (acceptEncoding != null) {
+        config.header(HeaderName.ACCEPT_ENCODING, acceptEncoding);
+      }
+
+      if (ifNoneMatch != null) {
+        config.header(HeaderName.IF_NONE_MATCH, ifNoneMatch);
+      }
+    });
+
+    final Result result;
+    result = asset.handle(req);
+
+    return result.toTestableText();
+  }
+
+}
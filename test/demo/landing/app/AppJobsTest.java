@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2024-2026 Objectos Software LTDA.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package demo.landing.app;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import objectos.way.Sql;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+@Listeners(Testing.class)
+public class AppJobsTest {
+
+  @Test(description = "a daily job runs once a day")
+  public void claim01() {
+    Testing.rollback(trx -> {
+      final LocalDateTime day1;
+      day1 = LocalDateTime.of(2025, 1, 25, 10, 0);
+
+      assertTrue(AppJobs.claim(trx, AppJobs.CREATE_SHOW, day1));
+      assertFalse(AppJobs.claim(trx, AppJobs.CREATE_SHOW, day1.plusHours(1)));
+
+      // other jobs are claimed independently
+      assertTrue(AppJobs.claim(trx, AppJobs.CLEAR_RESERVATION, day1));
+
+      assertTrue(AppJobs.claim(trx, AppJobs.CREATE_SHOW, day1.plusDays(1)));
+    });
+  }
+
+  @Test(description = "unknown jobs are never claimed")
+  public void claim02() {
+    Testing.rollback(trx -> {
+      assertFalse(AppJobs.claim(trx, 99, LocalDateTime.of(2025, 1, 25, 10, 0)));
+    });
+  }
+
+  @Test(description = "the history is pruned")
+  public void log01() {
+    Testing.rollback(trx -> {
+      Testing.load(trx, """
+      insert into LOCAL_LOG (LOCAL_ID, LOCAL_TIME)
+      values (1, '2025-01-10 10:00:00')
+      ,      (1, '2025-01-18 09:00:00')
+      ,      (1, '2025-01-18 11:00:00')
+      ,      (2, '2025-01-10 10:00:00');
+      """);
+
+      AppJobs.log(trx, AppJobs.CLEAR_RESERVATION, LocalDateTime.of(2025, 1, 25, 10, 0));
+
+      assertEquals(
+          queryLog(trx),
+
+          List.of(
+              "1 2025-01-18T11:00",
+              "1 2025-01-25T10:00",
+              "2 2025-01-10T10:00"
+          )
+      );
+    });
+  }
+
+  private List<String> queryLog(Sql.Transaction trx) {
+    trx.sql("select LOCAL_ID, LOCAL_TIME from LOCAL_LOG order by 1, 2");
+
+    return trx.query((rs, idx) -> rs.getInt(idx++) + " " + rs.getObject(idx++, LocalDateTime.class));
+  }
+
+}
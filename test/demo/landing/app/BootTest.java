@@ -0,0 +1,45 @@
+/*
+ * Copyright (C) 2024-2026 Objectos Software LTDA.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package demo.landing.app;
+
+import static org.testng.Assert.assertEquals;
+
+import objectos.http.Redirection;
+import objectos.http.Request;
+import objectos.http.RequestMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+@Listeners(Testing.class)
+public class BootTest {
+
+  @Test(description = "redirects without a transaction")
+  public void testCase01() {
+    final Request req;
+    req = Request.create(config -> {
+      config.method(RequestMethod.GET);
+
+      config.path("/demo.landing/boot");
+    });
+
+    assertEquals(
+        Testing.handle(req),
+
+        Redirection.found("/demo.landing/home")
+    );
+  }
+
+}
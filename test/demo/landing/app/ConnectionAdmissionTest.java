@@ -0,0 +1,163 @@
+/*
+ * Copyright (C) 2024-2026 Objectos Software LTDA.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package demo.landing.app;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+@Listeners(Testing.class)
+public class ConnectionAdmissionTest {
+
+  @Test(description = "admits up to the maximum, then rejects once the wait elapses")
+  public void testCase01() {
+    final ConnectionAdmission admission;
+    admission = new ConnectionAdmission(2, Duration.ofMillis(10));
+
+    assertTrue(admission.acquire());
+    assertTrue(admission.acquire());
+    assertEquals(admission.inUse(), 2);
+
+    assertFalse(admission.acquire());
+    assertEquals(admission.timeouts(), 1L);
+    assertEquals(admission.admitted(), 2L);
+
+    admission.release();
+    assertEquals(admission.inUse(), 1);
+
+    assertTrue(admission.acquire());
+    assertEquals(admission.admitted(), 3L);
+    assertEquals(admission.timeouts(), 1L);
+  }
+
+  @Test(description = "a waiting request is admitted once a connection is released")
+  public void testCase02() throws InterruptedException {
+    final ConnectionAdmission admission;
+    admission = new ConnectionAdmission(1, Duration.ofSeconds(10));
+
+    assertTrue(admission.acquire());
+
+    final CountDownLatch admitted;
+    admitted = new CountDownLatch(1);
+
+    final Thread waiter;
+    waiter = Thread.ofVirtual().start(() -> {
+      if (admission.acquire()) {
+        admitted.countDown();
+
+        admission.release();
+      }
+    });
+
+    Thread.sleep(50);
+
+    admission.release();
+
+    assertTrue(admitted.await(5, TimeUnit.SECONDS));
+
+    waiter.join();
+
+    assertEquals(admission.inUse(), 0);
+    assertEquals(admission.admitted(), 2L);
+    assertEquals(admission.timeouts(), 0L);
+    assertTrue(admission.maxAcquireNanos() >= TimeUnit.MILLISECONDS.toNanos(50));
+    assertTrue(admission.meanAcquireNanos() <= admission.maxAcquireNanos());
+  }
+
+  @Test(description = "a lock held for longer than the wait counts as a timeout")
+  public void testCase03() throws InterruptedException {
+    final ConnectionAdmission admission;
+    admission = new ConnectionAdmission(1, Duration.ofMillis(10));
+
+    final ReentrantLock lock;
+    lock = new ReentrantLock();
+
+    assertTrue(admission.lock(lock));
+    assertTrue(lock.isHeldByCurrentThread());
+
+    final Thread waiter;
+    waiter = Thread.ofVirtual().start(() -> {
+      if (admission.lock(lock)) {
+        lock.unlock();
+      }
+    });
+
+    waiter.join();
+
+    lock.unlock();
+
+    assertEquals(admission.timeouts(), 1L);
+    assertEquals(admission.admitted(), 0L);
+    assertFalse(lock.isLocked());
+  }
+
+  @Test(description = "background work holding the only connection: routes are rejected once the wait elapses")
+  public void testCase04() throws InterruptedException {
+    final ConnectionAdmission admission;
+    admission = new ConnectionAdmission(1, Duration.ofMillis(10));
+
+    // e.g. the hold expiry job
+    assertTrue(admission.acquireUnbounded());
+    assertEquals(admission.inUse(), 1);
+
+    final long startTime;
+    startTime = System.nanoTime();
+
+    assertFalse(admission.acquire());
+
+    // the route is answered within its bound, not after the pool's login timeout
+    assertTrue(System.nanoTime() - startTime < TimeUnit.SECONDS.toNanos(1));
+    assertEquals(admission.timeouts(), 1L);
+
+    // background work waits past the bound until a connection is released
+    final CountDownLatch admitted;
+    admitted = new CountDownLatch(1);
+
+    final Thread waiter;
+    waiter = Thread.ofVirtual().start(() -> {
+      if (admission.acquireUnbounded()) {
+        admitted.countDown();
+
+        admission.release();
+      }
+    });
+
+    assertFalse(admitted.await(50, TimeUnit.MILLISECONDS));
+
+    admission.release();
+
+    assertTrue(admitted.await(5, TimeUnit.SECONDS));
+
+    waiter.join();
+
+    assertEquals(admission.inUse(), 0);
+    assertEquals(admission.admitted(), 2L);
+    assertEquals(admission.timeouts(), 1L);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void rejectsNoPermits() {
+    new ConnectionAdmission(0, Duration.ZERO);
+  }
+
+}
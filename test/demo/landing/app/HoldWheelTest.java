@@ -0,0 +1,124 @@
+/*
+ * Copyright (C) 2024-2026 Objectos Software LTDA.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package demo.landing.app;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.util.List;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+@Listeners(Testing.class)
+public class HoldWheelTest {
+
+  private final HoldWheel.Hold hold1 = new HoldWheel.Hold(901L, 61);
+
+  private final HoldWheel.Hold hold2 = new HoldWheel.Hold(902L, 61);
+
+  private final HoldWheel.Hold hold3 = new HoldWheel.Hold(903L, 62);
+
+  @Test(description = "holds expire at their deadline")
+  public void testCase01() {
+    final HoldWheel wheel;
+    wheel = new HoldWheel(1000L, 8, 10_000L);
+
+    wheel.add(hold1, 13_000L);
+    wheel.add(hold2, 15_500L);
+    wheel.add(hold3, 13_999L);
+
+    assertEquals(wheel.size(), 3);
+
+    assertEquals(wheel.advance(12_999L), List.of());
+    assertEquals(wheel.advance(13_000L), List.of(hold1, hold3));
+    assertEquals(wheel.advance(14_000L), List.of());
+    assertEquals(wheel.advance(15_000L), List.of(hold2));
+
+    assertEquals(wheel.size(), 0);
+  }
+
+  @Test(description = "deadlines beyond a revolution of the wheel")
+  public void testCase02() {
+    final HoldWheel wheel;
+    wheel = new HoldWheel(1000L, 8, 0L);
+
+    // same slot, 0, 2 and 3 revolutions ahead
+    wheel.add(hold1, 4_000L);
+    wheel.add(hold2, 20_000L);
+    wheel.add(hold3, 28_000L);
+
+    assertEquals(wheel.advance(4_000L), List.of(hold1));
+    assertEquals(wheel.advance(19_999L), List.of());
+    assertEquals(wheel.advance(20_000L), List.of(hold2));
+    assertEquals(wheel.advance(27_999L), List.of());
+    assertEquals(wheel.advance(28_000L), List.of(hold3));
+  }
+
+  @Test(description = "removed holds do not expire")
+  public void testCase03() {
+    final HoldWheel wheel;
+    wheel = new HoldWheel(1000L, 8, 0L);
+
+    wheel.add(hold1, 3_000L);
+    wheel.add(hold2, 3_000L);
+
+    assertTrue(wheel.remove(901L));
+    assertFalse(wheel.remove(901L));
+
+    assertEquals(wheel.size(), 1);
+
+    assertEquals(wheel.advance(60_000L), List.of(hold2));
+  }
+
+  @Test(description = "a tracked reservation keeps its deadline")
+  public void testCase04() {
+    final HoldWheel wheel;
+    wheel = new HoldWheel(1000L, 8, 0L);
+
+    wheel.add(hold1, 3_000L);
+    wheel.add(hold1, 6_000L);
+
+    assertEquals(wheel.advance(3_000L), List.of(hold1));
+    assertEquals(wheel.advance(6_000L), List.of());
+  }
+
+  @Test(description = "removed, then tracked again")
+  public void testCase05() {
+    final HoldWheel wheel;
+    wheel = new HoldWheel(1000L, 8, 0L);
+
+    wheel.add(hold1, 3_000L);
+
+    wheel.remove(901L);
+
+    wheel.add(hold1, 5_000L);
+
+    assertEquals(wheel.advance(4_000L), List.of());
+    assertEquals(wheel.advance(5_000L), List.of(hold1));
+  }
+
+  @Test(description = "deadlines already past expire on the next advance")
+  public void testCase06() {
+    final HoldWheel wheel;
+    wheel = new HoldWheel(1000L, 8, 10_000L);
+
+    wheel.add(hold1, 2_000L);
+
+    assertEquals(wheel.advance(10_000L), List.of(hold1));
+  }
+
+}
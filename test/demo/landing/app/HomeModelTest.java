@@ -36,7 +36,7 @@ public class HomeModelTest {
       Testing.load(trx, data);
 
       final List<HomeModel> items;
-      items = HomeModel.query(trx);
+      items = AppCatalog.load(trx, 0L).home();
 
       assertEquals(items.size(), 2);
 
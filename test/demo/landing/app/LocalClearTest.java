@@ -17,8 +17,10 @@ package demo.landing.app;
 
 import static org.testng.Assert.assertEquals;
 
+import demo.landing.LandingDemo;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.time.LocalDateTime;
 import java.util.List;
 import objectos.http.Content;
 import objectos.http.MediaType;
@@ -199,6 +201,64 @@ public class LocalClearTest {
     });
   }
 
+  @Test(description = "deletes in batches until none is left")
+  public void clearReservation04() {
+    final LandingDemo demo;
+    demo = Testing.INJECTOR.getInstance(LandingDemo.class);
+
+    final LocalClear clear;
+    clear = new LocalClear((AppCtx) demo, 2);
+
+    Testing.rollback(trx -> {
+      Testing.load(trx, data);
+
+      Testing.load(trx, """
+      insert into RESERVATION (RESERVATION_ID, SHOW_ID, RESERVATION_TIME, TICKET_TIME)
+      values (901, 61, '2025-01-24 10:00', null)
+      ,      (902, 61, '2025-01-24 11:00', null)
+      ,      (903, 61, '2025-01-24 12:00', null)
+      ,      (904, 61, '2025-01-24 13:00', '2025-01-24 13:01')
+      ,      (905, 61, '2025-01-25 09:54', null)
+      ,      (906, 61, '2025-01-25 09:55', null);
+      """);
+
+      final Request req;
+      req = Request.create(config -> {
+        config.attr(Sql.Transaction.class, trx);
+
+        config.method(RequestMethod.POST);
+
+        config.path("/demo.landing/clear-reservation");
+      });
+
+      assertEquals(
+          clear.handle(req),
+
+          Content.of(MediaType.TEXT_PLAIN, "OK\n")
+      );
+
+      List<Reservation> result;
+      result = queryReservation(trx);
+
+      assertEquals(result.size(), 2);
+      assertEquals(result.get(0).id, 904);
+      assertEquals(result.get(1).id, 906);
+    });
+  }
+
+  @Test
+  public void cutoff() {
+    assertEquals(
+        LocalClear.cutoff(LocalDateTime.of(2025, 1, 25, 10, 0)),
+        LocalDateTime.of(2025, 1, 25, 9, 55)
+    );
+
+    assertEquals(
+        LocalClear.cutoff(LocalDateTime.of(2025, 1, 25, 10, 0, 59)),
+        LocalDateTime.of(2025, 1, 25, 9, 55)
+    );
+  }
+
   private List<Reservation> queryReservation(Sql.Transaction trx) {
     trx.sql("select RESERVATION_ID from RESERVATION order by 1");
 
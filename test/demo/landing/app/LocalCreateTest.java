@@ -25,6 +25,7 @@ import objectos.http.Content;
 import objectos.http.MediaType;
 import objectos.http.Request;
 import objectos.http.RequestMethod;
+import objectos.http.Status;
 import objectos.way.Sql;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Listeners;
@@ -57,12 +58,12 @@ public class LocalCreateTest {
   ,      (43, 12, 32);
 
   insert into SHOW (SHOW_ID, SCREENING_ID, SHOWDATE, SHOWTIME, SEAT_PRICE)
-  values (61, 41, '2025-01-25', '13:00:00', 9.99)
-  ,      (62, 41, '2025-01-25', '17:00:00', 14.99)
-  ,      (63, 41, '2025-01-25', '21:00:00', 19.99)
-  ,      (64, 42, '2025-01-25', '14:00:00', 9.99)
-  ,      (65, 42, '2025-01-25', '18:00:00', 14.99)
-  ,      (66, 41, '2025-01-26', '13:00:00', 9.99);
+  values (1061, 41, '2025-01-25', '13:00:00', 9.99)
+  ,      (1062, 41, '2025-01-25', '17:00:00', 14.99)
+  ,      (1063, 41, '2025-01-25', '21:00:00', 19.99)
+  ,      (1064, 42, '2025-01-25', '14:00:00', 9.99)
+  ,      (1065, 42, '2025-01-25', '18:00:00', 14.99)
+  ,      (1066, 41, '2025-01-26', '13:00:00', 9.99);
 
   insert into SCREENING_TIME (SCREENING_ID, SCREENING_TIME, SEAT_PRICE)
   values (41, '13:00:00', 9.99)
@@ -139,6 +140,111 @@ public class LocalCreateTest {
     });
   }
 
+  @Test(description = "range of dates: existing shows are skipped")
+  public void createShow02() {
+    Testing.rollback(trx -> {
+      Testing.load(trx, data);
+
+      final Request req;
+      req = Request.create(config -> {
+        config.attr(Sql.Transaction.class, trx);
+
+        config.method(RequestMethod.POST);
+
+        config.path("/demo.landing/create-show");
+
+        config.queryParam("from", "2025-01-25");
+
+        config.queryParam("to", "2025-02-03");
+      });
+
+      // 10 days, two chunks, of 9 shows. Save for 41 at 13:00 on the 25th and 26th
+      assertEquals(
+          Testing.handle(req),
+
+          Content.of(MediaType.TEXT_PLAIN, "OK: 88 shows\n")
+      );
+
+      final List<Show> result1;
+      result1 = queryShow(trx, LocalDate.of(2025, 1, 25));
+
+      assertEquals(result1.size(), 13);
+      assertEquals(result1.get(0), new Show(41, "13:00:00"));
+      assertEquals(result1.get(1), new Show(41, "16:00:00"));
+      assertEquals(result1.get(2), new Show(41, "17:00:00"));
+      assertEquals(result1.get(3), new Show(41, "20:00:00"));
+      assertEquals(result1.get(4), new Show(41, "21:00:00"));
+
+      assertEquals(result1.get(5), new Show(42, "13:00:00"));
+      assertEquals(result1.get(6), new Show(42, "14:00:00"));
+      assertEquals(result1.get(7), new Show(42, "16:00:00"));
+      assertEquals(result1.get(8), new Show(42, "18:00:00"));
+      assertEquals(result1.get(9), new Show(42, "19:00:00"));
+
+      assertEquals(result1.get(10), new Show(43, "14:00:00"));
+      assertEquals(result1.get(11), new Show(43, "16:00:00"));
+      assertEquals(result1.get(12), new Show(43, "19:00:00"));
+
+      final List<Show> result2;
+      result2 = queryShow(trx, LocalDate.of(2025, 2, 3));
+
+      assertEquals(result2.size(), 9);
+
+      final List<Show> result3;
+      result3 = queryShow(trx, LocalDate.of(2025, 2, 4));
+
+      assertEquals(result3.size(), 0);
+    });
+  }
+
+  @Test(description = "range of dates: invalid")
+  public void createShow03() {
+    Testing.rollback(trx -> {
+      final Request req;
+      req = Request.create(config -> {
+        config.attr(Sql.Transaction.class, trx);
+
+        config.method(RequestMethod.POST);
+
+        config.path("/demo.landing/create-show");
+
+        config.queryParam("from", "2025-02-03");
+
+        config.queryParam("to", "2025-01-25");
+      });
+
+      assertEquals(
+          Testing.handle(req),
+
+          Status.BAD_REQUEST
+      );
+    });
+  }
+
+  @Test(description = "ranges longer than a year are rejected")
+  public void createShow04() {
+    Testing.rollback(trx -> {
+      final Request req;
+      req = Request.create(config -> {
+        config.attr(Sql.Transaction.class, trx);
+
+        config.method(RequestMethod.POST);
+
+        config.path("/demo.landing/create-show");
+
+        config.queryParam("from", "2025-01-01");
+
+        config.queryParam("to", "2026-01-02");
+      });
+
+      assertEquals(
+          Testing.handle(req),
+
+          Status.BAD_REQUEST
+      );
+    });
+  }
+
   private List<Show> queryShow(Sql.Transaction trx, LocalDate dt) {
     trx.sql("select SCREENING_ID, SHOWTIME from SHOW where SHOWDATE = ? order by 1, 2");
 
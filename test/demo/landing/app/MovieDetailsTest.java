@@ -47,7 +47,7 @@ public class MovieDetailsTest {
       Testing.load(trx, data);
 
       final Optional<MovieDetails> maybe;
-      maybe = MovieDetails.queryOptional(trx, 11);
+      maybe = AppCatalog.load(trx, 0L).movieDetails(11);
 
       assertEquals(maybe.isPresent(), true);
 
@@ -69,7 +69,7 @@ public class MovieDetailsTest {
       Testing.load(trx, data);
 
       final Optional<MovieDetails> maybe;
-      maybe = MovieDetails.queryOptional(trx, 33);
+      maybe = AppCatalog.load(trx, 0L).movieDetails(33);
 
       assertEquals(maybe.isPresent(), false);
     });
@@ -78,7 +78,7 @@ public class MovieScreeningTest {
       jan25 = LocalDateTime.of(2025, 1, 25, 10, 0);
 
       final List<MovieScreening> all;
-      all = MovieScreening.query(trx, 11, jan25);
+      all = AppCatalog.load(trx, 0L).movieScreenings(11, jan25);
 
       assertEquals(all.size(), 3);
 
@@ -141,7 +141,7 @@ public class MovieScreeningTest {
       jan25 = LocalDateTime.of(2025, 1, 25, 13, 0);
 
       final List<MovieScreening> all;
-      all = MovieScreening.query(trx, 11, jan25);
+      all = AppCatalog.load(trx, 0L).movieScreenings(11, jan25);
 
       assertEquals(all.size(), 3);
 
@@ -203,7 +203,7 @@ public class MovieScreeningTest {
       jan25 = LocalDateTime.of(2025, 1, 25, 20, 0);
 
       final List<MovieScreening> all;
-      all = MovieScreening.query(trx, 11, jan25);
+      all = AppCatalog.load(trx, 0L).movieScreenings(11, jan25);
 
       assertEquals(all.size(), 2);
 
@@ -239,4 +239,37 @@ public class MovieScreeningTest {
     });
   }
 
+  @Test(description = "shows of the past days are skipped")
+  public void testCase04() {
+    Testing.rollback(trx -> {
+      Testing.load(trx, data);
+
+      final LocalDateTime jan26;
+      jan26 = LocalDateTime.of(2025, 1, 26, 10, 0);
+
+      final List<MovieScreening> all;
+      all = AppCatalog.load(trx, 0L).movieScreenings(11, jan26);
+
+      assertEquals(all.size(), 1);
+
+      final MovieScreening s0;
+      s0 = all.get(0);
+
+      assertEquals(s0.screenId(), 31);
+      assertEquals(s0.date(), "Sun 26/Jan");
+      assertEquals(
+          s0.showtimes(),
+
+          List.of(
+              new MovieShowtime(66, "13:00")
+          )
+      );
+
+      final LocalDateTime jan27;
+      jan27 = LocalDateTime.of(2025, 1, 27, 10, 0);
+
+      assertEquals(AppCatalog.load(trx, 0L).movieScreenings(11, jan27), List.of());
+    });
+  }
+
 }
\ No newline at end of file
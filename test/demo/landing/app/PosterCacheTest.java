@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2024-2026 Objectos Software LTDA.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package demo.landing.app;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+@Listeners(Testing.class)
+public class PosterCacheTest {
+
+  @Test
+  public void testCase01() {
+    final PosterCache cache;
+    cache = new PosterCache(300);
+
+    cache.put(1, poster(100));
+    cache.put(2, poster(100));
+    cache.put(3, poster(100));
+
+    assertEquals(cache.size(), 300);
+
+    // 1 is now the most recently used
+    assertNotNull(cache.get(1));
+
+    cache.put(4, poster(100));
+
+    assertEquals(cache.size(), 300);
+
+    assertNotNull(cache.get(1));
+    assertNull(cache.get(2));
+    assertNotNull(cache.get(3));
+    assertNotNull(cache.get(4));
+  }
+
+  @Test(description = "larger entries evict as many entries as required")
+  public void testCase02() {
+    final PosterCache cache;
+    cache = new PosterCache(300);
+
+    cache.put(1, poster(100));
+    cache.put(2, poster(100));
+    cache.put(3, poster(100));
+    cache.put(4, poster(250));
+
+    assertEquals(cache.size(), 250);
+
+    assertNull(cache.get(1));
+    assertNull(cache.get(2));
+    assertNull(cache.get(3));
+    assertNotNull(cache.get(4));
+  }
+
+  @Test(description = "entries larger than the cache are not cached")
+  public void testCase03() {
+    final PosterCache cache;
+    cache = new PosterCache(300);
+
+    cache.put(1, poster(100));
+    cache.put(2, poster(400));
+
+    assertEquals(cache.size(), 100);
+
+    assertNotNull(cache.get(1));
+    assertNull(cache.get(2));
+  }
+
+  @Test(description = "replacing an entry")
+  public void testCase04() {
+    final PosterCache cache;
+    cache = new PosterCache(300);
+
+    cache.put(1, poster(100));
+    cache.put(1, poster(200));
+
+    assertEquals(cache.size(), 200);
+    assertEquals(cache.get(1).length(), 200);
+  }
+
+  private PosterModel poster(int length) {
+    return new PosterModel(new byte[length], "\"" + length + "\"");
+  }
+
+}
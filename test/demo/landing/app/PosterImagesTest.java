@@ -0,0 +1,133 @@
+/*
+ * Copyright (C) 2024-2026 Objectos Software LTDA.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package demo.landing.app;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+import javax.imageio.ImageIO;
+import objectos.way.Note;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+@Listeners(Testing.class)
+public class PosterImagesTest {
+
+  @Test
+  public void testCase01() throws IOException {
+    final PosterImages.Variants variants;
+    variants = PosterImages.variants(jpeg(400, 600, new Color(0x20, 0x40, 0x80)));
+
+    assertEquals(width(variants.thumb()), 128);
+    assertEquals(width(variants.card()), 256);
+
+    assertTrue(variants.thumb().length() < variants.card().length());
+
+    assertEquals(variants.get(PosterImages.Size.THUMB), variants.thumb());
+    assertEquals(variants.get(PosterImages.Size.CARD), variants.card());
+    assertNull(variants.get(PosterImages.Size.FULL));
+  }
+
+  @Test(description = "smaller posters are not upscaled")
+  public void testCase02() throws IOException {
+    final PosterImages.Variants variants;
+    variants = PosterImages.variants(jpeg(200, 300, Color.WHITE));
+
+    assertEquals(width(variants.thumb()), 128);
+    assertEquals(width(variants.card()), 200);
+  }
+
+  @Test(description = "placeholder is the average color")
+  public void testCase03() throws IOException {
+    final PosterImages.Variants variants;
+    variants = PosterImages.variants(jpeg(400, 600, Color.WHITE));
+
+    assertEquals(variants.placeholder(), "#ffffff");
+  }
+
+  @Test(description = "posters that cannot be decoded are skipped")
+  public void testCase04() throws IOException {
+    final HexFormat hexFormat;
+    hexFormat = HexFormat.of();
+
+    final String poster;
+    poster = hexFormat.formatHex(jpeg(200, 300, Color.WHITE));
+
+    Testing.rollback(trx -> {
+      Testing.load(trx, """
+      insert into MOVIE (MOVIE_ID, TITLE, SYNOPSYS, RUNTIME, RELEASE_DATE)
+      values (11, 'Title 1', 'Synopsys 1', 131, '2025-01-10')
+      ,      (12, 'Title 2', 'Synopsys 2', 150, '2025-01-20');
+
+      insert into MOVIE_POSTER (MOVIE_ID, DATA)
+      values (11, X'%s')
+      ,      (12, X'0102030405');
+      """.formatted(poster));
+
+      final Map<Integer, PosterImages.Variants> variants;
+      variants = PosterImages.generate(trx, Note.NoOpSink.create());
+
+      assertEquals(variants.keySet(), Set.of(11));
+    });
+  }
+
+  @Test
+  public void parse() {
+    assertEquals(PosterImages.Size.parse("thumb"), PosterImages.Size.THUMB);
+    assertEquals(PosterImages.Size.parse("card"), PosterImages.Size.CARD);
+    assertEquals(PosterImages.Size.parse("full"), PosterImages.Size.FULL);
+    assertNull(PosterImages.Size.parse("huge"));
+  }
+
+  private byte[] jpeg(int width, int height, Color color) throws IOException {
+    final BufferedImage image;
+    image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+
+    final Graphics2D g;
+    g = image.createGraphics();
+
+    g.setColor(color);
+
+    g.fillRect(0, 0, width, height);
+
+    g.dispose();
+
+    final ByteArrayOutputStream out;
+    out = new ByteArrayOutputStream();
+
+    ImageIO.write(image, "jpeg", out);
+
+    return out.toByteArray();
+  }
+
+  private int width(PosterModel poster) throws IOException {
+    final BufferedImage image;
+    image = ImageIO.read(new ByteArrayInputStream(poster.data()));
+
+    return image.getWidth();
+  }
+
+}
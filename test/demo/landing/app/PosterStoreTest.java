@@ -0,0 +1,90 @@
+/*
+ * Copyright (C) 2024-2026 Objectos Software LTDA.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package demo.landing.app;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+@Listeners(Testing.class)
+public class PosterStoreTest {
+
+  private final String data = """
+  insert into MOVIE (MOVIE_ID, TITLE, SYNOPSYS, RUNTIME, RELEASE_DATE)
+  values (11, 'Title 1', 'Synopsys 1', 131, '2025-01-10')
+  ,      (12, 'Title 2', 'Synopsys 2', 150, '2025-01-20')
+  ,      (13, 'Title 3', 'Synopsys 3', 100, '2025-01-30');
+
+  insert into MOVIE_POSTER (MOVIE_ID, DATA)
+  values (11, X'0102030405')
+  ,      (12, X'0a0b0c');
+  """;
+
+  @Test
+  public void testCase01() throws IOException {
+    final Path file;
+    file = Files.createTempFile("posters", ".dat");
+
+    try {
+      Testing.rollback(trx -> {
+        Testing.load(trx, data);
+
+        final PosterStore store;
+
+        try {
+          store = PosterStore.export(trx, file);
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+
+        assertEquals(bytes(store.get(11)), new byte[] {1, 2, 3, 4, 5});
+        assertEquals(bytes(store.get(12)), new byte[] {10, 11, 12});
+        assertTrue(store.get(13).isEmpty());
+      });
+
+      // the file can be reopened
+      final PosterStore store;
+      store = PosterStore.open(file);
+
+      assertEquals(bytes(store.get(12)), new byte[] {10, 11, 12});
+
+      // each call copies the poster out of the mapping
+      bytes(store.get(12))[0] = 0;
+
+      assertEquals(bytes(store.get(12)), new byte[] {10, 11, 12});
+
+      // the entity tag is the one computed on export
+      assertEquals(store.get(12).orElseThrow().etag(), "\"" + AppCtx.hash(new byte[] {10, 11, 12}) + "\"");
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  private byte[] bytes(Optional<PosterModel> maybe) {
+    final PosterModel poster;
+    poster = maybe.orElseThrow();
+
+    return poster.data();
+  }
+
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2024-2026 Objectos Software LTDA.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package demo.landing.app;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+@Listeners(Testing.class)
+public class PosterTest {
+
+  @Test(description = "Range: absent, invalid or not supported")
+  public void range01() {
+    assertNull(Poster.Range.parse(null, 1000));
+    assertNull(Poster.Range.parse("items=0-10", 1000));
+    assertNull(Poster.Range.parse("bytes=abc", 1000));
+    assertNull(Poster.Range.parse("bytes=0-10,20-30", 1000));
+    assertNull(Poster.Range.parse("bytes=10-5", 1000));
+    assertNull(Poster.Range.parse("bytes=-", 1000));
+  }
+
+  @Test(description = "Range: first-last")
+  public void range02() {
+    assertEquals(Poster.Range.parse("bytes=0-99", 1000), new Poster.Range(0, 100));
+    assertEquals(Poster.Range.parse("bytes=100-199", 1000), new Poster.Range(100, 100));
+    assertEquals(Poster.Range.parse("bytes=900-5000", 1000), new Poster.Range(900, 100));
+    assertEquals(Poster.Range.parse("bytes=999-999", 1000), new Poster.Range(999, 1));
+  }
+
+  @Test(description = "Range: first-")
+  public void range03() {
+    assertEquals(Poster.Range.parse("bytes=0-", 1000), new Poster.Range(0, 1000));
+    assertEquals(Poster.Range.parse("bytes=600-", 1000), new Poster.Range(600, 400));
+  }
+
+  @Test(description = "Range: -suffix")
+  public void range04() {
+    assertEquals(Poster.Range.parse("bytes=-100", 1000), new Poster.Range(900, 100));
+    assertEquals(Poster.Range.parse("bytes=-5000", 1000), new Poster.Range(0, 1000));
+  }
+
+  @Test(description = "Range: unsatisfiable")
+  public void range05() {
+    assertSame(Poster.Range.parse("bytes=1000-", 1000), Poster.Range.UNSATISFIABLE);
+    assertSame(Poster.Range.parse("bytes=2000-3000", 1000), Poster.Range.UNSATISFIABLE);
+    assertSame(Poster.Range.parse("bytes=-0", 1000), Poster.Range.UNSATISFIABLE);
+  }
+
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (C) 2024-2026 Objectos Software LTDA.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package demo.landing.app;
+
+import objectos.way.Note;
+import objectos.way.Sql;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+/// Mean latency of a short transaction on a connection bound to the schema
+/// versus one issuing a `set schema` statement first.
+///
+/// A benchmark: excluded from the suite, the results are sent as notes.
+@Listeners(Testing.class)
+public class SchemaBindingTestLatency {
+
+  private static final Note.Long1 SET_SCHEMA = Note.Long1.create(SchemaBindingTestLatency.class, "set schema (ns/trx)", Note.INFO);
+
+  private static final Note.Long1 BOUND = Note.Long1.create(SchemaBindingTestLatency.class, "bound (ns/trx)", Note.INFO);
+
+  private static final int WARMUP = 200;
+
+  private static final int ROUNDS = 2_000;
+
+  @Test(groups = "benchmark")
+  public void testCase01() {
+    run(true, WARMUP);
+    run(false, WARMUP);
+
+    final long before;
+    before = run(true, ROUNDS);
+
+    final long after;
+    after = run(false, ROUNDS);
+
+    final Note.Sink noteSink;
+    noteSink = Testing.INJECTOR.getInstance(Note.Sink.class);
+
+    noteSink.send(SET_SCHEMA, before / ROUNDS);
+
+    noteSink.send(BOUND, after / ROUNDS);
+  }
+
+  private long run(boolean setSchema, int rounds) {
+    final long startTime;
+    startTime = System.nanoTime();
+
+    for (int round = 0; round < rounds; round++) {
+      final Sql.Transaction trx;
+      trx = Testing.beginTrx();
+
+      try {
+        if (setSchema) {
+          trx.sql("set schema CINEMA");
+
+          trx.update();
+        }
+
+        // the number of rows depends on the tests run before
+        trx.sql("select count(*) from MOVIE");
+
+        trx.querySingle((rs, idx) -> rs.getInt(idx++));
+      } finally {
+        Sql.rollbackAndClose(trx);
+      }
+    }
+
+    return System.nanoTime() - startTime;
+  }
+
+}
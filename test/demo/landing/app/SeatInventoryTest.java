@@ -0,0 +1,171 @@
+/*
+ * Copyright (C) 2024-2026 Objectos Software LTDA.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package demo.landing.app;
+
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+@Listeners(Testing.class)
+public class SeatInventoryTest {
+
+  private final String data = """
+  insert into MOVIE (MOVIE_ID, TITLE, SYNOPSYS, RUNTIME, RELEASE_DATE)
+  values (11, 'Title 1', 'Synopsys 1', 131, '2025-01-10');
+
+  insert into SCREEN (SCREEN_ID, NAME, SEATING_CAPACITY)
+  values (31, 'Screen 1', 40);
+
+  insert into SCREENING (SCREENING_ID, MOVIE_ID, SCREEN_ID)
+  values (41, 11, 31);
+
+  insert into SHOW (SHOW_ID, SCREENING_ID, SHOWDATE, SHOWTIME, SEAT_PRICE)
+  values (61, 41, '2025-01-25', '13:00:00', 9.99);
+
+  insert into SEAT (SEAT_ID, SCREEN_ID, SEAT_ROW, SEAT_COL, GRID_Y, GRID_X)
+  values (101, 31, 'A', 1, 4, 4)
+  ,      (102, 31, 'A', 2, 4, 5)
+  ,      (103, 31, 'B', 1, 6, 2)
+  ,      (104, 31, 'B', 2, 6, 3);
+
+  insert into RESERVATION (RESERVATION_ID, SHOW_ID)
+  values (901, 61)
+  ,      (902, 61);
+  """;
+
+  @Test(description = "conflicting claims are rejected")
+  public void testCase01() {
+    Testing.rollback(trx -> {
+      Testing.load(trx, data);
+
+      final SeatMap map;
+      map = AppCatalog.load(trx, 0L).seatMap(31);
+
+      final SeatInventory inventory;
+      inventory = new SeatInventory();
+
+      assertTrue(inventory.claim(trx, map, 61, 901, new int[] {101, 102}));
+      assertFalse(inventory.claim(trx, map, 61, 902, new int[] {102, 103}));
+      assertTrue(inventory.claim(trx, map, 61, 902, new int[] {103, 104}));
+    });
+  }
+
+  @Test(description = "a claim replaces the previous claim of the same reservation")
+  public void testCase02() {
+    Testing.rollback(trx -> {
+      Testing.load(trx, data);
+
+      final SeatMap map;
+      map = AppCatalog.load(trx, 0L).seatMap(31);
+
+      final SeatInventory inventory;
+      inventory = new SeatInventory();
+
+      assertTrue(inventory.claim(trx, map, 61, 901, new int[] {101, 102}));
+      assertTrue(inventory.claim(trx, map, 61, 901, new int[] {102, 103}));
+      assertTrue(inventory.claim(trx, map, 61, 902, new int[] {101}));
+      assertFalse(inventory.claim(trx, map, 61, 902, new int[] {103}));
+    });
+  }
+
+  @Test(description = "released seats may be claimed")
+  public void testCase03() {
+    Testing.rollback(trx -> {
+      Testing.load(trx, data);
+
+      final SeatMap map;
+      map = AppCatalog.load(trx, 0L).seatMap(31);
+
+      final SeatInventory inventory;
+      inventory = new SeatInventory();
+
+      assertTrue(inventory.claim(trx, map, 61, 901, new int[] {101, 102}));
+
+      inventory.release(61, 901);
+
+      assertTrue(inventory.claim(trx, map, 61, 902, new int[] {101, 102}));
+    });
+  }
+
+  @Test(description = "state is loaded from SELECTION")
+  public void testCase04() {
+    Testing.rollback(trx -> {
+      Testing.load(trx, data);
+
+      Testing.load(trx, """
+      insert into SELECTION (RESERVATION_ID, SEAT_ID, SHOW_ID)
+      values (901, 103, 61);
+      """);
+
+      final SeatMap map;
+      map = AppCatalog.load(trx, 0L).seatMap(31);
+
+      final SeatInventory inventory;
+      inventory = new SeatInventory();
+
+      assertFalse(inventory.claim(trx, map, 61, 902, new int[] {103}));
+      assertTrue(inventory.claim(trx, map, 61, 901, new int[] {103, 104}));
+    });
+  }
+
+  @Test(description = "seats not in the map are left for the database")
+  public void testCase05() {
+    Testing.rollback(trx -> {
+      Testing.load(trx, data);
+
+      final SeatMap map;
+      map = AppCatalog.load(trx, 0L).seatMap(31);
+
+      final SeatInventory inventory;
+      inventory = new SeatInventory();
+
+      assertTrue(inventory.claim(trx, map, 61, 901, new int[] {101}));
+      assertTrue(inventory.claim(trx, map, 61, 902, new int[] {101, 999}));
+    });
+  }
+
+  @Test(description = "state is loaded again after a clear")
+  public void testCase06() {
+    Testing.rollback(trx -> {
+      Testing.load(trx, data);
+
+      Testing.load(trx, """
+      insert into SELECTION (RESERVATION_ID, SEAT_ID, SHOW_ID)
+      values (901, 103, 61);
+      """);
+
+      final SeatMap map;
+      map = AppCatalog.load(trx, 0L).seatMap(31);
+
+      final SeatInventory inventory;
+      inventory = new SeatInventory();
+
+      assertFalse(inventory.claim(trx, map, 61, 902, new int[] {103}));
+
+      // e.g. the reservation expired
+      Testing.load(trx, """
+      delete from SELECTION where RESERVATION_ID = 901;
+      """);
+
+      inventory.clear();
+
+      assertTrue(inventory.claim(trx, map, 61, 902, new int[] {103}));
+    });
+  }
+
+}
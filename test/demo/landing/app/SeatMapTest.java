@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2024-2026 Objectos Software LTDA.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package demo.landing.app;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.util.Arrays;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+@Listeners(Testing.class)
+public class SeatMapTest {
+
+  @Test
+  public void testCase01() {
+    final int[] seatIds;
+    seatIds = new int[SeatMap.CELLS];
+
+    Arrays.fill(seatIds, -1);
+
+    seatIds[0] = 300;
+    seatIds[44] = 101;
+    seatIds[63] = 102;
+    seatIds[64] = 103;
+    seatIds[99] = 200;
+
+    final SeatMap map;
+    map = SeatMap.of(seatIds);
+
+    assertEquals(map.seats(), 5);
+
+    assertTrue(map.hasSeat(0));
+    assertTrue(map.hasSeat(44));
+    assertTrue(map.hasSeat(63));
+    assertTrue(map.hasSeat(64));
+    assertTrue(map.hasSeat(99));
+    assertFalse(map.hasSeat(1));
+    assertFalse(map.hasSeat(65));
+
+    assertEquals(map.seatId(44), 101);
+    assertEquals(map.seatId(1), -1);
+
+    assertEquals(map.cell(300), 0);
+    assertEquals(map.cell(101), 44);
+    assertEquals(map.cell(102), 63);
+    assertEquals(map.cell(103), 64);
+    assertEquals(map.cell(200), 99);
+    assertEquals(map.cell(999), -1);
+  }
+
+  @Test
+  public void empty() {
+    final SeatMap map;
+    map = SeatMap.EMPTY;
+
+    assertEquals(map.seats(), 0);
+
+    for (int cell = 0; cell < SeatMap.CELLS; cell++) {
+      assertFalse(map.hasSeat(cell));
+    }
+
+    assertEquals(map.cell(1), -1);
+  }
+
+}
@@ -63,7 +63,7 @@ public class SeatsDetailsTest {
       Testing.load(trx, data);
 
       final Optional<SeatsDetails> maybe;
-      maybe = SeatsDetails.byId(trx, 61);
+      maybe = AppCatalog.load(trx, 0L).seatsDetails(61);
 
       assertEquals(maybe.isPresent(), true);
 
@@ -16,6 +16,7 @@
 package demo.landing.app;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
 
 import objectos.http.Redirection;
 import objectos.http.Request;
@@ -656,4 +657,240 @@ public class SeatsFormTest {
     });
   }
 
-}
\ No newline at end of file
+  @Test(description = "first submission: creates the reservation")
+  public void testCase11() {
+    Testing.rollback(trx -> {
+      Testing.load(trx, data);
+
+      final Request req0;
+      req0 = Request.create(config -> {
+        config.attr(Sql.Transaction.class, trx);
+
+        config.method(RequestMethod.POST);
+
+        config.path("/demo.landing/seats/61");
+
+        config.formParam("screenId", 31);
+
+        config.formParam("seat", 103);
+      });
+
+      assertEquals(
+          Testing.handle(req0),
+
+          Redirection.seeOther("/demo.landing/confirm?reservationId=1")
+      );
+
+      final Request req1;
+      req1 = Request.create(config -> {
+        config.attr(Sql.Transaction.class, trx);
+
+        config.method(RequestMethod.GET);
+
+        config.path("/demo.landing/confirm");
+
+        config.queryParam("reservationId", 1);
+      });
+
+      assertEquals(
+          Testing.testable(req1),
+
+          """
+          back-link: /demo.landing/seats/61?reservationId=1
+
+          # Order #1
+
+          title: Title 1
+          date: Sat 25/Jan
+          time: 13:00
+          screen: Screen 1
+
+          ## Order Details
+
+          B1    | $9.99
+          Total | $9.99
+          """
+      );
+    });
+  }
+
+  @Test(description = "first submission: non-existing show")
+  public void testCase12() {
+    Testing.rollback(trx -> {
+      Testing.load(trx, data);
+
+      final Request req;
+      req = Request.create(config -> {
+        config.attr(Sql.Transaction.class, trx);
+
+        config.method(RequestMethod.POST);
+
+        config.path("/demo.landing/seats/4444");
+
+        config.formParam("screenId", 31);
+
+        config.formParam("seat", 103);
+      });
+
+      assertEquals(
+          Testing.handle(req),
+
+          Status.BAD_REQUEST
+      );
+    });
+  }
+
+  @Test(description = "seats claimed by another reservation: rejected before the database")
+  public void testCase13() {
+    Testing.rollback(trx -> {
+      Testing.load(trx, data);
+
+      Testing.load(trx, """
+      insert into RESERVATION (RESERVATION_ID, SHOW_ID)
+      values (901, 61)
+      ,      (902, 61);
+      """);
+
+      final SeatMap map;
+      map = AppCatalog.load(trx, 0L).seatMap(31);
+
+      final SeatInventory inventory;
+      inventory = new SeatInventory();
+
+      assertTrue(inventory.claim(trx, map, 61, 902, new int[] {103}));
+
+      final Request req;
+      req = Request.create(config -> {
+        config.attr(Sql.Transaction.class, trx);
+
+        config.attr(SeatInventory.class, inventory);
+
+        config.method(RequestMethod.POST);
+
+        config.path("/demo.landing/seats/61");
+
+        config.queryParam("reservationId", 901);
+
+        config.formParam("screenId", 31);
+
+        config.formParam("seat", 103);
+      });
+
+      assertEquals(
+          Testing.handle(req),
+
+          Redirection.seeOther("/demo.landing/seats/196669?reservationId=901")
+      );
+
+      trx.sql("select count(*) from SELECTION where RESERVATION_ID = 901");
+
+      final Integer count;
+      count = trx.querySingle((rs, idx) -> rs.getInt(idx++));
+
+      assertEquals(count.intValue(), 0);
+
+      // the claim of the other reservation is kept
+      assertTrue(inventory.claim(trx, map, 61, 902, new int[] {103, 104}));
+    });
+  }
+
+  @Test(description = "a selection rejected by the database releases its claim")
+  public void testCase14() {
+    Testing.rollback(trx -> {
+      Testing.load(trx, data);
+
+      Testing.load(trx, """
+      insert into RESERVATION (RESERVATION_ID, SHOW_ID, TICKET_TIME)
+      values (901, 61, '2025-01-25 11:00');
+
+      insert into RESERVATION (RESERVATION_ID, SHOW_ID)
+      values (902, 61);
+      """);
+
+      final SeatMap map;
+      map = AppCatalog.load(trx, 0L).seatMap(31);
+
+      final SeatInventory inventory;
+      inventory = new SeatInventory();
+
+      final Request req;
+      req = Request.create(config -> {
+        config.attr(Sql.Transaction.class, trx);
+
+        config.attr(SeatInventory.class, inventory);
+
+        config.method(RequestMethod.POST);
+
+        config.path("/demo.landing/seats/61");
+
+        config.queryParam("reservationId", 901);
+
+        config.formParam("screenId", 31);
+
+        config.formParam("seat", 105);
+      });
+
+      // sold ticket
+      assertEquals(
+          Testing.handle(req),
+
+          Status.BAD_REQUEST
+      );
+
+      assertTrue(inventory.claim(trx, map, 61, 902, new int[] {105}));
+    });
+  }
+
+  @Test(description = "reservation of a different show of the same screen")
+  public void testCase15() {
+    Testing.rollback(trx -> {
+      Testing.load(trx, data);
+
+      Testing.load(trx, """
+      insert into RESERVATION (RESERVATION_ID, SHOW_ID)
+      values (901, 61)
+      ,      (902, 62);
+      """);
+
+      final SeatMap map;
+      map = AppCatalog.load(trx, 0L).seatMap(31);
+
+      final SeatInventory inventory;
+      inventory = new SeatInventory();
+
+      final Request req;
+      req = Request.create(config -> {
+        config.attr(Sql.Transaction.class, trx);
+
+        config.attr(SeatInventory.class, inventory);
+
+        config.method(RequestMethod.POST);
+
+        config.path("/demo.landing/seats/62");
+
+        config.queryParam("reservationId", 901);
+
+        config.formParam("screenId", 31);
+
+        config.formParam("seat", 103);
+      });
+
+      assertEquals(
+          Testing.handle(req),
+
+          Status.BAD_REQUEST
+      );
+
+      trx.sql("select count(*) from SELECTION where RESERVATION_ID = 901");
+
+      final Integer count;
+      count = trx.querySingle((rs, idx) -> rs.getInt(idx++));
+
+      assertEquals(count.intValue(), 0);
+
+      // no claim is left in the submitted show
+      assertTrue(inventory.claim(trx, map, 62, 902, new int[] {103}));
+    });
+  }
+
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright (C) 2024-2026 Objectos Software LTDA.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package demo.landing.app;
+
+import static org.testng.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import objectos.http.Redirection;
+import objectos.http.Request;
+import objectos.http.RequestMethod;
+import objectos.http.Result;
+import objectos.way.Note;
+import objectos.way.Sql;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+/// Concurrent seat selections for a single show, with and without the seat
+/// locks. Every transaction is rolled back, so that all of the selections
+/// compete for the same two seats: any outcome other than a booking is caused
+/// by contention.
+///
+/// A benchmark: excluded from the suite, the results are sent as notes.
+@Listeners(Testing.class)
+public class SeatsFormTestContention {
+
+  private static final Note.Ref1<Stats> BEFORE = Note.Ref1.create(SeatsFormTestContention.class, "Without seat locks", Note.INFO);
+
+  private static final Note.Ref1<Stats> AFTER = Note.Ref1.create(SeatsFormTestContention.class, "With seat locks", Note.INFO);
+
+  private static final int THREADS = 8;
+
+  private static final int ROUNDS = 25;
+
+  private static final int TOTAL = THREADS * ROUNDS;
+
+  private record Stats(int booked, int rejected, int aborted, long nanos) {
+
+    final double throughput() {
+      return TOTAL / (nanos / 1_000_000_000d);
+    }
+
+    final double abortRate() {
+      return (double) (rejected + aborted) / TOTAL;
+    }
+
+    @Override
+    public final String toString() {
+      return String.format("%.1f req/s, abort rate %.1f%%", throughput(), abortRate() * 100);
+    }
+
+  }
+
+  @BeforeClass(groups = "benchmark")
+  public void beforeClass() {
+    Testing.commit("""
+    insert into MOVIE (MOVIE_ID, TITLE, SYNOPSYS, RUNTIME, RELEASE_DATE)
+    values (2011, 'Title 1', 'Synopsys 1', 131, '2025-01-10');
+
+    insert into SCREEN (SCREEN_ID, NAME, SEATING_CAPACITY)
+    values (2031, 'Screen 1', 40);
+
+    insert into SCREENING (SCREENING_ID, MOVIE_ID, SCREEN_ID)
+    values (2041, 2011, 2031);
+
+    insert into SHOW (SHOW_ID, SCREENING_ID, SHOWDATE, SHOWTIME, SEAT_PRICE)
+    values (2061, 2041, '2025-01-25', '13:00:00', 9.99);
+
+    insert into SEAT (SEAT_ID, SCREEN_ID, SEAT_ROW, SEAT_COL, GRID_Y, GRID_X)
+    values (20101, 2031, 'A', 1, 4, 4)
+    ,      (20102, 2031, 'A', 2, 4, 5);
+    """);
+  }
+
+  @AfterClass(groups = "benchmark", alwaysRun = true)
+  public void afterClass() {
+    // the other tests of this package expect empty tables
+    Testing.commit("""
+    delete from RESERVATION where SHOW_ID = 2061;
+    delete from SEAT where SCREEN_ID = 2031;
+    delete from SHOW where SHOW_ID = 2061;
+    delete from SCREENING where SCREENING_ID = 2041;
+    delete from SCREEN where SCREEN_ID = 2031;
+    delete from MOVIE where MOVIE_ID = 2011;
+    """);
+  }
+
+  @Test(groups = "benchmark")
+  public void testCase01() throws Exception {
+    final Stats before;
+    before = run(null, 1_000_000L);
+
+    final Stats after;
+    after = run(new SeatLocks(64), 2_000_000L);
+
+    final Note.Sink noteSink;
+    noteSink = Testing.INJECTOR.getInstance(Note.Sink.class);
+
+    noteSink.send(BEFORE, before);
+
+    noteSink.send(AFTER, after);
+
+    assertEquals(before.booked() + before.rejected() + before.aborted(), TOTAL);
+
+    // serialized selections never conflict
+    assertEquals(after.booked(), TOTAL);
+  }
+
+  private Stats run(SeatLocks locks, long firstReservation) throws Exception {
+    final AtomicInteger booked;
+    booked = new AtomicInteger();
+
+    final AtomicInteger rejected;
+    rejected = new AtomicInteger();
+
+    final AtomicInteger aborted;
+    aborted = new AtomicInteger();
+
+    final CountDownLatch start;
+    start = new CountDownLatch(1);
+
+    final ExecutorService executor;
+    executor = Executors.newFixedThreadPool(THREADS);
+
+    try {
+      final List<Future<?>> futures;
+      futures = new ArrayList<>(THREADS);
+
+      for (int thread = 0; thread < THREADS; thread++) {
+        final long base;
+        base = firstReservation + thread * ROUNDS;
+
+        futures.add(executor.submit(() -> {
+          start.await();
+
+          for (int round = 0; round < ROUNDS; round++) {
+            final long reservationId;
+            reservationId = base + round;
+
+            final ReentrantLock lock;
+            lock = locks != null ? locks.get(2061) : null;
+
+            if (lock != null) {
+              lock.lock();
+            }
+
+            try {
+              final Result result;
+              result = select(reservationId, 20101 + round % 2);
+
+              if (result.equals(Redirection.seeOther("/demo.landing/confirm?reservationId=" + reservationId))) {
+                booked.incrementAndGet();
+              } else {
+                rejected.incrementAndGet();
+              }
+            } catch (RuntimeException e) {
+              aborted.incrementAndGet();
+            } finally {
+              if (lock != null) {
+                lock.unlock();
+              }
+            }
+          }
+
+          return null;
+        }));
+      }
+
+      final long startTime;
+      startTime = System.nanoTime();
+
+      start.countDown();
+
+      for (Future<?> future : futures) {
+        future.get();
+      }
+
+      final long nanos;
+      nanos = System.nanoTime() - startTime;
+
+      return new Stats(booked.get(), rejected.get(), aborted.get(), nanos);
+    } finally {
+      executor.shutdown();
+
+      executor.awaitTermination(1, TimeUnit.MINUTES);
+    }
+  }
+
+  private Result select(long reservationId, int seatId) {
+    final Sql.Transaction trx;
+    trx = Testing.beginTrx();
+
+    try {
+      trx.sql("insert into RESERVATION (RESERVATION_ID, SHOW_ID) values (?, 2061)");
+
+      trx.param(reservationId);
+
+      trx.update();
+
+      final Request req;
+      req = Request.create(config -> {
+        config.attr(Sql.Transaction.class, trx);
+
+        config.method(RequestMethod.POST);
+
+        config.path("/demo.landing/seats/2061");
+
+        config.queryParam("reservationId", reservationId);
+
+        config.formParam("screenId", 2031);
+
+        config.formParam("seat", seatId);
+      });
+
+      return Testing.handle(req);
+    } finally {
+      Sql.rollbackAndClose(trx);
+    }
+  }
+
+}
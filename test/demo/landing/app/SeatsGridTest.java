@@ -17,6 +17,7 @@ package demo.landing.app;
 
 import static org.testng.Assert.assertEquals;
 
+import objectos.way.Sql;
 import org.testng.annotations.Listeners;
 import org.testng.annotations.Test;
 
@@ -65,7 +66,7 @@ public class SeatsGridTest {
       """);
 
       final SeatsGrid grid;
-      grid = SeatsGrid.query(trx, 901);
+      grid = query(trx, 901);
 
       assertEquals(
           grid.toString(),
@@ -105,7 +106,7 @@ public class SeatsGridTest {
       """);
 
       final SeatsGrid grid;
-      grid = SeatsGrid.query(trx, 901);
+      grid = query(trx, 901);
 
       assertEquals(
           grid.toString(),
@@ -146,7 +147,7 @@ public class SeatsGridTest {
       """);
 
       final SeatsGrid grid;
-      grid = SeatsGrid.query(trx, 901);
+      grid = query(trx, 901);
 
       assertEquals(
           grid.toString(),
@@ -188,7 +189,7 @@ public class SeatsGridTest {
       """);
 
       final SeatsGrid grid;
-      grid = SeatsGrid.query(trx, 901);
+      grid = query(trx, 901);
 
       assertEquals(
           grid.toString(),
@@ -230,7 +231,7 @@ public class SeatsGridTest {
       """);
 
       final SeatsGrid grid;
-      grid = SeatsGrid.query(trx, 901);
+      grid = query(trx, 901);
 
       assertEquals(
           grid.toString(),
@@ -256,4 +257,15 @@ public class SeatsGridTest {
     });
   }
 
+  // all reservations are for show 61 which is screened at screen 31
+  private SeatsGrid query(Sql.Transaction trx, long reservationId) {
+    final AppCatalog catalog;
+    catalog = AppCatalog.load(trx, 0L);
+
+    final SeatMap map;
+    map = catalog.seatMap(31);
+
+    return SeatsGrid.query(trx, map, 61, reservationId);
+  }
+
 }
\ No newline at end of file
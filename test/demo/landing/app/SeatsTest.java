@@ -77,7 +77,7 @@ public class SeatsTest {
           Testing.testable(req),
 
           """
-          back-link: /demo.landing/movie/11?reservationId=1
+          back-link: /demo.landing/movie/11
 
           # Show details
 
@@ -94,6 +94,31 @@ public class SeatsTest {
     });
   }
 
+  @Test(description = "does not create a reservation")
+  public void testCase03() {
+    Testing.rollback(trx -> {
+      Testing.load(trx, data);
+
+      final Request req;
+      req = Request.create(config -> {
+        config.attr(Sql.Transaction.class, trx);
+
+        config.method(RequestMethod.GET);
+
+        config.path("/demo.landing/seats/61");
+      });
+
+      Testing.handle(req);
+
+      trx.sql("select count(*) from RESERVATION");
+
+      final Integer count;
+      count = trx.querySingle((rs, idx) -> rs.getInt(idx++));
+
+      assertEquals(count.intValue(), 0);
+    });
+  }
+
   @Test(description = "non-existing id")
   public void testCase02() {
     Testing.rollback(trx -> {
@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2024-2026 Objectos Software LTDA.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package demo.landing.app;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+@Listeners(Testing.class)
+public class SourceModelTest {
+
+  @Test
+  public void value() {
+    final SourceModel home;
+    home = Source.Home;
+
+    final String value;
+    value = home.value();
+
+    assertTrue(value.startsWith("/*"));
+    assertTrue(value.contains("final class Home implements Handler"));
+
+    assertEquals(home.value(), value);
+  }
+
+  @Test
+  public void html() {
+    final SourceModel home;
+    home = Source.Home;
+
+    final String html;
+    html = home.html();
+
+    assertTrue(html.startsWith("<span data-line=\"1\">"));
+    assertTrue(html.contains("<span data-high=\"keyword\">final</span>"));
+
+    assertEquals(home.html(), html);
+  }
+
+  @Test(description = "entries are independent")
+  public void entries() {
+    final SourceModel last;
+    last = Source.UiShell;
+
+    assertTrue(last.value().contains("final class UiShell"));
+
+    assertTrue(Source.AppCtx.value().contains("final class AppCtx"));
+  }
+
+  @Test
+  public void inflate() {
+    final byte[] bytes;
+    bytes = "final class Home implements Handler".getBytes(StandardCharsets.UTF_8);
+
+    final byte[] compressed;
+    compressed = deflate(bytes);
+
+    assertEquals(SourceModel.inflate(compressed, bytes.length), "final class Home implements Handler");
+  }
+
+  @Test(description = "a truncated entry is rejected", expectedExceptions = IllegalStateException.class)
+  public void inflateTruncated() {
+    final byte[] bytes;
+    bytes = "final class Home implements Handler".repeat(64).getBytes(StandardCharsets.UTF_8);
+
+    final byte[] compressed;
+    compressed = deflate(bytes);
+
+    SourceModel.inflate(Arrays.copyOf(compressed, compressed.length / 2), bytes.length);
+  }
+
+  private byte[] deflate(byte[] bytes) {
+    final Deflater deflater;
+    deflater = new Deflater();
+
+    try {
+      deflater.setInput(bytes);
+
+      deflater.finish();
+
+      final byte[] buffer;
+      buffer = new byte[bytes.length + 64];
+
+      final int length;
+      length = deflater.deflate(buffer);
+
+      return Arrays.copyOf(buffer, length);
+    } finally {
+      deflater.end();
+    }
+  }
+
+}
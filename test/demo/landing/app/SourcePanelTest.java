@@ -0,0 +1,140 @@
+/*
+ * Copyright (C) 2024-2026 Objectos Software LTDA.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package demo.landing.app;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import objectos.http.HeaderName;
+import objectos.http.Request;
+import objectos.http.RequestMethod;
+import objectos.http.Response;
+import objectos.http.Result;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+@Listeners(Testing.class)
+public class SourcePanelTest {
+
+  @Test
+  public void testCase01() {
+    final Request req;
+    req = Request.create(config -> {
+      config.method(RequestMethod.GET);
+
+      config.path(Source.Home.href());
+    });
+
+    final Result result;
+    result = Testing.handle(req);
+
+    assertTrue(result instanceof Response);
+
+    final String text;
+    text = result.toTestableText();
+
+    assertTrue(
+        text.startsWith("""
+        200 OK
+        ETag: %s
+        Cache-Control: public, max-age=31536000, immutable
+        """.formatted(Source.Home.etag())),
+
+        text
+    );
+  }
+
+  @Test(description = "non-existing source file")
+  public void testCase02() {
+    final Request req;
+    req = Request.create(config -> {
+      config.method(RequestMethod.GET);
+
+      config.path("/demo.landing/source/0123456789abcdef");
+    });
+
+    assertEquals(
+        Testing.testable(req),
+
+        """
+        404 Not Found
+        text/html; charset=utf-8
+        # Something Went Wrong
+
+        """
+    );
+  }
+
+  @Test
+  public void testCase03() {
+    final SourceModel home;
+    home = Source.Home;
+
+    assertSame(Source.byHash(home.hash()), home);
+
+    assertEquals(home.href(), "/demo.landing/source/" + home.hash());
+    assertEquals(home.etag(), "\"" + home.hash() + "\"");
+  }
+
+  @Test(description = "If-None-Match handling")
+  public void testCase04() {
+    final String etag;
+    etag = Source.Home.etag();
+
+    assertFalse(AppCtx.ifNoneMatch(null, etag));
+    assertFalse(AppCtx.ifNoneMatch("\"0123456789abcdef\"", etag));
+
+    assertTrue(AppCtx.ifNoneMatch("*", etag));
+    assertTrue(AppCtx.ifNoneMatch(etag, etag));
+    assertTrue(AppCtx.ifNoneMatch("W/" + etag, etag));
+    assertTrue(AppCtx.ifNoneMatch("\"0123456789abcdef\", " + etag, etag));
+  }
+
+  @Test(description = "revalidation: 304 with the same headers")
+  public void testCase05() {
+    final String etag;
+    etag = Source.Home.etag();
+
+    final String notModified;
+    notModified = """
+    304 Not Modified
+    ETag: %s
+    Cache-Control: public, max-age=31536000, immutable
+    """.formatted(etag);
+
+    assertEquals(revalidate(etag), notModified);
+    assertEquals(revalidate("W/" + etag), notModified);
+    assertEquals(revalidate("*"), notModified);
+
+    assertTrue(revalidate("\"0123456789abcdef\"").startsWith("200 OK\n"));
+  }
+
+  private String revalidate(String ifNoneMatch) {
+    final Request req;
+    req = Request.create(config -> {
+      config.method(RequestMethod.GET);
+
+      config.path(Source.Home.href());
+
+      config.header(HeaderName.IF_NONE_MATCH, ifNoneMatch);
+    });
+
+    return Testing.testable(req);
+  }
+
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (C) 2024-2026 Objectos Software LTDA.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package demo.landing.app;
+
+import static org.testng.Assert.assertEquals;
+
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+@Listeners(Testing.class)
+public class StatementCacheTest {
+
+  @Test(description = "the sessions cache more statements than the H2 default")
+  public void testCase01() {
+    Testing.rollback(trx -> {
+      trx.sql("""
+      select SETTING_VALUE
+      from INFORMATION_SCHEMA.SETTINGS
+      where SETTING_NAME = 'QUERY_CACHE_SIZE'
+      """);
+
+      final String value;
+      value = trx.querySingle((rs, idx) -> rs.getString(idx++));
+
+      assertEquals(value, "64");
+    });
+  }
+
+}
@@ -23,7 +23,7 @@ public class Testing implements ISuiteListener {
     }
   }
 
-  private static Sql.Transaction beginTrx() {
+  static Sql.Transaction beginTrx() {
     final App.Injector injector;
     injector = Testing.INJECTOR;
 
@@ -33,10 +33,6 @@ public class Testing implements ISuiteListener {
     final Sql.Transaction trx;
     trx = db.beginTransaction(Sql.READ_COMMITED);
 
-    trx.sql("set schema CINEMA");
-
-    trx.update();
-
     return trx;
   }
 
@@ -82,10 +78,6 @@ public class Testing implements ISuiteListener {
     final Sql.Transaction trx;
     trx = db.beginTransaction(Sql.READ_COMMITED);
 
-    trx.sql("set schema CINEMA");
-
-    trx.update();
-
     try {
       test.accept(trx);
     } finally {
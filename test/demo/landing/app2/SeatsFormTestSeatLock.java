@@ -0,0 +1,186 @@
+/*
+ * Copyright (C) 2024-2026 Objectos Software LTDA.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package demo.landing.app2;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+
+import demo.landing.LandingDemo;
+import demo.landing.app.Testing;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import objectos.http.Handler;
+import objectos.http.Request;
+import objectos.http.RequestMethod;
+import objectos.http.Result;
+import objectos.http.Status;
+import objectos.way.Sql;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+/// Concurrent first submissions for the same seat through the routes of a
+/// demo instance not in testing mode: its transactions, admission and seat
+/// locks are the ones of production.
+@Listeners(Testing.class)
+public class SeatsFormTestSeatLock {
+
+  private static final int THREADS = 8;
+
+  private LandingDemo demo;
+
+  private Handler handler;
+
+  @BeforeClass
+  public void beforeClass() {
+    Testing.commit("""
+    insert into MOVIE (MOVIE_ID, TITLE, SYNOPSYS, RUNTIME, RELEASE_DATE)
+    values (3011, 'Title 1', 'Synopsys 1', 131, '2025-01-10');
+
+    insert into SCREEN (SCREEN_ID, NAME, SEATING_CAPACITY)
+    values (3031, 'Screen 1', 40);
+
+    insert into SCREENING (SCREENING_ID, MOVIE_ID, SCREEN_ID)
+    values (3041, 3011, 3031);
+
+    insert into SHOW (SHOW_ID, SCREENING_ID, SHOWDATE, SHOWTIME, SEAT_PRICE)
+    values (3061, 3041, '2025-01-25', '13:00:00', 9.99);
+
+    insert into SEAT (SEAT_ID, SCREEN_ID, SEAT_ROW, SEAT_COL, GRID_Y, GRID_X)
+    values (30101, 3031, 'A', 1, 4, 4)
+    ,      (30102, 3031, 'A', 2, 4, 5);
+    """);
+
+    final Sql.Database database;
+    database = Testing.INJECTOR.getInstance(Sql.Database.class);
+
+    final HexFormat hexFormat;
+    hexFormat = HexFormat.of();
+
+    final byte[] codecKey;
+    codecKey = hexFormat.parseHex("7b9e2a4f6c8d1e3b5a0f7d9c4e2b6a8f1d3c5e7b9a0f2d4c6e8b1a3f5c7d9e0b");
+
+    // the catalog is loaded on creation: after the data above
+    demo = LandingDemo.create(opts -> {
+      opts.codecKey(codecKey);
+
+      opts.database(database);
+
+      opts.databaseAdmission(THREADS, Duration.ofSeconds(10));
+
+      opts.schemaBound();
+    });
+
+    handler = Handler.create(demo::publicRoutes);
+  }
+
+  @AfterClass(alwaysRun = true)
+  public void afterClass() {
+    if (demo != null) {
+      demo.close();
+    }
+
+    Testing.commit("""
+    delete from RESERVATION where SHOW_ID = 3061;
+    delete from SEAT where SCREEN_ID = 3031;
+    delete from SHOW where SHOW_ID = 3061;
+    delete from SCREENING where SCREENING_ID = 3041;
+    delete from SCREEN where SCREEN_ID = 3031;
+    delete from MOVIE where MOVIE_ID = 3011;
+    """);
+  }
+
+  @Test(description = "a single selection of the seat succeeds, the others are answered without errors")
+  public void testCase01() throws Exception {
+    final CountDownLatch start;
+    start = new CountDownLatch(1);
+
+    final ExecutorService executor;
+    executor = Executors.newFixedThreadPool(THREADS);
+
+    final List<Result> results;
+    results = new ArrayList<>(THREADS);
+
+    try {
+      final List<Future<Result>> futures;
+      futures = new ArrayList<>(THREADS);
+
+      for (int thread = 0; thread < THREADS; thread++) {
+        futures.add(executor.submit(() -> {
+          start.await();
+
+          final Request req;
+          req = Request.create(config -> {
+            config.method(RequestMethod.POST);
+
+            config.path("/demo.landing/seats/3061");
+
+            config.formParam("screenId", 3031);
+
+            config.formParam("seat", 30101);
+          });
+
+          return handler.handle(req);
+        }));
+      }
+
+      start.countDown();
+
+      for (Future<Result> future : futures) {
+        // rethrows the exception of a failed selection, if any
+        results.add(future.get());
+      }
+    } finally {
+      executor.shutdown();
+
+      executor.awaitTermination(1, TimeUnit.MINUTES);
+    }
+
+    for (Result result : results) {
+      assertNotEquals(result, Status.SERVICE_UNAVAILABLE);
+    }
+
+    Testing.rollback(trx -> {
+      trx.sql("""
+      select count(*) from SELECTION where SHOW_ID = 3061
+      """);
+
+      final Integer count;
+      count = trx.querySingle((rs, idx) -> rs.getInt(idx++));
+
+      assertEquals(count.intValue(), 1);
+
+      trx.sql("""
+      select count(*) from RESERVATION where SHOW_ID = 3061
+      """);
+
+      final Integer reservations;
+      reservations = trx.querySingle((rs, idx) -> rs.getInt(idx++));
+
+      // every first submission created its reservation
+      assertEquals(reservations.intValue(), THREADS);
+    });
+  }
+
+}